@@ -578,6 +578,71 @@ public interface SettingsManager {
      */
     long getRecalcTaskTimeout();
 
+    /**
+     * Amount of threads used for decoding unloaded chunks when calculating islands.
+     * If set to 0 or below, chunks are decoded by a single thread.
+     * Config-path: recalc-threads
+     */
+    int getRecalcThreads();
+
+    /**
+     * Maximum size of the cache of calculated chunks, in megabytes.
+     * If set to 0 or below, calculated chunks are not cached.
+     * Config-path: recalc-cache.size
+     */
+    long getRecalcCacheSize();
+
+    /**
+     * Whether the cache of calculated chunks should be saved when the server stops.
+     * Config-path: recalc-cache.save
+     */
+    boolean isRecalcCacheSave();
+
+    /**
+     * Time in milliseconds that can be spent every tick on starting calculations of islands
+     * when calculating all islands.
+     * Config-path: recalc-scheduler.tick-budget
+     */
+    long getRecalcTickBudget();
+
+    /**
+     * Maximum amount of islands that can be calculated at once when calculating all islands.
+     * Config-path: recalc-scheduler.max-islands
+     */
+    int getRecalcMaxIslands();
+
+    /**
+     * Minimum TPS required for starting calculations of islands when calculating all islands.
+     * If set to 0 or below, calculations are started regardless of the TPS.
+     * Config-path: recalc-scheduler.min-tps
+     */
+    double getRecalcMinTps();
+
+    /**
+     * Interval in seconds between progress messages of calculating all islands.
+     * If set to 0 or below, no progress messages are sent.
+     * Config-path: recalc-scheduler.progress-interval
+     */
+    long getRecalcProgressInterval();
+
+    /**
+     * Whether calculations of islands should only scan chunks that were modified since the last calculation.
+     * Config-path: recalc-incremental.enabled
+     */
+    boolean isRecalcIncremental();
+
+    /**
+     * Interval in minutes between full calculations of an island when incremental calculations are enabled.
+     * Config-path: recalc-incremental.full-recalc-interval
+     */
+    long getRecalcFullInterval();
+
+    /**
+     * The maximum amount of islands that keep the results of their chunks when incremental calculations are enabled.
+     * Config-path: recalc-incremental.max-islands
+     */
+    int getRecalcIncrementalMaxIslands();
+
     /**
      * Whether to detect the player's language automatically when he first joins the server.
      * Config-path: auto-language-detection
@@ -704,6 +769,86 @@ public interface SettingsManager {
          */
         long getMaxLifetime();
 
+        /**
+         * Whether updates of rows should be merged and written to the database in the background.
+         * Config-path: database.write-behind.enabled
+         */
+        boolean isWriteBehind();
+
+        /**
+         * The interval between checks of pending writes, in ticks.
+         * Config-path: database.write-behind.flush-interval
+         */
+        long getWriteBehindFlushInterval();
+
+        /**
+         * The maximum time a pending write can wait before it is written to the database, in milliseconds.
+         * Config-path: database.write-behind.max-latency
+         */
+        long getWriteBehindMaxLatency();
+
+        /**
+         * Whether pending database operations should be kept in a local journal, so they are not lost on crashes.
+         * Config-path: database.journal.enabled
+         */
+        boolean isJournal();
+
+        /**
+         * The interval between writes of the local journal to the disk, in ticks.
+         * Config-path: database.journal.sync-interval
+         */
+        long getJournalSyncInterval();
+
+        /**
+         * The maximum size of the local journal, in megabytes.
+         * Config-path: database.journal.max-size
+         */
+        long getJournalMaxSize();
+
+        /**
+         * The amount of threads used to load tables from the database on startup.
+         * Used for MySQL only.
+         * Config-path: database.loading-threads
+         */
+        int getLoadingThreads();
+
+        /**
+         * The amount of threads used to save data to the database.
+         * Used for MySQL only.
+         * Config-path: database.data-threads
+         */
+        int getDataThreads();
+
+        /**
+         * The interval between logs of the database stats, in minutes.
+         * Config-path: database.stats-log-interval
+         */
+        long getStatsLogInterval();
+
+        /**
+         * Whether unique visitors and chests of islands should be loaded only when needed.
+         * Config-path: database.lazy-islands.enabled
+         */
+        boolean isLazyIslands();
+
+        /**
+         * The time islands can keep their lazily loaded data without accessing it, in minutes.
+         * Config-path: database.lazy-islands.idle-time
+         */
+        long getLazyIslandsIdleTime();
+
+        /**
+         * Whether offline players should be created only when they are requested for the first time.
+         * Config-path: database.lazy-players.enabled
+         */
+        boolean isLazyPlayers();
+
+        /**
+         * The amount of requested offline players that are kept in memory.
+         * Config-path: database.lazy-players.cache-size
+         */
+        int getLazyPlayersCacheSize();
+
     }
 
     interface DefaultValues {
@@ -193,6 +193,18 @@ public interface GridManager extends IDatabaseBridgeHolder {
     @Nullable
     Island getIslandAt(@Nullable Location location);
 
+    /**
+     * Get an island at an exact block position in the world.
+     * Unlike {@link #getIslandAt(Location)}, this method does not require a location object.
+     *
+     * @param world  The world of the block.
+     * @param blockX The x-coords of the block.
+     * @param blockZ The z-coords of the block.
+     * @return The island at that position. May be null.
+     */
+    @Nullable
+    Island getIslandAt(World world, int blockX, int blockZ);
+
     /**
      * Get an island from a chunk.
      *
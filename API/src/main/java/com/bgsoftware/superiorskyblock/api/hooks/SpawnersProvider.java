@@ -5,6 +5,10 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import org.bukkit.Location;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public interface SpawnersProvider {
 
     /**
@@ -16,6 +20,24 @@ public interface SpawnersProvider {
      */
     Pair<Integer, String> getSpawner(Location location);
 
+    /**
+     * Get information about spawners in multiple locations at once.
+     * This method is called async first for all the spawners of an island, and the locations that their
+     * string in the pair is null will be passed to this method synced later.
+     * Providers that can look up multiple spawners cheaper than one by one should override this method.
+     * By default, {@link #getSpawner(Location)} is called for every location.
+     *
+     * @param locations The locations to check.
+     * @return Map of the information about the spawners, as returned by {@link #getSpawner(Location)},
+     * for every location.
+     */
+    default Map<Location, Pair<Integer, String>> getSpawners(Collection<Location> locations) {
+        Map<Location, Pair<Integer, String>> spawners = new HashMap<>();
+        for (Location location : locations)
+            spawners.put(location, getSpawner(location));
+        return spawners;
+    }
+
     /**
      * Get the spawner type from an item.
      * May return null in-case the spawner has no entity inside it.
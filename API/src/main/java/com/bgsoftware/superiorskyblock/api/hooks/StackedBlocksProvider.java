@@ -1,10 +1,12 @@
 package com.bgsoftware.superiorskyblock.api.hooks;
 
+import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import org.bukkit.World;
 
 import java.util.Collection;
+import java.util.LinkedList;
 
 public interface StackedBlocksProvider {
 
@@ -20,4 +22,31 @@ public interface StackedBlocksProvider {
      */
     Collection<Pair<Key, Integer>> getBlocks(World world, int chunkX, int chunkZ);
 
+    /**
+     * Get all stacked blocks in multiple chunks of a world at once.
+     * This method is called async first for all the chunks of an island in the world, and if it returns null,
+     * it will be called synced later.
+     * Providers that can look up multiple chunks cheaper than one by one should override this method.
+     * By default, {@link #getBlocks(World, int, int)} is called for every chunk.
+     *
+     * @param world  The world of the chunks.
+     * @param chunks The chunks to check. The key of each pair is the x-coords of the chunk,
+     *               and the value of the pair is the z-coords of the chunk.
+     * @return Collection of pairs representing the stacked blocks in all the chunks, in the same format
+     * as {@link #getBlocks(World, int, int)}, or null if the blocks cannot be looked up from the current thread.
+     */
+    @Nullable
+    default Collection<Pair<Key, Integer>> getBlocks(World world, Collection<Pair<Integer, Integer>> chunks) {
+        Collection<Pair<Key, Integer>> blocks = new LinkedList<>();
+
+        for (Pair<Integer, Integer> chunk : chunks) {
+            Collection<Pair<Key, Integer>> chunkBlocks = getBlocks(world, chunk.getKey(), chunk.getValue());
+            if (chunkBlocks == null)
+                return null;
+            blocks.addAll(chunkBlocks);
+        }
+
+        return blocks;
+    }
+
 }
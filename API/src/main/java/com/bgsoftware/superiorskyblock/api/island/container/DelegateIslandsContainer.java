@@ -4,6 +4,7 @@ import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import java.util.List;
 import java.util.UUID;
@@ -61,6 +62,12 @@ public class DelegateIslandsContainer implements IslandsContainer {
         return this.handle.getIslandAt(location);
     }
 
+    @Nullable
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        return this.handle.getIslandAt(world, blockX, blockZ);
+    }
+
     @Override
     @Deprecated
     public void transferIsland(UUID oldLeader, UUID newLeader) {
@@ -6,6 +6,7 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import java.util.List;
 import java.util.UUID;
@@ -76,6 +77,18 @@ public interface IslandsContainer {
     @Nullable
     Island getIslandAt(Location location);
 
+    /**
+     * Get an island at a block position.
+     *
+     * @param world  The world of the block.
+     * @param blockX The x-coords of the block.
+     * @param blockZ The z-coords of the block.
+     */
+    @Nullable
+    default Island getIslandAt(World world, int blockX, int blockZ) {
+        return getIslandAt(new Location(world, blockX, 0, blockZ));
+    }
+
     /**
      * Transfer an island from a player to another one.
      * Warning: If you don't know what you're doing, do not use this method.
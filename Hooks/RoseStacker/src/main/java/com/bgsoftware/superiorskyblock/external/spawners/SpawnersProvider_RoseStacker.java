@@ -21,6 +21,10 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public class SpawnersProvider_RoseStacker implements SpawnersProvider_AutoDetect {
 
     private static final ReflectMethod<EntityType> GET_STACKED_ITEM_ENTITY_TYPE =
@@ -52,6 +56,28 @@ public class SpawnersProvider_RoseStacker implements SpawnersProvider_AutoDetect
         return new Pair<>(blockCount, null);
     }
 
+    @Override
+    public Map<Location, Pair<Integer, String>> getSpawners(Collection<Location> locations) {
+        Preconditions.checkNotNull(locations, "locations parameter cannot be null.");
+
+        Map<Location, Pair<Integer, String>> spawners = new HashMap<>();
+
+        if (!Bukkit.isPrimaryThread()) {
+            // Spawners cannot be looked up async, therefore all of them are looked up synced later.
+            Pair<Integer, String> spawnerInfo = new Pair<>(-1, null);
+            for (Location location : locations)
+                spawners.put(location, spawnerInfo);
+        } else {
+            RoseStackerAPI roseStackerAPI = RoseStackerAPI.getInstance();
+            for (Location location : locations) {
+                StackedSpawner stackedSpawner = roseStackerAPI.getStackedSpawner(location.getBlock());
+                spawners.put(location, new Pair<>(stackedSpawner == null ? 1 : stackedSpawner.getStackSize(), null));
+            }
+        }
+
+        return spawners;
+    }
+
     @Override
     public String getSpawnerType(ItemStack itemStack) {
         Preconditions.checkNotNull(itemStack, "itemStack parameter cannot be null.");
@@ -19,6 +19,7 @@ import dev.rosewood.rosestacker.stack.StackedBlock;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -26,7 +27,11 @@ import org.bukkit.event.player.PlayerInteractEvent;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class StackedBlocksProvider_RoseStacker implements StackedBlocksProvider_AutoDetect {
@@ -70,6 +75,40 @@ public class StackedBlocksProvider_RoseStacker implements StackedBlocksProvider_
         return blockKeys.entrySet().stream().map(entry -> new Pair<>(entry.getKey(), entry.getValue())).collect(Collectors.toSet());
     }
 
+    @Override
+    public Collection<Pair<Key, Integer>> getBlocks(World world, Collection<Pair<Integer, Integer>> chunks) {
+        Preconditions.checkNotNull(world, "world parameter cannot be null.");
+        Preconditions.checkNotNull(chunks, "chunks parameter cannot be null.");
+
+        if (!Bukkit.isPrimaryThread())
+            return null;
+
+        Set<Long> chunkPairs = new HashSet<>();
+        for (Pair<Integer, Integer> chunk : chunks)
+            chunkPairs.add(ChunkPosition.asPair(chunk.getKey(), chunk.getValue()));
+
+        // All the stacked blocks are iterated once for all the chunks, instead of once for every chunk.
+        // Amounts are grouped by chunk and block type, the same as getBlocks does for a single chunk.
+        Map<Long, Map<Key, Integer>> chunksBlockKeys = new HashMap<>();
+        for (Map.Entry<Block, StackedBlock> entry : RoseStackerAPI.getInstance().getStackedBlocks().entrySet()) {
+            Block block = entry.getKey();
+            if (!block.getWorld().getName().equals(world.getName()))
+                continue;
+
+            long chunkPair = ChunkPosition.asPair(block.getX() >> 4, block.getZ() >> 4);
+            if (!chunkPairs.contains(chunkPair))
+                continue;
+
+            chunksBlockKeys.computeIfAbsent(chunkPair, unused -> new HashMap<>())
+                    .merge(Key.of(block), entry.getValue().getStackSize(), Integer::sum);
+        }
+
+        List<Pair<Key, Integer>> blocks = new LinkedList<>();
+        chunksBlockKeys.values().forEach(blockKeys -> blockKeys.forEach((blockKey, amount) ->
+                blocks.add(new Pair<>(blockKey, amount))));
+        return blocks;
+    }
+
     private class StackerListener implements Listener {
 
         @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
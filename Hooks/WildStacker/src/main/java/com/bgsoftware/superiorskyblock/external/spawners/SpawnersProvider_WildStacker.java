@@ -26,6 +26,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 public class SpawnersProvider_WildStacker implements SpawnersProviderItemMetaSpawnerType, SpawnersSnapshotProvider {
@@ -51,6 +53,36 @@ public class SpawnersProvider_WildStacker implements SpawnersProviderItemMetaSpa
         return new Pair<>(entry.getKey(), entry.getValue() + "");
     }
 
+    @Override
+    public Map<Location, Pair<Integer, String>> getSpawners(Collection<Location> locations) {
+        Map<Location, Pair<Integer, String>> spawners = new HashMap<>();
+
+        World lastWorld = null;
+        int lastChunkX = 0;
+        int lastChunkZ = 0;
+        StackedSnapshot cachedSnapshot = null;
+
+        // Locations of spawners are usually grouped by their chunks, so the snapshot is looked up only
+        // when the chunk is changed.
+        for (Location location : locations) {
+            World world = location.getWorld();
+            int chunkX = location.getBlockX() >> 4;
+            int chunkZ = location.getBlockZ() >> 4;
+
+            if (cachedSnapshot == null || world != lastWorld || chunkX != lastChunkX || chunkZ != lastChunkZ) {
+                cachedSnapshot = WildStackerSnapshotsContainer.getSnapshot(ChunkPosition.of(world, chunkX, chunkZ));
+                lastWorld = world;
+                lastChunkX = chunkX;
+                lastChunkZ = chunkZ;
+            }
+
+            Map.Entry<Integer, EntityType> entry = cachedSnapshot.getStackedSpawner(location);
+            spawners.put(location, new Pair<>(entry.getKey(), entry.getValue() + ""));
+        }
+
+        return spawners;
+    }
+
     @Override
     public void takeSnapshot(Chunk chunk) {
         WildStackerSnapshotsContainer.takeSnapshot(chunk);
@@ -26,6 +26,7 @@ import com.bgsoftware.wildstacker.api.objects.StackedSnapshot;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -35,7 +36,9 @@ import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 public class StackedBlocksProvider_WildStacker implements StackedBlocksProvider_AutoDetect, StackedBlocksSnapshotProvider {
 
@@ -73,18 +76,18 @@ public class StackedBlocksProvider_WildStacker implements StackedBlocksProvider_
 
     @Override
     public Collection<Pair<Key, Integer>> getBlocks(World world, int chunkX, int chunkZ) {
-        StackedSnapshot stackedSnapshot = WildStackerSnapshotsContainer.getSnapshot(ChunkPosition.of(world, chunkX, chunkZ));
+        List<Pair<Key, Integer>> blocks = new LinkedList<>();
+        addBarrels(WildStackerSnapshotsContainer.getSnapshot(ChunkPosition.of(world, chunkX, chunkZ)), blocks);
+        return blocks;
+    }
 
-        try {
-            return stackedSnapshot.getAllBarrelsItems().values().stream()
-                    .filter(entry -> entry.getValue() != null)
-                    .map(entry -> new Pair<>(Key.of(entry.getValue()), entry.getKey()))
-                    .collect(Collectors.toSet());
-        } catch (Throwable ex) {
-            return stackedSnapshot.getAllBarrels().values().stream()
-                    .map(entry -> new Pair<>(Key.of(entry.getValue(), (short) 0), entry.getKey()))
-                    .collect(Collectors.toSet());
+    @Override
+    public Collection<Pair<Key, Integer>> getBlocks(World world, Collection<Pair<Integer, Integer>> chunks) {
+        List<Pair<Key, Integer>> blocks = new LinkedList<>();
+        for (Pair<Integer, Integer> chunk : chunks) {
+            addBarrels(WildStackerSnapshotsContainer.getSnapshot(ChunkPosition.of(world, chunk.getKey(), chunk.getValue())), blocks);
         }
+        return blocks;
     }
 
     @Override
@@ -181,6 +184,19 @@ public class StackedBlocksProvider_WildStacker implements StackedBlocksProvider_
 
     }
 
+    private static void addBarrels(StackedSnapshot stackedSnapshot, List<Pair<Key, Integer>> blocks) {
+        try {
+            for (Map.Entry<Integer, ItemStack> entry : stackedSnapshot.getAllBarrelsItems().values()) {
+                if (entry.getValue() != null)
+                    blocks.add(new Pair<>(Key.of(entry.getValue()), entry.getKey()));
+            }
+        } catch (Throwable ex) {
+            for (Map.Entry<Integer, Material> entry : stackedSnapshot.getAllBarrels().values()) {
+                blocks.add(new Pair<>(Key.of(entry.getValue(), (short) 0), entry.getKey()));
+            }
+        }
+    }
+
     private static Key getBarrelKey(StackedBarrel barrel) {
         ItemStack barrelItem = barrel.getBarrelItem(1);
         return ServerVersion.isLegacy() ? Key.of(barrelItem) : Key.of(barrelItem.getType());
@@ -4,13 +4,11 @@ import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.key.Key;
-import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
-import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
-import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.nms.NMSChunks;
@@ -174,7 +172,7 @@ public class NMSChunksImpl implements NMSChunks {
 
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
-                                                                    Map<ChunkPosition, CalculatedChunk> unloadedChunksCache) {
+                                                                    CalculatedChunksCache.View unloadedChunksCache) {
         List<CalculatedChunk> allCalculatedChunks = new LinkedList<>();
         List<ChunkCoordIntPair> chunksCoords = new LinkedList<>();
 
@@ -202,7 +200,7 @@ public class NMSChunksImpl implements NMSChunks {
             public void onChunk(Chunk chunk, boolean isLoaded) {
                 ChunkPosition chunkPosition = ChunkPosition.of(worldServer.getWorld(), chunk.locX, chunk.locZ);
 
-                KeyMap<Counter> blockCounts = KeyMaps.createHashMap(KeyIndicator.MATERIAL);
+                KeyHistogram blockCounts = new KeyHistogram();
                 List<Location> spawnersLocations = new LinkedList<>();
 
                 for (ChunkSection chunkSection : chunk.getSections()) {
@@ -227,7 +225,7 @@ public class NMSChunksImpl implements NMSChunks {
                                 }
 
                                 Key blockKey = Keys.of(KeyBlocksCache.getBlockKey(blockData), location);
-                                blockCounts.computeIfAbsent(blockKey, b -> new Counter(0)).inc(blockAmount);
+                                blockCounts.add(blockKey, blockAmount);
                                 if (block == Blocks.MOB_SPAWNER) {
                                     spawnersLocations.add(location);
                                 }
@@ -4,13 +4,11 @@ import com.bgsoftware.common.reflection.ReflectField;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.key.Key;
-import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
-import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
-import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.nms.NMSChunks;
@@ -209,7 +207,7 @@ public class NMSChunksImpl implements NMSChunks {
 
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
-                                                                    Map<ChunkPosition, CalculatedChunk> unloadedChunksCache) {
+                                                                    CalculatedChunksCache.View unloadedChunksCache) {
         List<CalculatedChunk> allCalculatedChunks = new LinkedList<>();
         List<ChunkCoordIntPair> chunksCoords = new LinkedList<>();
 
@@ -335,7 +333,7 @@ public class NMSChunksImpl implements NMSChunks {
     }
 
     private static CalculatedChunk calculateChunk(ChunkPosition chunkPosition, ChunkSection[] chunkSections) {
-        KeyMap<Counter> blockCounts = KeyMaps.createHashMap(KeyIndicator.MATERIAL);
+        KeyHistogram blockCounts = new KeyHistogram();
         List<Location> spawnersLocations = new LinkedList<>();
 
         for (ChunkSection chunkSection : chunkSections) {
@@ -358,7 +356,7 @@ public class NMSChunksImpl implements NMSChunks {
                         }
 
                         Key blockKey = Keys.of(KeyBlocksCache.getBlockKey(blockData.getBlock()), location);
-                        blockCounts.computeIfAbsent(blockKey, b -> new Counter(0)).inc(blockAmount);
+                        blockCounts.add(blockKey, blockAmount);
                         if (block == Blocks.SPAWNER) {
                             spawnersLocations.add(location);
                         }
@@ -6,13 +6,11 @@ import com.bgsoftware.common.reflection.ReflectMethod;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.key.Key;
-import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
-import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
-import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.nms.NMSChunks;
@@ -65,7 +63,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class NMSChunksImpl implements NMSChunks {
@@ -219,7 +216,7 @@ public class NMSChunksImpl implements NMSChunks {
 
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
-                                                                    Map<ChunkPosition, CalculatedChunk> unloadedChunksCache) {
+                                                                    CalculatedChunksCache.View unloadedChunksCache) {
         List<CalculatedChunk> allCalculatedChunks = new LinkedList<>();
         List<ChunkPos> chunksCoords = new LinkedList<>();
 
@@ -349,7 +346,7 @@ public class NMSChunksImpl implements NMSChunks {
     }
 
     private static CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
-        KeyMap<Counter> blockCounts = KeyMaps.createHashMap(KeyIndicator.MATERIAL);
+        KeyHistogram blockCounts = new KeyHistogram();
         List<Location> spawnersLocations = new LinkedList<>();
 
         for (LevelChunkSection levelChunkSection : chunkSections) {
@@ -373,7 +370,7 @@ public class NMSChunksImpl implements NMSChunks {
     }
 
     private static void calculateChunkInternal(BlockState blockState, int x, int y, int z, ChunkPosition chunkPosition,
-                                               LevelChunkSection levelChunkSection, KeyMap<Counter> blockCounts,
+                                               LevelChunkSection levelChunkSection, KeyHistogram blockCounts,
                                                List<Location> spawnersLocations) {
         Block block = blockState.getBlock();
 
@@ -393,7 +390,7 @@ public class NMSChunksImpl implements NMSChunks {
         }
 
         Key blockKey = Keys.of(KeyBlocksCache.getBlockKey(blockState.getBlock()), location);
-        blockCounts.computeIfAbsent(blockKey, b -> new Counter(0)).inc(blockAmount);
+        blockCounts.add(blockKey, blockAmount);
         if (block == Blocks.SPAWNER) {
             spawnersLocations.add(location);
         }
@@ -4,13 +4,11 @@ import com.bgsoftware.common.reflection.ReflectMethod;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.key.Key;
-import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
-import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
-import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.nms.NMSChunks;
@@ -62,10 +60,11 @@ import org.bukkit.generator.ChunkGenerator;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public class NMSChunksImpl implements NMSChunks {
@@ -279,8 +278,8 @@ public class NMSChunksImpl implements NMSChunks {
 
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
-                                                                    Map<ChunkPosition, CalculatedChunk> unloadedChunksCache) {
-        List<CalculatedChunk> allCalculatedChunks = new LinkedList<>();
+                                                                    CalculatedChunksCache.View unloadedChunksCache) {
+        List<CalculatedChunk> allCalculatedChunks = Collections.synchronizedList(new LinkedList<>());
         List<ChunkPos> chunksCoords = new LinkedList<>();
 
         Iterator<ChunkPosition> chunkPositionsIterator = chunkPositions.iterator();
@@ -376,6 +375,11 @@ public class NMSChunksImpl implements NMSChunks {
             public void onFinish() {
                 completableFuture.complete(allCalculatedChunks);
             }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
         });
 
         return completableFuture;
@@ -449,13 +453,30 @@ public class NMSChunksImpl implements NMSChunks {
     }
 
     private static CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
-        KeyMap<Counter> blockCounts = KeyMaps.createHashMap(KeyIndicator.MATERIAL);
+        KeyHistogram blockCounts = new KeyHistogram();
         List<Location> spawnersLocations = new LinkedList<>();
+        Set<BlockState> locationSensitiveStates = Collections.newSetFromMap(new IdentityHashMap<>());
 
         for (LevelChunkSection levelChunkSection : chunkSections) {
             if (levelChunkSection != null && !levelChunkSection.hasOnlyAir()) {
+                // Blocks are counted by the entries of the palette of the section, and only blocks that their
+                // keys depend on their locations are visited one by one.
+                locationSensitiveStates.clear();
+                levelChunkSection.getStates().count((blockState, amount) -> {
+                    if (isLocationSensitive(blockState)) {
+                        locationSensitiveStates.add(blockState);
+                    } else {
+                        countBlocks(blockState, amount, blockCounts);
+                    }
+                });
+
+                if (locationSensitiveStates.isEmpty())
+                    continue;
+
                 if (hasStatesIterator) {
                     levelChunkSection.getStates().forEachLocation((blockState, locationKey) -> {
+                        if (!locationSensitiveStates.contains(blockState))
+                            return;
                         int x = locationKey & 0xF;
                         int y = (locationKey >> 8) & 0xF;
                         int z = (locationKey >> 4) & 0xF;
@@ -463,8 +484,10 @@ public class NMSChunksImpl implements NMSChunks {
                     });
                 } else for (BlockPos blockPos : BlockPos.betweenClosed(0, 0, 0, 15, 15, 15)) {
                     BlockState blockState = levelChunkSection.getBlockState(blockPos.getX(), blockPos.getY(), blockPos.getZ());
-                    calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
-                            levelChunkSection, blockCounts, spawnersLocations);
+                    if (locationSensitiveStates.contains(blockState)) {
+                        calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
+                                levelChunkSection, blockCounts, spawnersLocations);
+                    }
                 }
             }
         }
@@ -472,8 +495,25 @@ public class NMSChunksImpl implements NMSChunks {
         return new CalculatedChunk(chunkPosition, blockCounts, spawnersLocations);
     }
 
+    private static boolean isLocationSensitive(BlockState blockState) {
+        Block block = blockState.getBlock();
+        return block == Blocks.SPAWNER || Keys.isLocationSensitive(KeyBlocksCache.getBlockKey(block));
+    }
+
+    private static void countBlocks(BlockState blockState, int amount, KeyHistogram blockCounts) {
+        Block block = blockState.getBlock();
+
+        if (block == Blocks.AIR)
+            return;
+
+        if (NMSUtils.isDoubleBlock(block, blockState))
+            amount *= 2;
+
+        blockCounts.add(KeyBlocksCache.getBlockKeyId(block), amount);
+    }
+
     private static void calculateChunkInternal(BlockState blockState, int x, int y, int z, ChunkPosition chunkPosition,
-                                               LevelChunkSection levelChunkSection, KeyMap<Counter> blockCounts,
+                                               LevelChunkSection levelChunkSection, KeyHistogram blockCounts,
                                                List<Location> spawnersLocations) {
         Block block = blockState.getBlock();
 
@@ -493,7 +533,7 @@ public class NMSChunksImpl implements NMSChunks {
         }
 
         Key blockKey = Keys.of(KeyBlocksCache.getBlockKey(blockState.getBlock()), location);
-        blockCounts.computeIfAbsent(blockKey, b -> new Counter(0)).inc(blockAmount);
+        blockCounts.add(blockKey, blockAmount);
         if (block == Blocks.SPAWNER) {
             spawnersLocations.add(location);
         }
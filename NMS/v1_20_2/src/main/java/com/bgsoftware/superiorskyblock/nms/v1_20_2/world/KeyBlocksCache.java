@@ -1,6 +1,7 @@
 package com.bgsoftware.superiorskyblock.nms.v1_20_2.world;
 
 import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.core.key.KeyIds;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.level.block.Block;
@@ -13,6 +14,7 @@ import java.util.Map;
 public class KeyBlocksCache {
 
     private static final Map<Block, Key> BLOCK_TO_KEY = new IdentityHashMap<>();
+    private static final Map<Block, Integer> BLOCK_TO_KEY_ID = new IdentityHashMap<>();
 
     private KeyBlocksCache() {
 
@@ -25,8 +27,12 @@ public class KeyBlocksCache {
         });
     }
 
+    public static int getBlockKeyId(Block block) {
+        return BLOCK_TO_KEY_ID.computeIfAbsent(block, unused -> KeyIds.getId(getBlockKey(block)));
+    }
+
     public static void cacheAllBlocks() {
-        BuiltInRegistries.BLOCK.forEach(KeyBlocksCache::getBlockKey);
+        BuiltInRegistries.BLOCK.forEach(KeyBlocksCache::getBlockKeyId);
     }
 
 }
@@ -40,8 +40,10 @@ import org.bukkit.craftbukkit.v1_20_R3.CraftChunk;
 
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -131,8 +133,13 @@ public class NMSUtils {
 
         BukkitExecutor.createTask().runAsync(v -> {
             List<Pair<ChunkPos, net.minecraft.nbt.CompoundTag>> chunkCompounds = new LinkedList<>();
+            List<CompletableFuture<Void>> chunkTasks = new LinkedList<>();
 
-            chunks.forEach(chunkCoords -> {
+            // Chunks are always read by this thread, while decoding them can be done by the chunks threads.
+            boolean parallelChunkCallback = !saveChunks && chunkCallback.isThreadSafe() &&
+                    BukkitExecutor.hasChunksThreads();
+
+            sortByRegions(chunks).forEach(chunkCoords -> {
                 try {
                     net.minecraft.nbt.CompoundTag chunkCompound = chunkMap.read(chunkCoords).join().orElse(null);
 
@@ -144,7 +151,16 @@ public class NMSUtils {
                             Optional.empty(), chunkCoords, serverLevel);
 
                     UnloadedChunkCompound unloadedChunkCompound = new UnloadedChunkCompound(chunkDataCompound, chunkCoords);
-                    chunkCallback.onUnloadedChunk(unloadedChunkCompound);
+
+                    if (parallelChunkCallback) {
+                        chunkTasks.add(BukkitExecutor.chunks(() -> chunkCallback.onUnloadedChunk(unloadedChunkCompound))
+                                .exceptionally(error -> {
+                                    Log.error(error, "An unexpected error occurred while interacting with unloaded chunk ", chunkCoords, ":");
+                                    return null;
+                                }));
+                    } else {
+                        chunkCallback.onUnloadedChunk(unloadedChunkCompound);
+                    }
 
                     if (saveChunks)
                         chunkCompounds.add(new Pair<>(chunkCoords, chunkDataCompound));
@@ -153,6 +169,8 @@ public class NMSUtils {
                 }
             });
 
+            chunkTasks.forEach(CompletableFuture::join);
+
             return chunkCompounds;
         }).runSync(chunkCompounds -> {
             chunkCompounds.forEach(chunkCompoundPair -> {
@@ -318,6 +336,16 @@ public class NMSUtils {
 
     }
 
+    private static List<ChunkPos> sortByRegions(Collection<ChunkPos> chunks) {
+        // Chunks of the same region file are read one after another, in the order they are stored in the file.
+        List<ChunkPos> sortedChunks = new ArrayList<>(chunks);
+        sortedChunks.sort(Comparator.comparingInt(ChunkPos::getRegionX)
+                .thenComparingInt(ChunkPos::getRegionZ)
+                .thenComparingInt(ChunkPos::getRegionLocalZ)
+                .thenComparingInt(ChunkPos::getRegionLocalX));
+        return sortedChunks;
+    }
+
     private static boolean isValidPosition(ServerLevel serverLevel, BlockPos blockPos) {
         return blockPos.getX() >= -30000000 && blockPos.getZ() >= -30000000 &&
                 blockPos.getX() < 30000000 && blockPos.getZ() < 30000000 &&
@@ -332,6 +360,13 @@ public class NMSUtils {
 
         void onFinish();
 
+        /**
+         * Whether {@link #onUnloadedChunk(UnloadedChunkCompound)} can be called by multiple threads at once.
+         */
+        default boolean isThreadSafe() {
+            return false;
+        }
+
     }
 
 }
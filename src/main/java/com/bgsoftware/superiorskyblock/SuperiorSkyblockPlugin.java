@@ -16,6 +16,7 @@ import com.bgsoftware.superiorskyblock.commands.CommandsManagerImpl;
 import com.bgsoftware.superiorskyblock.commands.admin.AdminCommandsMap;
 import com.bgsoftware.superiorskyblock.commands.player.PlayerCommandsMap;
 import com.bgsoftware.superiorskyblock.config.SettingsManagerImpl;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.database.DataManager;
 import com.bgsoftware.superiorskyblock.core.engine.EnginesFactory;
 import com.bgsoftware.superiorskyblock.core.engine.NashornEngineDownloader;
@@ -202,6 +203,8 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
                 }
             }
 
+            BukkitExecutor.startChunksThreads(settingsHandler.getRecalcThreads());
+
             modulesHandler.loadData();
 
             modulesHandler.runModuleLifecycle(ModuleLoadTime.PLUGIN_INITIALIZE, false);
@@ -232,6 +235,8 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
                 return;
             }
 
+            CalculatedChunksCache.load(this);
+
             try {
                 bukkitListeners.registerListeners();
             } catch (RuntimeException ex) {
@@ -332,6 +337,8 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
 
             if (nmsChunks != null) nmsChunks.shutdown();
 
+            CalculatedChunksCache.save(this);
+
             Log.info("Shutting down executor");
             BukkitExecutor.close();
 
@@ -466,6 +473,7 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
         }
 
         blockValuesHandler.loadData();
+        CalculatedChunksCache.setMaxSize(settingsHandler.getRecalcCacheSize() * 1024L * 1024L);
         upgradesHandler.loadData();
         rolesHandler.loadData();
 
@@ -39,6 +39,8 @@ import java.util.stream.Stream;
 
 public class CommandTabCompletes {
 
+    private static final int MAX_ISLAND_NAMES_COMPLETES = 50;
+
     private CommandTabCompletes() {
 
     }
@@ -107,6 +109,16 @@ public class CommandTabCompletes {
         return Collections.unmodifiableList(tabArguments);
     }
 
+    public static List<String> getIslandNames(SuperiorSkyblockPlugin plugin, String argument, Predicate<Island> predicate) {
+        // Listing names of all islands is too expensive to do on every key press.
+        if (argument.isEmpty())
+            return Collections.emptyList();
+
+        // Names with spaces cannot be completed, as commands receive them as separate arguments.
+        return new SequentialListBuilder<Island>().map(plugin.getGrid().getIslandNamesIndex().getIslandsByPrefix(argument,
+                island -> island.getName().indexOf(' ') == -1 && predicate.test(island), MAX_ISLAND_NAMES_COMPLETES), Island::getName);
+    }
+
     public static List<String> getIslandWarps(Island island, String argument) {
         return filterByArgument(island.getIslandWarps().keySet(), argument.toLowerCase(Locale.ENGLISH));
     }
@@ -27,6 +27,7 @@ public class AdminCommandsMap extends CommandsMap {
         registerCommand(new CmdAdminCmdAll(), false);
         registerCommand(new CmdAdminCount(), false);
         registerCommand(new CmdAdminData(), false);
+        registerCommand(new CmdAdminDBStats(), false);
         registerCommand(new CmdAdminDebug(), false);
         registerCommand(new CmdAdminDelWarp(), false);
         registerCommand(new CmdAdminDemote(), false);
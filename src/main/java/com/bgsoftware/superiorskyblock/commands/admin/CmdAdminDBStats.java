@@ -0,0 +1,60 @@
+package com.bgsoftware.superiorskyblock.commands.admin;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.commands.ISuperiorCommand;
+import com.bgsoftware.superiorskyblock.core.database.sql.DatabaseStats;
+import com.bgsoftware.superiorskyblock.core.messages.Message;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class CmdAdminDBStats implements ISuperiorCommand {
+
+    @Override
+    public List<String> getAliases() {
+        return Collections.singletonList("dbstats");
+    }
+
+    @Override
+    public String getPermission() {
+        return "superior.admin.dbstats";
+    }
+
+    @Override
+    public String getUsage(Locale locale) {
+        return "admin dbstats";
+    }
+
+    @Override
+    public String getDescription(Locale locale) {
+        return Message.COMMAND_DESCRIPTION_ADMIN_DB_STATS.getMessage(locale);
+    }
+
+    @Override
+    public int getMinArgs() {
+        return 2;
+    }
+
+    @Override
+    public int getMaxArgs() {
+        return 2;
+    }
+
+    @Override
+    public boolean canBeExecutedByConsole() {
+        return true;
+    }
+
+    @Override
+    public void execute(SuperiorSkyblockPlugin plugin, CommandSender sender, String[] args) {
+        DatabaseStats.sendStats(sender);
+    }
+
+    @Override
+    public List<String> tabComplete(SuperiorSkyblockPlugin plugin, CommandSender sender, String[] args) {
+        return Collections.emptyList();
+    }
+
+}
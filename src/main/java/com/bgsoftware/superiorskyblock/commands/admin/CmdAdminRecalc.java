@@ -61,7 +61,7 @@ public class CmdAdminRecalc implements IAdminIslandCommand {
     public void execute(SuperiorSkyblockPlugin plugin, CommandSender sender, @Nullable SuperiorPlayer targetPlayer, List<Island> islands, String[] args) {
         if (islands.size() > 1) {
             Message.RECALC_ALL_ISLANDS.send(sender);
-            plugin.getGrid().calcAllIslands(() -> Message.RECALC_ALL_ISLANDS_DONE.send(sender));
+            plugin.getGrid().calcAllIslands(sender, () -> Message.RECALC_ALL_ISLANDS_DONE.send(sender));
         } else {
             Island island = islands.get(0);
 
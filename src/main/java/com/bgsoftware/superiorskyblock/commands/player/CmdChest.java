@@ -11,6 +11,7 @@ import com.bgsoftware.superiorskyblock.commands.arguments.CommandArguments;
 import com.bgsoftware.superiorskyblock.commands.arguments.NumberArgument;
 import com.bgsoftware.superiorskyblock.core.menu.Menus;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
+import com.bgsoftware.superiorskyblock.island.ColdDataHydration;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
 
 import java.util.Arrays;
@@ -74,14 +75,17 @@ public class CmdChest implements IPermissibleCommand {
                 return;
 
             int page = pageArguments.getNumber() - 1;
-            IslandChest[] islandChests = island.getChest();
 
-            if (page < 0 || page >= islandChests.length) {
-                Message.INVALID_PAGE.send(superiorPlayer, args[1]);
-                return;
-            }
+            ColdDataHydration.runWithColdData(island, () -> {
+                IslandChest[] islandChests = island.getChest();
+
+                if (page < 0 || page >= islandChests.length) {
+                    Message.INVALID_PAGE.send(superiorPlayer, args[1]);
+                    return;
+                }
 
-            islandChests[page].openChest(superiorPlayer);
+                islandChests[page].openChest(superiorPlayer);
+            });
         } else {
             Menus.MENU_ISLAND_CHEST.openMenu(superiorPlayer, superiorPlayer.getOpenedView(), island);
         }
@@ -10,6 +10,7 @@ import com.bgsoftware.superiorskyblock.commands.arguments.CommandArguments;
 import com.bgsoftware.superiorskyblock.core.formatting.Formatters;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
+import com.bgsoftware.superiorskyblock.island.ColdDataHydration;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.player.PlayerLocales;
@@ -69,6 +70,11 @@ public class CmdShow implements ISuperiorCommand {
         if (island == null)
             return;
 
+        // The unique visitors are shown, therefore they must be loaded first.
+        ColdDataHydration.runWithColdData(island, () -> sendIslandInfo(plugin, sender, island));
+    }
+
+    private static void sendIslandInfo(SuperiorSkyblockPlugin plugin, CommandSender sender, Island island) {
         java.util.Locale locale = PlayerLocales.getLocale(sender);
 
         StringBuilder infoMessage = new StringBuilder();
@@ -14,8 +14,12 @@ import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class CmdVisit implements ISuperiorCommand {
 
@@ -100,13 +104,22 @@ public class CmdVisit implements ISuperiorCommand {
 
     @Override
     public List<String> tabComplete(SuperiorSkyblockPlugin plugin, CommandSender sender, String[] args) {
+        if (args.length != 2)
+            return Collections.emptyList();
+
         SuperiorPlayer superiorPlayer = plugin.getPlayers().getSuperiorPlayer(sender);
-        return args.length == 2 ? CommandTabCompletes.getOnlinePlayersWithIslands(plugin, args[1],
+        Predicate<Island> canVisitIsland = island -> (
+                (!plugin.getSettings().getVisitorsSign().isRequiredForVisit() || island.getVisitorsLocation(null /* unused */) != null) ||
+                        superiorPlayer.hasBypassModeEnabled()) && (!island.isLocked() ||
+                island.hasPermission(superiorPlayer, IslandPrivileges.CLOSE_BYPASS));
+
+        Set<String> tabCompletes = new LinkedHashSet<>(CommandTabCompletes.getOnlinePlayersWithIslands(plugin, args[1],
                 plugin.getSettings().isTabCompleteHideVanished(),
-                (onlinePlayer, onlineIsland) -> onlineIsland != null && (
-                        (!plugin.getSettings().getVisitorsSign().isRequiredForVisit() || onlineIsland.getVisitorsLocation(null /* unused */) != null) ||
-                                superiorPlayer.hasBypassModeEnabled()) && (!onlineIsland.isLocked() ||
-                        onlineIsland.hasPermission(superiorPlayer, IslandPrivileges.CLOSE_BYPASS))) : Collections.emptyList();
+                (onlinePlayer, onlineIsland) -> onlineIsland != null && canVisitIsland.test(onlineIsland)));
+        // Islands of offline players can be visited by their names.
+        tabCompletes.addAll(CommandTabCompletes.getIslandNames(plugin, args[1], canVisitIsland));
+
+        return tabCompletes.isEmpty() ? Collections.emptyList() : new ArrayList<>(tabCompletes);
     }
 
     private void teleportPlayerNoWarmup(SuperiorPlayer superiorPlayer, Island island, Location visitLocation, boolean checkIslandLock) {
@@ -66,6 +66,19 @@ public class SettingsContainer {
     public final boolean databaseMySQLPublicKeyRetrieval;
     public final long databaseMySQLWaitTimeout;
     public final long databaseMySQLMaxLifetime;
+    public final boolean databaseWriteBehind;
+    public final long databaseWriteBehindFlushInterval;
+    public final long databaseWriteBehindMaxLatency;
+    public final boolean databaseJournal;
+    public final long databaseJournalSyncInterval;
+    public final long databaseJournalMaxSize;
+    public final int databaseLoadingThreads;
+    public final int databaseDataThreads;
+    public final long databaseStatsLogInterval;
+    public final boolean databaseLazyIslands;
+    public final long databaseLazyIslandsIdleTime;
+    public final boolean databaseLazyPlayers;
+    public final int databaseLazyPlayersCacheSize;
     public final int maxIslandSize;
     public final String islandCommand;
     public final int defaultIslandSize;
@@ -212,6 +225,16 @@ public class SettingsContainer {
     public final double chargeOnWarp;
     public final boolean publicWarps;
     public final long recalcTaskTimeout;
+    public final int recalcThreads;
+    public final long recalcCacheSize;
+    public final boolean recalcCacheSave;
+    public final long recalcTickBudget;
+    public final int recalcMaxIslands;
+    public final double recalcMinTps;
+    public final long recalcProgressInterval;
+    public final boolean recalcIncremental;
+    public final long recalcFullInterval;
+    public final int recalcIncrementalMaxIslands;
     public final boolean autoLanguageDetection;
     public final boolean autoUncoopWhenAlone;
     public final TopIslandMembersSorting islandTopMembersSorting;
@@ -233,6 +256,19 @@ public class SettingsContainer {
         databaseMySQLPublicKeyRetrieval = config.getBoolean("database.allowPublicKeyRetrieval");
         databaseMySQLWaitTimeout = config.getLong("database.waitTimeout");
         databaseMySQLMaxLifetime = config.getLong("database.maxLifetime");
+        databaseWriteBehind = config.getBoolean("database.write-behind.enabled", true);
+        databaseWriteBehindFlushInterval = config.getLong("database.write-behind.flush-interval", 20);
+        databaseWriteBehindMaxLatency = config.getLong("database.write-behind.max-latency", 5000);
+        databaseJournal = config.getBoolean("database.journal.enabled", false);
+        databaseJournalSyncInterval = config.getLong("database.journal.sync-interval", 20);
+        databaseJournalMaxSize = config.getLong("database.journal.max-size", 64);
+        databaseLoadingThreads = Math.max(1, config.getInt("database.loading-threads", 4));
+        databaseDataThreads = Math.max(1, config.getInt("database.data-threads", 4));
+        databaseStatsLogInterval = config.getLong("database.stats-log-interval", 10);
+        databaseLazyIslands = config.getBoolean("database.lazy-islands.enabled", false);
+        databaseLazyIslandsIdleTime = config.getLong("database.lazy-islands.idle-time", 15);
+        databaseLazyPlayers = config.getBoolean("database.lazy-players.enabled", false);
+        databaseLazyPlayersCacheSize = config.getInt("database.lazy-players.cache-size", 5000);
 
         calcInterval = config.getLong("calc-interval", 6000);
         islandCommand = config.getString("island-command", "island,is,islands");
@@ -504,6 +540,16 @@ public class SettingsContainer {
         chargeOnWarp = config.getDouble("charge-on-warp", 0D);
         publicWarps = config.getBoolean("public-warps");
         recalcTaskTimeout = config.getLong("recalc-task-timeout");
+        recalcThreads = config.getInt("recalc-threads", 2);
+        recalcCacheSize = config.getLong("recalc-cache.size", 32);
+        recalcCacheSave = config.getBoolean("recalc-cache.save", false);
+        recalcTickBudget = config.getLong("recalc-scheduler.tick-budget", 5);
+        recalcMaxIslands = config.getInt("recalc-scheduler.max-islands", 16);
+        recalcMinTps = config.getDouble("recalc-scheduler.min-tps", 18);
+        recalcProgressInterval = config.getLong("recalc-scheduler.progress-interval", 10);
+        recalcIncremental = config.getBoolean("recalc-incremental.enabled", false);
+        recalcFullInterval = config.getLong("recalc-incremental.full-recalc-interval", 60);
+        recalcIncrementalMaxIslands = config.getInt("recalc-incremental.max-islands", 500);
         autoLanguageDetection = config.getBoolean("auto-language-detection", true);
         autoUncoopWhenAlone = config.getBoolean("auto-uncoop-when-alone", false);
         islandTopMembersSorting = Optional.ofNullable(EnumHelper.getEnum(TopIslandMembersSorting.class,
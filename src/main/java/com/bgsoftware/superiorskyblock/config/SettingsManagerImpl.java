@@ -533,6 +533,56 @@ public class SettingsManagerImpl extends Manager implements SettingsManager {
         return this.global.getRecalcTaskTimeout();
     }
 
+    @Override
+    public int getRecalcThreads() {
+        return this.global.getRecalcThreads();
+    }
+
+    @Override
+    public long getRecalcCacheSize() {
+        return this.global.getRecalcCacheSize();
+    }
+
+    @Override
+    public boolean isRecalcCacheSave() {
+        return this.global.isRecalcCacheSave();
+    }
+
+    @Override
+    public long getRecalcTickBudget() {
+        return this.global.getRecalcTickBudget();
+    }
+
+    @Override
+    public int getRecalcMaxIslands() {
+        return this.global.getRecalcMaxIslands();
+    }
+
+    @Override
+    public double getRecalcMinTps() {
+        return this.global.getRecalcMinTps();
+    }
+
+    @Override
+    public long getRecalcProgressInterval() {
+        return this.global.getRecalcProgressInterval();
+    }
+
+    @Override
+    public boolean isRecalcIncremental() {
+        return this.global.isRecalcIncremental();
+    }
+
+    @Override
+    public long getRecalcFullInterval() {
+        return this.global.getRecalcFullInterval();
+    }
+
+    @Override
+    public int getRecalcIncrementalMaxIslands() {
+        return this.global.getRecalcIncrementalMaxIslands();
+    }
+
     @Override
     public boolean isAutoLanguageDetection() {
         return this.global.isAutoLanguageDetection();
@@ -64,4 +64,69 @@ public class DatabaseSection extends SettingsContainerHolder implements Settings
     public long getMaxLifetime() {
         return getContainer().databaseMySQLMaxLifetime;
     }
+
+    @Override
+    public boolean isWriteBehind() {
+        return getContainer().databaseWriteBehind;
+    }
+
+    @Override
+    public long getWriteBehindFlushInterval() {
+        return getContainer().databaseWriteBehindFlushInterval;
+    }
+
+    @Override
+    public long getWriteBehindMaxLatency() {
+        return getContainer().databaseWriteBehindMaxLatency;
+    }
+
+    @Override
+    public boolean isJournal() {
+        return getContainer().databaseJournal;
+    }
+
+    @Override
+    public long getJournalSyncInterval() {
+        return getContainer().databaseJournalSyncInterval;
+    }
+
+    @Override
+    public long getJournalMaxSize() {
+        return getContainer().databaseJournalMaxSize;
+    }
+
+    @Override
+    public int getLoadingThreads() {
+        return getContainer().databaseLoadingThreads;
+    }
+
+    @Override
+    public int getDataThreads() {
+        return getContainer().databaseDataThreads;
+    }
+
+    @Override
+    public long getStatsLogInterval() {
+        return getContainer().databaseStatsLogInterval;
+    }
+
+    @Override
+    public boolean isLazyIslands() {
+        return getContainer().databaseLazyIslands;
+    }
+
+    @Override
+    public long getLazyIslandsIdleTime() {
+        return getContainer().databaseLazyIslandsIdleTime;
+    }
+
+    @Override
+    public boolean isLazyPlayers() {
+        return getContainer().databaseLazyPlayers;
+    }
+
+    @Override
+    public int getLazyPlayersCacheSize() {
+        return getContainer().databaseLazyPlayersCacheSize;
+    }
 }
@@ -328,6 +328,46 @@ public class GlobalSection extends SettingsContainerHolder {
         return getContainer().recalcTaskTimeout;
     }
 
+    public int getRecalcThreads() {
+        return getContainer().recalcThreads;
+    }
+
+    public long getRecalcCacheSize() {
+        return getContainer().recalcCacheSize;
+    }
+
+    public boolean isRecalcCacheSave() {
+        return getContainer().recalcCacheSave;
+    }
+
+    public long getRecalcTickBudget() {
+        return getContainer().recalcTickBudget;
+    }
+
+    public int getRecalcMaxIslands() {
+        return getContainer().recalcMaxIslands;
+    }
+
+    public double getRecalcMinTps() {
+        return getContainer().recalcMinTps;
+    }
+
+    public long getRecalcProgressInterval() {
+        return getContainer().recalcProgressInterval;
+    }
+
+    public boolean isRecalcIncremental() {
+        return getContainer().recalcIncremental;
+    }
+
+    public long getRecalcFullInterval() {
+        return getContainer().recalcFullInterval;
+    }
+
+    public int getRecalcIncrementalMaxIslands() {
+        return getContainer().recalcIncrementalMaxIslands;
+    }
+
     public boolean isAutoLanguageDetection() {
         return getContainer().autoLanguageDetection;
     }
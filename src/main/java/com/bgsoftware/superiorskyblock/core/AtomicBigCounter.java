@@ -0,0 +1,112 @@
+package com.bgsoftware.superiorskyblock.core;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A counter that is updated without locks as long as its value fits in a long.
+ * Once the value overflows, it is promoted to a BigInteger that is updated under the lock of the counter,
+ * until the value fits in a long again.
+ */
+public class AtomicBigCounter {
+
+    // The value of promoted counters. The actual value is stored in bigValue.
+    private static final long PROMOTED = Long.MIN_VALUE;
+
+    private static final AtomicLongFieldUpdater<AtomicBigCounter> VALUE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(AtomicBigCounter.class, "value");
+
+    private volatile long value = 0;
+    private BigInteger bigValue = null;
+
+    public void add(BigInteger amount) {
+        if (amount.bitLength() < 64) {
+            add(amount.longValue());
+        } else {
+            updateBigValue(amount, false);
+        }
+    }
+
+    public void add(long amount) {
+        long currentValue;
+        long newValue;
+
+        do {
+            currentValue = this.value;
+            newValue = currentValue + amount;
+            if (currentValue == PROMOTED || isOverflow(currentValue, amount, newValue)) {
+                updateBigValue(BigInteger.valueOf(amount), false);
+                return;
+            }
+        } while (!VALUE_UPDATER.compareAndSet(this, currentValue, newValue));
+    }
+
+    /**
+     * Subtract an amount from the counter, without letting its value go below zero.
+     */
+    public void subtractOrZero(BigInteger amount) {
+        if (amount.bitLength() < 64) {
+            subtractOrZero(amount.longValue());
+        } else {
+            updateBigValue(amount.negate(), true);
+        }
+    }
+
+    public void subtractOrZero(long amount) {
+        long currentValue;
+        long newValue;
+
+        do {
+            currentValue = this.value;
+            newValue = currentValue - amount;
+            if (currentValue == PROMOTED || isOverflow(currentValue, -amount, newValue)) {
+                updateBigValue(BigInteger.valueOf(amount).negate(), true);
+                return;
+            }
+            if (newValue < 0)
+                newValue = 0;
+        } while (!VALUE_UPDATER.compareAndSet(this, currentValue, newValue));
+    }
+
+    public BigInteger get() {
+        long currentValue = this.value;
+
+        if (currentValue != PROMOTED)
+            return BigInteger.valueOf(currentValue);
+
+        synchronized (this) {
+            currentValue = this.value;
+            return currentValue == PROMOTED ? this.bigValue : BigInteger.valueOf(currentValue);
+        }
+    }
+
+    public boolean isZero() {
+        return this.value == 0;
+    }
+
+    public synchronized void reset() {
+        this.bigValue = null;
+        this.value = 0;
+    }
+
+    private synchronized void updateBigValue(BigInteger amount, boolean minZero) {
+        // Other threads cannot update the value without the lock while it is promoted.
+        long currentValue = VALUE_UPDATER.getAndSet(this, PROMOTED);
+        BigInteger newValue = (currentValue == PROMOTED ? this.bigValue : BigInteger.valueOf(currentValue)).add(amount);
+
+        if (minZero && newValue.signum() < 0)
+            newValue = BigInteger.ZERO;
+
+        if (newValue.bitLength() < 64 && newValue.longValue() != PROMOTED) {
+            this.bigValue = null;
+            this.value = newValue.longValue();
+        } else {
+            this.bigValue = newValue;
+        }
+    }
+
+    private static boolean isOverflow(long value, long amount, long result) {
+        return ((value ^ result) & (amount ^ result)) < 0 || result == PROMOTED;
+    }
+
+}
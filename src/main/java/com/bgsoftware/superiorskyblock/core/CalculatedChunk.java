@@ -1,6 +1,6 @@
 package com.bgsoftware.superiorskyblock.core;
 
-import com.bgsoftware.superiorskyblock.api.key.KeyMap;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
 import org.bukkit.Location;
 
 import java.util.List;
@@ -8,10 +8,10 @@ import java.util.List;
 public class CalculatedChunk {
 
     private final ChunkPosition chunkPosition;
-    private final KeyMap<Counter> blockCounts;
+    private final KeyHistogram blockCounts;
     private final List<Location> spawners;
 
-    public CalculatedChunk(ChunkPosition chunkPosition, KeyMap<Counter> blockCounts, List<Location> spawners) {
+    public CalculatedChunk(ChunkPosition chunkPosition, KeyHistogram blockCounts, List<Location> spawners) {
         this.chunkPosition = chunkPosition;
         this.blockCounts = blockCounts;
         this.spawners = spawners;
@@ -21,7 +21,7 @@ public class CalculatedChunk {
         return chunkPosition;
     }
 
-    public KeyMap<Counter> getBlockCounts() {
+    public KeyHistogram getBlockCounts() {
         return blockCounts;
     }
 
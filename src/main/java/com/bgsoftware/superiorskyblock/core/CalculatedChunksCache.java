@@ -0,0 +1,390 @@
+package com.bgsoftware.superiorskyblock.core;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
+import com.bgsoftware.superiorskyblock.core.key.KeyIds;
+import com.bgsoftware.superiorskyblock.core.key.Keys;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of calculated chunks that were read from disk while they were not loaded.
+ * Results stay valid until the chunk is loaded again, as blocks cannot change while the chunk is unloaded.
+ * <p>
+ * The cache is bounded by the estimated memory of its results, evicting the least recently used ones.
+ * Every load and unload of a chunk bumps its modification stamp, so results of calculations that started
+ * before the chunk was loaded are not stored.
+ * <p>
+ * The cache can be saved when the server stops, and is loaded again on startup. The file is deleted once it
+ * was loaded, so results are never loaded from a file of a server that did not stop properly.
+ * Results of chunks whose region files were modified after the file was saved are not loaded, as the chunks
+ * may have been changed by other programs while the server was stopped.
+ * File layout: magic, version, save time, keys, world names and then entries. Each entry is the index of its world,
+ * chunk coordinates, block counts by indexes of keys, and block coordinates of spawners.
+ */
+public class CalculatedChunksCache {
+
+    private static final int FILE_MAGIC = 0x53534343;
+    private static final byte FILE_VERSION = 2;
+
+    private static final int STAMPS_COUNT = 4096;
+    private static final long ENTRY_OVERHEAD = 160L;
+    private static final long COUNT_SIZE = 12L;
+    private static final long SPAWNER_SIZE = 64L;
+
+    private static final Object LOCK = new Object();
+    private static final Map<ChunkPosition, CachedChunk> CACHED_CHUNKS = new LinkedHashMap<>(256, 0.75f, true);
+    // Modification stamps of chunks, striped by their positions.
+    private static final long[] STAMPS = new long[STAMPS_COUNT];
+
+    private static long clock = 0;
+    private static long cacheSize = 0;
+    private static long maxCacheSize = 0;
+
+    private CalculatedChunksCache() {
+
+    }
+
+    public static void setMaxSize(long maxSize) {
+        synchronized (LOCK) {
+            maxCacheSize = Math.max(0, maxSize);
+            evict();
+        }
+    }
+
+    /**
+     * Get a view of the cache for a calculation that starts now.
+     * Results are stored by the view only if their chunks were not loaded since the view was created.
+     */
+    public static View forCalculation() {
+        synchronized (LOCK) {
+            return new CalculationView(clock);
+        }
+    }
+
+    public static void invalidate(ChunkPosition chunkPosition) {
+        synchronized (LOCK) {
+            STAMPS[getStampIndex(chunkPosition)] = ++clock;
+            CachedChunk cachedChunk = CACHED_CHUNKS.remove(chunkPosition);
+            if (cachedChunk != null)
+                cacheSize -= cachedChunk.size;
+        }
+    }
+
+    public static void clear() {
+        synchronized (LOCK) {
+            ++clock;
+            for (int i = 0; i < STAMPS_COUNT; ++i)
+                STAMPS[i] = clock;
+            CACHED_CHUNKS.clear();
+            cacheSize = 0;
+        }
+    }
+
+    public static void load(SuperiorSkyblockPlugin plugin) {
+        File cacheFile = getCacheFile(plugin);
+
+        if (!cacheFile.exists())
+            return;
+
+        if (maxCacheSize > 0 && plugin.getSettings().isRecalcCacheSave()) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+                readCache(input);
+            } catch (IOException | RuntimeException error) {
+                Log.error(error, "An unexpected error occurred while loading calculated chunks:");
+                clear();
+            }
+        }
+
+        if (!cacheFile.delete())
+            Log.warn("Cannot delete the file of calculated chunks, results of chunks may be outdated on next startup.");
+    }
+
+    public static void save(SuperiorSkyblockPlugin plugin) {
+        if (maxCacheSize <= 0 || !plugin.getSettings().isRecalcCacheSave())
+            return;
+
+        File cacheFile = getCacheFile(plugin);
+        File tempFile = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+
+        try {
+            if (!cacheFile.getParentFile().exists() && !cacheFile.getParentFile().mkdirs())
+                throw new IOException("Cannot create datastore folder");
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                synchronized (LOCK) {
+                    writeCache(output);
+                }
+            }
+
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException error) {
+            Log.error(error, "An unexpected error occurred while saving calculated chunks:");
+            tempFile.delete();
+        }
+    }
+
+    private static void put(ChunkPosition chunkPosition, CalculatedChunk calculatedChunk, long stamp) {
+        synchronized (LOCK) {
+            if (maxCacheSize <= 0 || STAMPS[getStampIndex(chunkPosition)] > stamp)
+                return;
+
+            CachedChunk cachedChunk = new CachedChunk(calculatedChunk);
+            CachedChunk oldCachedChunk = CACHED_CHUNKS.put(chunkPosition, cachedChunk);
+            cacheSize += cachedChunk.size - (oldCachedChunk == null ? 0 : oldCachedChunk.size);
+            evict();
+        }
+    }
+
+    private static CalculatedChunk get(ChunkPosition chunkPosition) {
+        synchronized (LOCK) {
+            CachedChunk cachedChunk = CACHED_CHUNKS.get(chunkPosition);
+            return cachedChunk == null ? null : cachedChunk.calculatedChunk;
+        }
+    }
+
+    private static void evict() {
+        Iterator<CachedChunk> iterator = CACHED_CHUNKS.values().iterator();
+        while (cacheSize > maxCacheSize && iterator.hasNext()) {
+            cacheSize -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    private static int getStampIndex(ChunkPosition chunkPosition) {
+        return (chunkPosition.hashCode() & Integer.MAX_VALUE) % STAMPS_COUNT;
+    }
+
+    private static File getCacheFile(SuperiorSkyblockPlugin plugin) {
+        return new File(new File(plugin.getDataFolder(), "datastore"), "calculated-chunks.dat");
+    }
+
+    private static void writeCache(DataOutputStream output) throws IOException {
+        Map<Integer, Integer> keysIndexes = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        Map<String, Integer> worldsIndexes = new HashMap<>();
+        List<String> worlds = new ArrayList<>();
+        List<CalculatedChunk> calculatedChunks = new ArrayList<>();
+
+        for (CachedChunk cachedChunk : CACHED_CHUNKS.values()) {
+            CalculatedChunk calculatedChunk = cachedChunk.calculatedChunk;
+            if (!collectKeys(calculatedChunk.getBlockCounts(), keysIndexes, keys))
+                continue;
+
+            worldsIndexes.computeIfAbsent(calculatedChunk.getPosition().getWorldName(), worldName -> {
+                worlds.add(worldName);
+                return worlds.size() - 1;
+            });
+
+            calculatedChunks.add(calculatedChunk);
+        }
+
+        output.writeInt(FILE_MAGIC);
+        output.writeByte(FILE_VERSION);
+        output.writeLong(System.currentTimeMillis());
+
+        output.writeInt(keys.size());
+        for (String key : keys)
+            output.writeUTF(key);
+
+        output.writeInt(worlds.size());
+        for (String worldName : worlds)
+            output.writeUTF(worldName);
+
+        output.writeInt(calculatedChunks.size());
+        for (CalculatedChunk calculatedChunk : calculatedChunks) {
+            ChunkPosition chunkPosition = calculatedChunk.getPosition();
+            output.writeInt(worldsIndexes.get(chunkPosition.getWorldName()));
+            output.writeInt(chunkPosition.getX());
+            output.writeInt(chunkPosition.getZ());
+
+            KeyHistogram blockCounts = calculatedChunk.getBlockCounts();
+            output.writeInt(blockCounts.size());
+            try {
+                blockCounts.forEach((id, count) -> {
+                    try {
+                        output.writeInt(keysIndexes.get(id));
+                        output.writeLong(count);
+                    } catch (IOException error) {
+                        throw new UncheckedIOException(error);
+                    }
+                });
+            } catch (UncheckedIOException error) {
+                throw error.getCause();
+            }
+
+            List<Location> spawners = calculatedChunk.getSpawners();
+            output.writeInt(spawners.size());
+            for (Location spawner : spawners) {
+                output.writeInt(spawner.getBlockX());
+                output.writeInt(spawner.getBlockY());
+                output.writeInt(spawner.getBlockZ());
+            }
+        }
+    }
+
+    private static boolean collectKeys(KeyHistogram blockCounts, Map<Integer, Integer> keysIndexes, List<String> keys) {
+        boolean[] savable = {true};
+
+        blockCounts.forEach((id, count) -> {
+            if (!savable[0] || keysIndexes.containsKey(id))
+                return;
+
+            // Keys that cannot be parsed back into the same key, such as keys of custom key parsers,
+            // cannot be saved. Chunks with such keys are calculated again after restarts.
+            Key key = KeyIds.getKey(id);
+            String keyString = key.toString();
+            if (!Keys.ofMaterialAndData(keyString).equals(key)) {
+                savable[0] = false;
+                return;
+            }
+
+            keysIndexes.put(id, keys.size());
+            keys.add(keyString);
+        });
+
+        return savable[0];
+    }
+
+    private static void readCache(DataInputStream input) throws IOException {
+        if (input.readInt() != FILE_MAGIC)
+            throw new IOException("Invalid calculated chunks file");
+
+        byte version = input.readByte();
+        if (version != FILE_VERSION) {
+            Log.warn("Unsupported calculated chunks version: ", version, ", skipping...");
+            return;
+        }
+
+        long saveTime = input.readLong();
+
+        int[] keyIds = new int[input.readInt()];
+        for (int i = 0; i < keyIds.length; ++i)
+            keyIds[i] = KeyIds.getId(Keys.ofMaterialAndData(input.readUTF()));
+
+        World[] worlds = new World[input.readInt()];
+        for (int i = 0; i < worlds.length; ++i)
+            worlds[i] = Bukkit.getWorld(input.readUTF());
+
+        int entriesCount = input.readInt();
+        int loadedEntries = 0;
+        Map<File, Boolean> validRegionFiles = new HashMap<>();
+
+        for (int i = 0; i < entriesCount; ++i) {
+            World world = worlds[input.readInt()];
+            int chunkX = input.readInt();
+            int chunkZ = input.readInt();
+
+            int countsSize = input.readInt();
+            KeyHistogram blockCounts = new KeyHistogram(countsSize);
+            for (int j = 0; j < countsSize; ++j)
+                blockCounts.add(keyIds[input.readInt()], input.readLong());
+
+            int spawnersCount = input.readInt();
+            List<Location> spawners = new ArrayList<>(spawnersCount);
+            for (int j = 0; j < spawnersCount; ++j)
+                spawners.add(new Location(world, input.readInt(), input.readInt(), input.readInt()));
+
+            // Chunks that were loaded before the cache was loaded may have changed already.
+            if (world == null || world.isChunkLoaded(chunkX, chunkZ))
+                continue;
+
+            File regionFile = getRegionFile(world, chunkX, chunkZ);
+            if (!validRegionFiles.computeIfAbsent(regionFile, unused ->
+                    regionFile.exists() && regionFile.lastModified() <= saveTime))
+                continue;
+
+            ChunkPosition chunkPosition = ChunkPosition.of(world, chunkX, chunkZ);
+            put(chunkPosition, new CalculatedChunk(chunkPosition, blockCounts, spawners), clock);
+            ++loadedEntries;
+        }
+
+        Log.info("Loaded ", loadedEntries, " calculated chunks from cache.");
+    }
+
+    private static File getRegionFile(World world, int chunkX, int chunkZ) {
+        File regionsFolder;
+
+        switch (world.getEnvironment()) {
+            case NETHER:
+                regionsFolder = new File(world.getWorldFolder(), "DIM-1" + File.separator + "region");
+                break;
+            case THE_END:
+                regionsFolder = new File(world.getWorldFolder(), "DIM1" + File.separator + "region");
+                break;
+            default:
+                regionsFolder = new File(world.getWorldFolder(), "region");
+                break;
+        }
+
+        return new File(regionsFolder, "r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca");
+    }
+
+    /**
+     * View of the cache that is used by a single calculation.
+     */
+    public interface View {
+
+        @Nullable
+        CalculatedChunk get(ChunkPosition chunkPosition);
+
+        void put(ChunkPosition chunkPosition, CalculatedChunk calculatedChunk);
+
+    }
+
+    private static final class CachedChunk {
+
+        private final CalculatedChunk calculatedChunk;
+        private final long size;
+
+        CachedChunk(CalculatedChunk calculatedChunk) {
+            this.calculatedChunk = calculatedChunk;
+            this.size = ENTRY_OVERHEAD + calculatedChunk.getBlockCounts().getCapacity() * COUNT_SIZE +
+                    calculatedChunk.getSpawners().size() * SPAWNER_SIZE;
+        }
+
+    }
+
+    private static final class CalculationView implements View {
+
+        private final long stamp;
+
+        CalculationView(long stamp) {
+            this.stamp = stamp;
+        }
+
+        @Override
+        public CalculatedChunk get(ChunkPosition chunkPosition) {
+            return CalculatedChunksCache.get(chunkPosition);
+        }
+
+        @Override
+        public void put(ChunkPosition chunkPosition, CalculatedChunk calculatedChunk) {
+            CalculatedChunksCache.put(chunkPosition, calculatedChunk, this.stamp);
+        }
+
+    }
+
+}
@@ -72,11 +72,15 @@ public class ChunkPosition {
 
     public long asPair() {
         if (this.pairedXZ < 0)
-            pairedXZ = (long) this.x & 4294967295L | ((long) this.z & 4294967295L) << 32;
+            pairedXZ = asPair(this.x, this.z);
 
         return pairedXZ;
     }
 
+    public static long asPair(int x, int z) {
+        return (long) x & 4294967295L | ((long) z & 4294967295L) << 32;
+    }
+
     public boolean isInsideChunk(Location location) {
         return location.getWorld().getName().equals(worldInfo.getName()) &&
                 location.getBlockX() >> 4 == x && location.getBlockZ() >> 4 == z;
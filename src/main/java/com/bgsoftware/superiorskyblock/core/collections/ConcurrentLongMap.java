@@ -0,0 +1,139 @@
+package com.bgsoftware.superiorskyblock.core.collections;
+
+import com.bgsoftware.common.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An open-addressed hash map from primitive longs to values.
+ * Lookups do not allocate objects nor take locks, and can run concurrently with writes.
+ * Writes are done under the lock of the map, and are expected to be much rarer than lookups.
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final Entry<?> REMOVED = new Entry<>(0, null);
+
+    private volatile AtomicReferenceArray<Entry<V>> table = new AtomicReferenceArray<>(MIN_CAPACITY);
+    // The amount of values and the amount of slots that are not empty, including removed slots.
+    // Both are only accessed under the lock of the map.
+    private int size = 0;
+    private int usedSlots = 0;
+
+    @Nullable
+    public V get(long key) {
+        AtomicReferenceArray<Entry<V>> table = this.table;
+        int mask = table.length() - 1;
+
+        // The table always has empty slots, so the loop always ends.
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            Entry<V> entry = table.get(index);
+            if (entry == null)
+                return null;
+            if (entry != REMOVED && entry.key == key)
+                return entry.value;
+        }
+    }
+
+    public synchronized void put(long key, V value) {
+        if ((this.usedSlots + 1) * 2 > this.table.length())
+            resize();
+
+        AtomicReferenceArray<Entry<V>> table = this.table;
+        int mask = table.length() - 1;
+        int removedIndex = -1;
+
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            Entry<V> entry = table.get(index);
+
+            if (entry == null) {
+                if (removedIndex == -1) {
+                    removedIndex = index;
+                    ++this.usedSlots;
+                }
+                table.set(removedIndex, new Entry<>(key, value));
+                ++this.size;
+                return;
+            }
+
+            if (entry == REMOVED) {
+                if (removedIndex == -1)
+                    removedIndex = index;
+            } else if (entry.key == key) {
+                table.set(index, new Entry<>(key, value));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove a key from the map, only if it is mapped to the given value.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized boolean remove(long key, V value) {
+        AtomicReferenceArray<Entry<V>> table = this.table;
+        int mask = table.length() - 1;
+
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            Entry<V> entry = table.get(index);
+
+            if (entry == null)
+                return false;
+
+            if (entry != REMOVED && entry.key == key) {
+                if (!value.equals(entry.value))
+                    return false;
+
+                table.set(index, (Entry<V>) REMOVED);
+                --this.size;
+                return true;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    private void resize() {
+        int capacity = MIN_CAPACITY;
+        while (capacity < (this.size + 1) * 4)
+            capacity <<= 1;
+
+        AtomicReferenceArray<Entry<V>> oldTable = this.table;
+        AtomicReferenceArray<Entry<V>> newTable = new AtomicReferenceArray<>(capacity);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldTable.length(); ++i) {
+            Entry<V> entry = oldTable.get(i);
+            if (entry != null && entry != REMOVED) {
+                int index = hash(entry.key) & mask;
+                while (newTable.get(index) != null)
+                    index = (index + 1) & mask;
+                newTable.set(index, entry);
+            }
+        }
+
+        // The old table is not modified anymore, so readers that still use it see a consistent view.
+        this.usedSlots = this.size;
+        this.table = newTable;
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Entry<V> {
+
+        private final long key;
+        private final V value;
+
+        Entry(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
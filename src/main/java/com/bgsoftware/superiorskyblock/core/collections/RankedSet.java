@@ -0,0 +1,259 @@
+package com.bgsoftware.superiorskyblock.core.collections;
+
+import com.bgsoftware.common.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A set of elements ordered by a comparator, that supports lookups by rank.
+ * The elements are stored in a treap whose nodes know the size of their subtrees, so adding,
+ * removing, repositioning elements and rank lookups are all done in O(log n).
+ * The comparator is only used when elements are added, so elements whose ordering values were changed
+ * can be repositioned by adding them again.
+ * This class is not thread-safe.
+ */
+public class RankedSet<E> {
+
+    private final Map<E, Node<E>> nodes = new HashMap<>();
+    private final Comparator<? super E> comparator;
+
+    @Nullable
+    private Node<E> root;
+
+    public RankedSet(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Add an element to the set, or reposition it if it already exists.
+     */
+    public void add(E element) {
+        insertNode(getOrCreateNode(element), false);
+    }
+
+    /**
+     * Add an element as the last element of the set, without comparing it to other elements.
+     * If the element already exists, it is moved to the end of the set.
+     */
+    public void addLast(E element) {
+        insertNode(getOrCreateNode(element), true);
+    }
+
+    public boolean remove(E element) {
+        Node<E> node = this.nodes.remove(element);
+
+        if (node == null)
+            return false;
+
+        removeNode(node);
+        return true;
+    }
+
+    @Nullable
+    public E get(int index) {
+        if (index < 0 || index >= size())
+            return null;
+
+        Node<E> node = this.root;
+
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the rank of an element in the set, or -1 if it doesn't exist.
+     */
+    public int indexOf(E element) {
+        Node<E> node = this.nodes.get(element);
+
+        if (node == null)
+            return -1;
+
+        int index = size(node.left);
+
+        for (Node<E> parent = node.parent; parent != null; node = parent, parent = parent.parent) {
+            if (parent.right == node)
+                index += size(parent.left) + 1;
+        }
+
+        return index;
+    }
+
+    public int size() {
+        return this.nodes.size();
+    }
+
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+
+        // In-order traversal using the parent links, so deep trees cannot overflow the stack.
+        Node<E> node = this.root;
+        while (node != null && node.left != null)
+            node = node.left;
+
+        while (node != null) {
+            elements.add(node.element);
+
+            if (node.right != null) {
+                node = node.right;
+                while (node.left != null)
+                    node = node.left;
+            } else {
+                Node<E> parent = node.parent;
+                while (parent != null && parent.right == node) {
+                    node = parent;
+                    parent = parent.parent;
+                }
+                node = parent;
+            }
+        }
+
+        return elements;
+    }
+
+    public void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    private Node<E> getOrCreateNode(E element) {
+        Node<E> node = this.nodes.get(element);
+
+        if (node == null) {
+            node = new Node<>(element);
+            this.nodes.put(element, node);
+        } else {
+            removeNode(node);
+        }
+
+        return node;
+    }
+
+    private void insertNode(Node<E> node, boolean last) {
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+
+        if (this.root == null) {
+            this.root = node;
+            return;
+        }
+
+        Node<E> current = this.root;
+
+        while (true) {
+            ++current.size;
+
+            boolean left = !last && this.comparator.compare(node.element, current.element) < 0;
+            Node<E> next = left ? current.left : current.right;
+
+            if (next == null) {
+                if (left) {
+                    current.left = node;
+                } else {
+                    current.right = node;
+                }
+                node.parent = current;
+                break;
+            }
+
+            current = next;
+        }
+
+        while (node.parent != null && node.parent.priority < node.priority)
+            rotateUp(node);
+    }
+
+    private void removeNode(Node<E> node) {
+        // Rotate the node down until it has at most one child.
+        while (node.left != null && node.right != null)
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+
+        Node<E> child = node.left != null ? node.left : node.right;
+        Node<E> parent = node.parent;
+
+        if (child != null)
+            child.parent = parent;
+
+        if (parent == null) {
+            this.root = child;
+        } else if (parent.left == node) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+
+        for (; parent != null; parent = parent.parent)
+            --parent.size;
+
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+    }
+
+    private void rotateUp(Node<E> node) {
+        Node<E> parent = node.parent;
+        Node<E> grandParent = parent.parent;
+
+        if (parent.left == node) {
+            parent.left = node.right;
+            if (node.right != null)
+                node.right.parent = parent;
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null)
+                node.left.parent = parent;
+            node.left = parent;
+        }
+
+        parent.parent = node;
+        node.parent = grandParent;
+
+        if (grandParent == null) {
+            this.root = node;
+        } else if (grandParent.left == parent) {
+            grandParent.left = node;
+        } else {
+            grandParent.right = node;
+        }
+
+        node.size = parent.size;
+        parent.size = 1 + size(parent.left) + size(parent.right);
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+
+        private final E element;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        private int size = 1;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
 import com.bgsoftware.superiorskyblock.api.handlers.GridManager;
 import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.player.container.PlayersContainer;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.Manager;
 import com.bgsoftware.superiorskyblock.core.database.bridge.GridDatabaseBridge;
@@ -13,14 +14,19 @@ import com.bgsoftware.superiorskyblock.core.database.loader.DatabaseLoader;
 import com.bgsoftware.superiorskyblock.core.database.loader.backup.BackupDatabase;
 import com.bgsoftware.superiorskyblock.core.database.loader.sql.SQLDatabaseLoader;
 import com.bgsoftware.superiorskyblock.core.database.loader.v1.DatabaseLoader_V1;
+import com.bgsoftware.superiorskyblock.core.database.serialization.BlockKeysDictionary;
 import com.bgsoftware.superiorskyblock.core.database.serialization.IslandsDeserializer;
 import com.bgsoftware.superiorskyblock.core.database.serialization.PlayersDeserializer;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
 import com.bgsoftware.superiorskyblock.core.errors.ManagerLoadException;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.island.ColdDataHydration;
 import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
 import com.bgsoftware.superiorskyblock.island.role.SPlayerRole;
+import com.bgsoftware.superiorskyblock.player.builder.SuperiorPlayerBuilderImpl;
+import com.bgsoftware.superiorskyblock.player.container.DefaultPlayersContainer;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
@@ -53,9 +59,11 @@ public class DataManager extends Manager {
         runState(DatabaseLoader.State.PRE_LOAD_DATA);
 
         if (plugin.getEventsBus().callPluginLoadDataEvent(plugin)) {
+            ColdDataHydration.init();
             loadPlayers();
             loadIslands();
             loadGrid();
+            ColdDataHydration.startEviction();
         }
 
         runState(DatabaseLoader.State.POST_LOAD_DATA);
@@ -64,7 +72,8 @@ public class DataManager extends Manager {
          *  Because of a bug caused leaders to be guests, I am looping through all the players and trying to fix it here.
          */
 
-        for (SuperiorPlayer superiorPlayer : plugin.getPlayers().getAllPlayers()) {
+        // Island leaders are loaded with their islands, so players that were not loaded yet can be skipped.
+        for (SuperiorPlayer superiorPlayer : plugin.getPlayers().getLoadedPlayers()) {
             if (superiorPlayer.getIslandLeader().getUniqueId().equals(superiorPlayer.getUniqueId()) && superiorPlayer.getIsland() != null && !superiorPlayer.getPlayerRole().isLastRole()) {
                 Log.warn("Seems like ", superiorPlayer.getName(), " is an island leader, but have a guest role - fixing it...");
                 superiorPlayer.setPlayerRole(SPlayerRole.lastRole());
@@ -116,9 +125,20 @@ public class DataManager extends Manager {
         AtomicInteger playersCount = new AtomicInteger();
         long startTime = System.currentTimeMillis();
 
-        PlayersDeserializer.deserializeMissions(playersLoader, databaseCache);
-        PlayersDeserializer.deserializePlayerSettings(playersLoader, databaseCache);
-        PlayersDeserializer.deserializePersistentDataContainer(playersLoader, databaseCache);
+        ParallelTablesLoader tablesLoader = new ParallelTablesLoader(getLoadingParallelism());
+        tablesLoader.loadTable("players_missions", () -> PlayersDeserializer.deserializeMissions(playersLoader, databaseCache));
+        tablesLoader.loadTable("players_settings", () -> PlayersDeserializer.deserializePlayerSettings(playersLoader, databaseCache));
+        tablesLoader.loadTable("players_custom_data", () -> PlayersDeserializer.deserializePersistentDataContainer(playersLoader, databaseCache));
+        tablesLoader.join();
+
+        PlayersContainer playersContainer = plugin.getPlayers().getPlayersContainer();
+        boolean lazyPlayers = plugin.getSettings().getDatabase().isLazyPlayers() &&
+                playersContainer instanceof DefaultPlayersContainer;
+
+        if (lazyPlayers) {
+            ((DefaultPlayersContainer) playersContainer).startOfflinePlayersEviction(
+                    plugin.getSettings().getDatabase().getLazyPlayersCacheSize());
+        }
 
         playersLoader.loadAllObjects("players", resultSetRaw -> {
             DatabaseResult databaseResult = new DatabaseResult(resultSetRaw);
@@ -134,13 +154,18 @@ public class DataManager extends Manager {
                 return;
             }
 
-            plugin.getPlayers().getPlayersContainer().addPlayer(databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder)
+            SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder)
                     .setUniqueId(uuid.get())
                     .setName(databaseResult.getString("last_used_name").orElse("null"))
                     .setDisbands(databaseResult.getInt("disbands").orElse(0))
                     .setTextureValue(databaseResult.getString("last_used_skin").orElse(""))
-                    .setLastTimeUpdated(databaseResult.getLong("last_time_updated").orElse(System.currentTimeMillis() / 1000))
-                    .build());
+                    .setLastTimeUpdated(databaseResult.getLong("last_time_updated").orElse(System.currentTimeMillis() / 1000));
+
+            if (lazyPlayers) {
+                ((DefaultPlayersContainer) playersContainer).addOfflinePlayer((SuperiorPlayerBuilderImpl) builder);
+            } else {
+                playersContainer.addPlayer(builder.build());
+            }
 
             playersCount.incrementAndGet();
         });
@@ -159,29 +184,36 @@ public class DataManager extends Manager {
         AtomicInteger islandsCount = new AtomicInteger();
         long startTime = System.currentTimeMillis();
 
-        IslandsDeserializer.deserializeIslandHomes(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeMembers(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBanned(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializePlayerPermissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRolePermissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeUpgrades(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeWarps(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBlockLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRatings(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeMissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandFlags(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeGenerators(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeVisitors(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeEntityLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeEffects(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandChest(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRoleLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeWarpCategories(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandBank(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeVisitorHomes(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandSettings(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBankTransactions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializePersistentDataContainer(islandsLoader, databaseCache);
+        ParallelTablesLoader tablesLoader = new ParallelTablesLoader(getLoadingParallelism());
+        tablesLoader.loadTable("islands_homes", () -> IslandsDeserializer.deserializeIslandHomes(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_members", () -> IslandsDeserializer.deserializeMembers(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_bans", () -> IslandsDeserializer.deserializeBanned(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_player_permissions", () -> IslandsDeserializer.deserializePlayerPermissions(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_role_permissions", () -> IslandsDeserializer.deserializeRolePermissions(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_upgrades", () -> IslandsDeserializer.deserializeUpgrades(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_warps", () -> IslandsDeserializer.deserializeWarps(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_block_limits", () -> IslandsDeserializer.deserializeBlockLimits(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_ratings", () -> IslandsDeserializer.deserializeRatings(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_missions", () -> IslandsDeserializer.deserializeMissions(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_flags", () -> IslandsDeserializer.deserializeIslandFlags(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_generators", () -> IslandsDeserializer.deserializeGenerators(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_entity_limits", () -> IslandsDeserializer.deserializeEntityLimits(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_effects", () -> IslandsDeserializer.deserializeEffects(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_role_limits", () -> IslandsDeserializer.deserializeRoleLimits(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_warp_categories", () -> IslandsDeserializer.deserializeWarpCategories(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_banks", () -> IslandsDeserializer.deserializeIslandBank(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_visitor_homes", () -> IslandsDeserializer.deserializeVisitorHomes(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_settings", () -> IslandsDeserializer.deserializeIslandSettings(islandsLoader, databaseCache));
+        tablesLoader.loadTable("bank_transactions", () -> IslandsDeserializer.deserializeBankTransactions(islandsLoader, databaseCache));
+        tablesLoader.loadTable("islands_custom_data", () -> IslandsDeserializer.deserializePersistentDataContainer(islandsLoader, databaseCache));
+        // Cold data of islands is loaded when accessed.
+        if (!ColdDataHydration.isEnabled()) {
+            tablesLoader.loadTable("islands_visitors", () -> IslandsDeserializer.deserializeVisitors(islandsLoader, databaseCache));
+            tablesLoader.loadTable("islands_chests", () -> IslandsDeserializer.deserializeIslandChest(islandsLoader, databaseCache));
+        }
+        if (!plugin.getFactory().hasCustomDatabaseBridge())
+            tablesLoader.loadTable("block_keys", () -> BlockKeysDictionary.loadDictionary(islandsLoader));
+        tablesLoader.join();
 
         islandsLoader.loadAllObjects("islands", resultSetRaw -> {
             DatabaseResult databaseResult = new DatabaseResult(resultSetRaw);
@@ -228,15 +260,19 @@ public class DataManager extends Manager {
                     .setUnlockedWorlds(databaseResult.getInt("unlocked_worlds").orElse(0))
                     .setLastTimeUpdated(databaseResult.getLong("last_time_updated").orElse(System.currentTimeMillis() / 1000L));
 
-            databaseResult.getString("dirty_chunks").ifPresent(dirtyChunks -> {
+            databaseResult.getBlob("dirty_chunks").ifPresent(dirtyChunks -> {
                 IslandsDeserializer.deserializeDirtyChunks(builder, dirtyChunks);
             });
 
-            databaseResult.getString("block_counts").ifPresent(blockCounts -> {
+            databaseResult.getBlob("block_counts").ifPresent(blockCounts -> {
                 IslandsDeserializer.deserializeBlockCounts(builder, blockCounts);
             });
 
-            plugin.getGrid().getIslandsContainer().addIsland(builder.build());
+            ((IslandBuilderImpl) builder).coldDataLoaded = !ColdDataHydration.isEnabled();
+
+            Island island = builder.build();
+            plugin.getGrid().getIslandsContainer().addIsland(island);
+            plugin.getGrid().getIslandNamesIndex().addIsland(island);
 
             islandsCount.incrementAndGet();
         });
@@ -258,6 +294,15 @@ public class DataManager extends Manager {
         Log.info("Finished grid!");
     }
 
+    private int getLoadingParallelism() {
+        // Custom database bridges and local databases are loaded sequentially, as they may not
+        // support being accessed from multiple threads at the same time.
+        if (plugin.getFactory().hasCustomDatabaseBridge() || !SQLHelper.supportsParallelQueries())
+            return 1;
+
+        return plugin.getSettings().getDatabase().getLoadingThreads();
+    }
+
     private void runState(DatabaseLoader.State state) throws ManagerLoadException {
         for (DatabaseLoader databaseLoader : databaseLoaders) {
             databaseLoader.setState(state);
@@ -0,0 +1,55 @@
+package com.bgsoftware.superiorskyblock.core.database;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads independent tables of the database concurrently.
+ * When created with a parallelism of 1, tables are loaded directly on the calling thread.
+ */
+public class ParallelTablesLoader {
+
+    private final List<CompletableFuture<Void>> loadTasks = new LinkedList<>();
+    @Nullable
+    private final ExecutorService executor;
+
+    public ParallelTablesLoader(int parallelism) {
+        this.executor = parallelism <= 1 ? null : Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("SuperiorSkyblock Loading Thread #%d").build());
+    }
+
+    public void loadTable(String tableName, Runnable loadTask) {
+        Runnable timedLoadTask = () -> {
+            long startTime = System.currentTimeMillis();
+            loadTask.run();
+            long endTime = System.currentTimeMillis();
+            Log.info("Finished loading table " + tableName + " (Took " + (endTime - startTime) + "ms)");
+        };
+
+        if (this.executor == null) {
+            timedLoadTask.run();
+        } else {
+            this.loadTasks.add(CompletableFuture.runAsync(timedLoadTask, this.executor));
+        }
+    }
+
+    public void join() {
+        if (this.executor == null)
+            return;
+
+        try {
+            CompletableFuture.allOf(this.loadTasks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            this.loadTasks.clear();
+            this.executor.shutdown();
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.bgsoftware.superiorskyblock.core.database.bridge;
 
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
@@ -18,17 +19,27 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.api.upgrades.Upgrade;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
+import com.bgsoftware.superiorskyblock.core.database.serialization.CompactIslandsSerializer;
 import com.bgsoftware.superiorskyblock.core.database.serialization.IslandsSerializer;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLQueries;
+import com.bgsoftware.superiorskyblock.core.database.sql.StatementsJournal;
 import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.chunk.DirtyChunksContainer;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -41,7 +52,11 @@ import java.util.function.Consumer;
 @SuppressWarnings("unchecked")
 public class IslandsDatabaseBridge {
 
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
     private static final Map<UUID, Map<FutureSave, Set<Object>>> SAVE_METHODS_TO_BE_EXECUTED = new ConcurrentHashMap<>();
+    private static final Map<UUID, Set<FutureSave>> FUTURE_SAVES_TO_JOURNAL = new ConcurrentHashMap<>();
+    // The journal entries of the future saves of islands. Only accessed while holding its lock.
+    private static final Map<UUID, Map<FutureSave, Long>> JOURNALED_FUTURE_SAVES = new HashMap<>();
 
     private IslandsDatabaseBridge() {
     }
@@ -469,22 +484,20 @@ public class IslandsDatabaseBridge {
     public static void saveDirtyChunks(DirtyChunksContainer dirtyChunksContainer) {
         runOperationIfRunning(dirtyChunksContainer.getIsland().getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", dirtyChunksContainer.getIsland()),
-                new Pair<>("dirty_chunks", IslandsSerializer.serializeDirtyChunkPositions(dirtyChunksContainer.getDirtyChunks()))
+                new Pair<>("dirty_chunks", serializeDirtyChunks(dirtyChunksContainer.getDirtyChunks()))
         ));
     }
 
     public static void saveBlockCounts(Island island) {
         runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
-                new Pair<>("block_counts", IslandsSerializer.serializeBlockCounts(island.getBlockCountsAsBigInteger()))
+                createBlockCountsColumns(island, databaseBridge)
         ));
     }
 
     public static void saveIslandChest(Island island, IslandChest islandChest) {
         runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_chests",
-                new Pair<>("island", island.getUniqueId().toString()),
-                new Pair<>("index", islandChest.getIndex()),
-                new Pair<>("contents", Serializers.INVENTORY_SERIALIZER.serialize(islandChest.getContents()))
+                createIslandChestColumns(island, islandChest)
         ));
     }
 
@@ -575,8 +588,7 @@ public class IslandsDatabaseBridge {
 
     public static void savePersistentDataContainer(Island island) {
         runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_custom_data",
-                new Pair<>("island", island.getUniqueId().toString()),
-                new Pair<>("data", island.getPersistentDataContainer().serialize())
+                createPersistentDataColumns(island)
         ));
     }
 
@@ -604,8 +616,8 @@ public class IslandsDatabaseBridge {
                     new Pair<>("generated_schematics", island.getGeneratedSchematicsFlag()),
                     new Pair<>("unlocked_worlds", island.getUnlockedWorldsFlag()),
                     new Pair<>("last_time_updated", System.currentTimeMillis() / 1000L),
-                    new Pair<>("dirty_chunks", IslandsSerializer.serializeDirtyChunkPositions(dirtyChunks)),
-                    new Pair<>("block_counts", IslandsSerializer.serializeBlockCounts(island.getBlockCountsAsBigInteger()))
+                    new Pair<>("dirty_chunks", serializeDirtyChunks(dirtyChunks)),
+                    new Pair<>("block_counts", serializeBlockCounts(island.getBlockCountsAsBigInteger(), databaseBridge))
             );
 
             databaseBridge.insertObject("islands_banks",
@@ -629,6 +641,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void deleteIsland(Island island) {
+        releaseJournaledFutureSaves(island, EnumSet.allOf(FutureSave.class));
         runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> {
             DatabaseFilter islandFilter = createFilter("island", island);
             databaseBridge.deleteObject("islands", createFilter("uuid", island));
@@ -661,6 +674,7 @@ public class IslandsDatabaseBridge {
         SAVE_METHODS_TO_BE_EXECUTED.computeIfAbsent(island.getUniqueId(), u -> new EnumMap<>(FutureSave.class))
                 .computeIfAbsent(FutureSave.ISLAND_CHESTS, e -> new HashSet<>())
                 .add(islandChest);
+        markFutureSaveToBeJournaled(island, FutureSave.ISLAND_CHESTS);
     }
 
     public static void markBlockCountsToBeSaved(Island island) {
@@ -668,6 +682,7 @@ public class IslandsDatabaseBridge {
                 .computeIfAbsent(FutureSave.BLOCK_COUNTS, e -> new HashSet<>());
         if (varsForBlockCounts.isEmpty())
             varsForBlockCounts.add(new Object());
+        markFutureSaveToBeJournaled(island, FutureSave.BLOCK_COUNTS);
     }
 
     public static void markPersistentDataContainerToBeSaved(Island island) {
@@ -675,6 +690,40 @@ public class IslandsDatabaseBridge {
                 .computeIfAbsent(FutureSave.PERSISTENT_DATA, e -> new HashSet<>());
         if (varsForPersistentData.isEmpty())
             varsForPersistentData.add(new Object());
+        markFutureSaveToBeJournaled(island, FutureSave.PERSISTENT_DATA);
+    }
+
+    /**
+     * Write the future saves of islands that were modified since the last call to the {@link StatementsJournal}.
+     * Each future save of an island keeps a single journal entry with its latest state, which is released
+     * once the future save is executed.
+     * Future saves are serialized and journaled by the database thread of their island, never by the main thread.
+     */
+    public static void journalFutureSaves() {
+        if (FUTURE_SAVES_TO_JOURNAL.isEmpty())
+            return;
+
+        Iterator<Map.Entry<UUID, Set<FutureSave>>> iterator = FUTURE_SAVES_TO_JOURNAL.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Set<FutureSave>> entry = iterator.next();
+            iterator.remove();
+
+            UUID islandUUID = entry.getKey();
+            Island island = plugin.getGrid().getIslandByUUID(islandUUID);
+
+            if (island == null)
+                continue;
+
+            for (FutureSave futureSave : entry.getValue())
+                BukkitExecutor.data(islandUUID, () -> journalFutureSave(island, futureSave));
+        }
+    }
+
+    public static Map<FutureSave, Integer> getPendingFutureSaves() {
+        Map<FutureSave, Integer> pendingFutureSaves = new EnumMap<>(FutureSave.class);
+        SAVE_METHODS_TO_BE_EXECUTED.values().forEach(futureSaves -> futureSaves.keySet().forEach(futureSave ->
+                pendingFutureSaves.merge(futureSave, 1, Integer::sum)));
+        return pendingFutureSaves;
     }
 
     public static boolean isModified(Island island) {
@@ -683,7 +732,13 @@ public class IslandsDatabaseBridge {
 
     public static void executeFutureSaves(Island island) {
         Map<FutureSave, Set<Object>> futureSaves = SAVE_METHODS_TO_BE_EXECUTED.remove(island.getUniqueId());
-        if (futureSaves != null) {
+        if (futureSaves == null)
+            return;
+
+        DatabaseBridge databaseBridge = island.getDatabaseBridge();
+
+        try {
+            databaseBridge.batchOperations(true);
             for (Map.Entry<FutureSave, Set<Object>> futureSaveEntry : futureSaves.entrySet()) {
                 switch (futureSaveEntry.getKey()) {
                     case BLOCK_COUNTS:
@@ -698,6 +753,10 @@ public class IslandsDatabaseBridge {
                         break;
                 }
             }
+        } finally {
+            databaseBridge.batchOperations(false);
+            // The statements of the saves are journaled by themselves.
+            releaseJournaledFutureSaves(island, futureSaves.keySet());
         }
     }
 
@@ -731,6 +790,122 @@ public class IslandsDatabaseBridge {
                 break;
             }
         }
+
+        releaseJournaledFutureSaves(island, Collections.singleton(futureSave));
+    }
+
+    private static void markFutureSaveToBeJournaled(Island island, FutureSave futureSave) {
+        if (StatementsJournal.isEnabled()) {
+            FUTURE_SAVES_TO_JOURNAL.computeIfAbsent(island.getUniqueId(), u -> ConcurrentHashMap.newKeySet())
+                    .add(futureSave);
+        }
+    }
+
+    private static void journalFutureSave(Island island, FutureSave futureSave) {
+        synchronized (JOURNALED_FUTURE_SAVES) {
+            // The future save may have been executed, or the island may have been deleted, since it was marked.
+            Map<FutureSave, Set<Object>> futureSaves = SAVE_METHODS_TO_BE_EXECUTED.get(island.getUniqueId());
+            Set<Object> values = futureSaves == null ? null : futureSaves.get(futureSave);
+            if (values == null || plugin.getGrid().getIslandByUUID(island.getUniqueId()) != island)
+                return;
+
+            long journalEntry = StatementsJournal.append(buildFutureSaveStatements(island, futureSave, values));
+            // If the new state could not be journaled, the older state is kept, as it is still newer than the database.
+            if (journalEntry >= 0) {
+                Long oldJournalEntry = JOURNALED_FUTURE_SAVES.computeIfAbsent(island.getUniqueId(),
+                        u -> new EnumMap<>(FutureSave.class)).put(futureSave, journalEntry);
+                if (oldJournalEntry != null)
+                    StatementsJournal.release(oldJournalEntry);
+            }
+        }
+    }
+
+    private static void releaseJournaledFutureSaves(Island island, Collection<FutureSave> futureSaves) {
+        Set<FutureSave> futureSavesToJournal = FUTURE_SAVES_TO_JOURNAL.get(island.getUniqueId());
+        if (futureSavesToJournal != null)
+            futureSavesToJournal.removeAll(futureSaves);
+
+        synchronized (JOURNALED_FUTURE_SAVES) {
+            Map<FutureSave, Long> journalEntries = JOURNALED_FUTURE_SAVES.get(island.getUniqueId());
+
+            if (journalEntries == null)
+                return;
+
+            for (FutureSave futureSave : futureSaves) {
+                Long journalEntry = journalEntries.remove(futureSave);
+                if (journalEntry != null)
+                    StatementsJournal.release(journalEntry);
+            }
+
+            if (journalEntries.isEmpty())
+                JOURNALED_FUTURE_SAVES.remove(island.getUniqueId());
+        }
+    }
+
+    private static List<StatementsJournal.Statement> buildFutureSaveStatements(Island island, FutureSave futureSave,
+                                                                             Set<Object> values) {
+        List<StatementsJournal.Statement> statements = new LinkedList<>();
+
+        switch (futureSave) {
+            case BLOCK_COUNTS: {
+                Pair<String, Object> blockCounts = createBlockCountsColumns(island, island.getDatabaseBridge());
+                statements.add(new StatementsJournal.Statement(SQLQueries.update("islands",
+                        Collections.singletonList(blockCounts.getKey()), new String[]{"uuid"}),
+                        new Object[]{blockCounts.getValue(), island.getUniqueId().toString()}));
+                break;
+            }
+            case ISLAND_CHESTS:
+                for (Object islandChest : values)
+                    statements.add(buildInsertStatement("islands_chests", createIslandChestColumns(island, (IslandChest) islandChest)));
+                break;
+            case PERSISTENT_DATA:
+                if (island.isPersistentDataContainerEmpty()) {
+                    statements.add(new StatementsJournal.Statement(SQLQueries.delete("islands_custom_data",
+                            createFilter("island", island)), new Object[]{island.getUniqueId().toString()}));
+                } else {
+                    statements.add(buildInsertStatement("islands_custom_data", createPersistentDataColumns(island)));
+                }
+                break;
+        }
+
+        return statements;
+    }
+
+    private static StatementsJournal.Statement buildInsertStatement(String table, Pair<String, Object>[] columns) {
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; ++i)
+            values[i] = columns[i].getValue();
+        return new StatementsJournal.Statement(SQLQueries.insert(table, columns), values);
+    }
+
+    private static Pair<String, Object> createBlockCountsColumns(Island island, DatabaseBridge databaseBridge) {
+        return new Pair<>("block_counts", serializeBlockCounts(island.getBlockCountsAsBigInteger(), databaseBridge));
+    }
+
+    private static Pair<String, Object>[] createIslandChestColumns(Island island, IslandChest islandChest) {
+        return new Pair[]{
+                new Pair<>("island", island.getUniqueId().toString()),
+                new Pair<>("index", islandChest.getIndex()),
+                new Pair<>("contents", Serializers.INVENTORY_SERIALIZER.serialize(islandChest.getContents()))
+        };
+    }
+
+    private static Pair<String, Object>[] createPersistentDataColumns(Island island) {
+        return new Pair[]{
+                new Pair<>("island", island.getUniqueId().toString()),
+                new Pair<>("data", island.getPersistentDataContainer().serialize())
+        };
+    }
+
+    private static Object serializeBlockCounts(Map<Key, BigInteger> blockCounts, DatabaseBridge databaseBridge) {
+        // Custom database bridges keep receiving the json format, as they may not support binary data.
+        return plugin.getFactory().hasCustomDatabaseBridge() ? IslandsSerializer.serializeBlockCounts(blockCounts) :
+                CompactIslandsSerializer.serializeBlockCounts(blockCounts, databaseBridge);
+    }
+
+    private static Object serializeDirtyChunks(List<ChunkPosition> dirtyChunks) {
+        return plugin.getFactory().hasCustomDatabaseBridge() ? IslandsSerializer.serializeDirtyChunkPositions(dirtyChunks) :
+                CompactIslandsSerializer.serializeDirtyChunks(dirtyChunks);
     }
 
     private static DatabaseFilter createFilter(String id, Island island, Pair<String, Object>... others) {
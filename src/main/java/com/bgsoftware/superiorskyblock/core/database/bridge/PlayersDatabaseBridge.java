@@ -207,6 +207,13 @@ public class PlayersDatabaseBridge {
             varsForPersistentData.add(new Object());
     }
 
+    public static Map<FutureSave, Integer> getPendingFutureSaves() {
+        Map<FutureSave, Integer> pendingFutureSaves = new EnumMap<>(FutureSave.class);
+        SAVE_METHODS_TO_BE_EXECUTED.values().forEach(futureSaves -> futureSaves.keySet().forEach(futureSave ->
+                pendingFutureSaves.merge(futureSave, 1, Integer::sum)));
+        return pendingFutureSaves;
+    }
+
     public static boolean isModified(SuperiorPlayer superiorPlayer) {
         return SAVE_METHODS_TO_BE_EXECUTED.containsKey(superiorPlayer.getUniqueId());
     }
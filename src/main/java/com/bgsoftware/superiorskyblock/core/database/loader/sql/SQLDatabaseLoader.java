@@ -4,9 +4,14 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.database.bridge.GridDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.database.loader.MachineStateDatabaseLoader;
+import com.bgsoftware.superiorskyblock.core.database.sql.DatabaseStats;
 import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
+import com.bgsoftware.superiorskyblock.core.database.sql.StatementsJournal;
+import com.bgsoftware.superiorskyblock.core.database.sql.WriteBehindJournal;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.RemoteSQLSession;
 import com.bgsoftware.superiorskyblock.core.errors.ManagerLoadException;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 
 import java.sql.ResultSet;
 
@@ -30,9 +35,17 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
                     ManagerLoadException.ErrorLevel.SERVER_SHUTDOWN);
         }
 
+        // Each database thread uses a single connection at a time, so there is no point in having
+        // more threads than connections in the pool.
+        if (SQLHelper.supportsParallelQueries()) {
+            BukkitExecutor.startDataThreads(Math.min(plugin.getSettings().getDatabase().getDataThreads(),
+                    RemoteSQLSession.MAXIMUM_POOL_SIZE));
+        }
+
         createIslandsTable();
         createPlayersTable();
         createGridTable();
+        createBlockKeysTable();
         createBankTransactionsTable();
         createStackedBlocksTable();
 
@@ -99,22 +112,33 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
         SQLHelper.createIndex("islands_warps_index", "islands_warps",
                 "island", "name");
 
+        // Positions of old transactions are not guaranteed to be unique.
+        SQLHelper.createNonUniqueIndex("bank_transactions_index", "bank_transactions",
+                "island", "position");
+
         SQLHelper.createIndex("players_missions_index", "players_missions",
                 "player", "name");
     }
 
     @Override
     protected void handlePreLoadData() {
+        // Operations that were not saved before the last shutdown are executed before loading the data.
+        StatementsJournal.open(plugin);
         SQLHelper.setJournalMode("MEMORY", QueryResult.EMPTY_QUERY_RESULT);
     }
 
     @Override
     protected void handlePostLoadData() {
         SQLHelper.setJournalMode("DELETE", QueryResult.EMPTY_QUERY_RESULT);
+        WriteBehindJournal.start(plugin);
+        StatementsJournal.start(plugin);
+        DatabaseStats.startLogging(plugin);
     }
 
     @Override
     protected void handleShutdown() {
+        WriteBehindJournal.shutdown();
+        StatementsJournal.shutdown();
         SQLHelper.close();
     }
 
@@ -137,12 +161,14 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
                 new Pair<>("generated_schematics", "INTEGER"),
                 new Pair<>("unlocked_worlds", "INTEGER"),
                 new Pair<>("last_time_updated", "BIGINT"),
-                new Pair<>("dirty_chunks", "LONGTEXT"),
-                new Pair<>("block_counts", "LONGTEXT")
+                new Pair<>("dirty_chunks", "LONGBLOB"),
+                new Pair<>("block_counts", "LONGBLOB")
         );
 
-        SQLHelper.modifyColumnType("islands", "dirty_chunks", "LONGTEXT");
-        SQLHelper.modifyColumnType("islands", "block_counts", "LONGTEXT");
+        // Up to v2024.1, dirty chunks and block counts were saved as json text.
+        // They are now saved in a compact binary format, while old text values are still readable.
+        SQLHelper.modifyColumnType("islands", "dirty_chunks", "LONGBLOB");
+        SQLHelper.modifyColumnType("islands", "block_counts", "LONGBLOB");
 
         SQLHelper.createTable("islands_banks",
                 new Pair<>("island", "UUID PRIMARY KEY"),
@@ -352,6 +378,14 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private void createBlockKeysTable() {
+        SQLHelper.createTable("block_keys",
+                new Pair<>("id", "INTEGER PRIMARY KEY"),
+                new Pair<>("name", "LONG_UNIQUE_TEXT")
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private void createBankTransactionsTable() {
         SQLHelper.createTable("bank_transactions",
@@ -0,0 +1,160 @@
+package com.bgsoftware.superiorskyblock.core.database.serialization;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.core.Mutable;
+import com.bgsoftware.superiorskyblock.core.database.DatabaseResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLQueries;
+import com.bgsoftware.superiorskyblock.core.database.sql.StatementHolder;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dictionary of all the block keys that were written to the database in the compact binary format.
+ * Each key is given a unique id once, which is then used when serializing block counts of islands.
+ * The dictionary is append-only, so ids are never reused for other keys.
+ * Ids of new keys are reserved in memory, and their rows are inserted by the database threads.
+ * Rows that use an id before its key was inserted wait for the insert on the database thread of their shard.
+ */
+public class BlockKeysDictionary {
+
+    private static final Map<String, Integer> KEYS_TO_IDS = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> IDS_TO_KEYS = new ConcurrentHashMap<>();
+    private static final Map<Integer, PendingKey> PENDING_KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
+
+    private BlockKeysDictionary() {
+
+    }
+
+    public static void loadDictionary(DatabaseBridge databaseBridge) {
+        databaseBridge.loadAllObjects("block_keys", blockKeyRow -> {
+            DatabaseResult blockKey = new DatabaseResult(blockKeyRow);
+
+            Optional<Integer> id = blockKey.getInt("id");
+            Optional<String> name = blockKey.getString("name");
+            if (!id.isPresent() || !name.isPresent()) {
+                Log.warn("Cannot load block key with invalid id or name, skipping...");
+                return;
+            }
+
+            registerKey(id.get(), name.get());
+        });
+    }
+
+    public static int getOrCreateId(String key, DatabaseBridge databaseBridge) {
+        Integer id = KEYS_TO_IDS.get(key);
+
+        if (id == null) {
+            Mutable<PendingKey> createdKey = new Mutable<>(null);
+
+            id = KEYS_TO_IDS.computeIfAbsent(key, k -> {
+                int newId = NEXT_ID.getAndIncrement();
+                IDS_TO_KEYS.put(newId, k);
+                if (databaseBridge.getDatabaseBridgeMode() == DatabaseBridgeMode.SAVE_DATA) {
+                    PendingKey pendingKey = new PendingKey(newId, k, databaseBridge);
+                    PENDING_KEYS.put(newId, pendingKey);
+                    createdKey.setValue(pendingKey);
+                }
+                return newId;
+            });
+
+            if (createdKey.getValue() != null && !(databaseBridge instanceof SQLDatabaseBridge)) {
+                // Other bridges execute their operations in the order they are called.
+                createdKey.getValue().insert();
+                return id;
+            }
+
+            if (createdKey.getValue() != null && !BukkitExecutor.isDataThread())
+                BukkitExecutor.data(createdKey.getValue()::insert);
+        }
+
+        PendingKey pendingKey = PENDING_KEYS.get(id);
+        if (pendingKey != null && databaseBridge instanceof SQLDatabaseBridge)
+            waitForInsert(pendingKey, ((SQLDatabaseBridge) databaseBridge).getShardKey());
+
+        return id;
+    }
+
+    @Nullable
+    public static String getKey(int id) {
+        return IDS_TO_KEYS.get(id);
+    }
+
+    private static void waitForInsert(PendingKey pendingKey, @Nullable UUID shardKey) {
+        if (BukkitExecutor.isDataThread()) {
+            // Statements of database threads are executed right away, so the key is inserted before they are.
+            // The insert is executed by this thread if it was not started yet, so we never wait for queued tasks.
+            pendingKey.insert();
+            pendingKey.join();
+        } else {
+            // Statements of other threads are queued to the database thread of their shard, therefore
+            // queueing the insert before them makes sure they are executed after it.
+            BukkitExecutor.data(shardKey, () -> {
+                pendingKey.insert();
+                pendingKey.join();
+            });
+        }
+    }
+
+    private static void registerKey(int id, String key) {
+        KEYS_TO_IDS.put(key, id);
+        IDS_TO_KEYS.put(id, key);
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private static class PendingKey {
+
+        private final AtomicBoolean insertStarted = new AtomicBoolean(false);
+        private final CompletableFuture<Void> insertTask = new CompletableFuture<>();
+        private final int id;
+        private final String key;
+        private final DatabaseBridge databaseBridge;
+
+        PendingKey(int id, String key, DatabaseBridge databaseBridge) {
+            this.id = id;
+            this.key = key;
+            this.databaseBridge = databaseBridge;
+        }
+
+        @SuppressWarnings("unchecked")
+        void insert() {
+            if (!this.insertStarted.compareAndSet(false, true))
+                return;
+
+            try {
+                Pair<String, Object>[] columns = new Pair[]{new Pair<>("id", this.id), new Pair<>("name", this.key)};
+
+                if (this.databaseBridge instanceof SQLDatabaseBridge) {
+                    // The key is inserted by the current thread instead of the database thread of the bridge.
+                    StatementHolder statementHolder = new StatementHolder(SQLQueries.insert("block_keys", columns));
+                    for (Pair<String, Object> column : columns)
+                        statementHolder.setObject(column.getValue());
+                    statementHolder.execute(false);
+                } else {
+                    this.databaseBridge.insertObject("block_keys", columns);
+                }
+            } finally {
+                PENDING_KEYS.remove(this.id, this);
+                this.insertTask.complete(null);
+            }
+        }
+
+        void join() {
+            this.insertTask.join();
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.bgsoftware.superiorskyblock.core.database.serialization;
+
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.core.ChunkPosition;
+import com.bgsoftware.superiorskyblock.core.key.Keys;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format for the block counts and dirty chunks of islands.
+ * <p>
+ * All values start with a zero byte, which cannot be the first byte of the legacy json format,
+ * followed by the version of the format.
+ * <p>
+ * Block counts (version 1): amounts type, entries count, and then for each entry the id of the key
+ * in the {@link BlockKeysDictionary} and its amount, as varints. Amounts that do not fit in a long
+ * are written as the bytes of the BigInteger instead.
+ * <p>
+ * Dirty chunks (version 1): worlds count, and then for each world its name, the minimum chunk
+ * coordinates and the z-axis length of the chunks area, followed by a bitset of the dirty chunks.
+ */
+public class CompactIslandsSerializer {
+
+    private static final byte FORMAT_MAGIC = 0;
+    private static final byte BLOCK_COUNTS_VERSION = 1;
+    private static final byte DIRTY_CHUNKS_VERSION = 1;
+
+    private static final byte AMOUNTS_LONG = 0;
+    private static final byte AMOUNTS_BIG_INTEGER = 1;
+
+    private CompactIslandsSerializer() {
+
+    }
+
+    public static boolean isCompactFormat(byte[] data) {
+        return data.length >= 2 && data[0] == FORMAT_MAGIC;
+    }
+
+    public static byte[] serializeBlockCounts(Map<Key, BigInteger> blockCounts, DatabaseBridge databaseBridge) {
+        boolean bigAmounts = false;
+        for (BigInteger amount : blockCounts.values()) {
+            if (amount.bitLength() > 63) {
+                bigAmounts = true;
+                break;
+            }
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(8 + blockCounts.size() * 4);
+        output.write(FORMAT_MAGIC);
+        output.write(BLOCK_COUNTS_VERSION);
+        output.write(bigAmounts ? AMOUNTS_BIG_INTEGER : AMOUNTS_LONG);
+        writeVarInt(output, blockCounts.size());
+
+        for (Map.Entry<Key, BigInteger> entry : blockCounts.entrySet()) {
+            writeVarInt(output, BlockKeysDictionary.getOrCreateId(entry.getKey().toString(), databaseBridge));
+            if (bigAmounts) {
+                byte[] amount = entry.getValue().toByteArray();
+                writeVarInt(output, amount.length);
+                output.write(amount, 0, amount.length);
+            } else {
+                writeVarLong(output, zigZag(entry.getValue().longValue()));
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    public static byte[] serializeDirtyChunks(List<ChunkPosition> dirtyChunks) {
+        Map<String, List<ChunkPosition>> dirtyChunksByWorlds = new LinkedHashMap<>();
+        dirtyChunks.forEach(dirtyChunk -> dirtyChunksByWorlds.computeIfAbsent(dirtyChunk.getWorldName(),
+                w -> new LinkedList<>()).add(dirtyChunk));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(FORMAT_MAGIC);
+        output.write(DIRTY_CHUNKS_VERSION);
+        writeVarInt(output, dirtyChunksByWorlds.size());
+
+        dirtyChunksByWorlds.forEach((worldName, worldDirtyChunks) -> {
+            int minX = Integer.MAX_VALUE;
+            int minZ = Integer.MAX_VALUE;
+            int maxZ = Integer.MIN_VALUE;
+
+            for (ChunkPosition dirtyChunk : worldDirtyChunks) {
+                minX = Math.min(minX, dirtyChunk.getX());
+                minZ = Math.min(minZ, dirtyChunk.getZ());
+                maxZ = Math.max(maxZ, dirtyChunk.getZ());
+            }
+
+            int lengthZ = maxZ - minZ + 1;
+
+            BitSet dirtyChunksBitset = new BitSet();
+            for (ChunkPosition dirtyChunk : worldDirtyChunks)
+                dirtyChunksBitset.set((dirtyChunk.getX() - minX) * lengthZ + (dirtyChunk.getZ() - minZ));
+
+            writeBytes(output, worldName.getBytes(StandardCharsets.UTF_8));
+            writeVarLong(output, zigZag(minX));
+            writeVarLong(output, zigZag(minZ));
+            writeVarInt(output, lengthZ);
+            writeBytes(output, dirtyChunksBitset.toByteArray());
+        });
+
+        return output.toByteArray();
+    }
+
+    public static void deserializeBlockCounts(Island.Builder builder, byte[] blockCounts) {
+        try {
+            Reader reader = new Reader(blockCounts);
+
+            byte version = reader.readHeader();
+            if (version != BLOCK_COUNTS_VERSION)
+                throw new IllegalArgumentException("Unsupported block counts version: " + version);
+
+            boolean bigAmounts = reader.readByte() == AMOUNTS_BIG_INTEGER;
+            int entriesCount = reader.readVarInt();
+
+            for (int i = 0; i < entriesCount; ++i) {
+                int keyId = reader.readVarInt();
+                BigInteger amount = bigAmounts ? new BigInteger(reader.readBytes()) :
+                        BigInteger.valueOf(unZigZag(reader.readVarLong()));
+
+                String key = BlockKeysDictionary.getKey(keyId);
+                if (key == null) {
+                    Log.warn("Cannot load block count with unrecognized key id: ", keyId, ", skipping...");
+                    continue;
+                }
+
+                builder.setBlockCount(Keys.ofMaterialAndData(key), amount);
+            }
+        } catch (RuntimeException error) {
+            Log.error(error, "An unexpected error occurred while deserializing block counts:");
+        }
+    }
+
+    public static void deserializeDirtyChunks(Island.Builder builder, byte[] dirtyChunks) {
+        try {
+            Reader reader = new Reader(dirtyChunks);
+
+            byte version = reader.readHeader();
+            if (version != DIRTY_CHUNKS_VERSION)
+                throw new IllegalArgumentException("Unsupported dirty chunks version: " + version);
+
+            int worldsCount = reader.readVarInt();
+
+            for (int i = 0; i < worldsCount; ++i) {
+                String worldName = new String(reader.readBytes(), StandardCharsets.UTF_8);
+                int minX = (int) unZigZag(reader.readVarLong());
+                int minZ = (int) unZigZag(reader.readVarLong());
+                int lengthZ = reader.readVarInt();
+                BitSet dirtyChunksBitset = BitSet.valueOf(reader.readBytes());
+
+                if (lengthZ <= 0)
+                    continue;
+
+                for (int j = dirtyChunksBitset.nextSetBit(0); j >= 0; j = dirtyChunksBitset.nextSetBit(j + 1))
+                    builder.setDirtyChunk(worldName, minX + j / lengthZ, minZ + j % lengthZ);
+            }
+        } catch (RuntimeException error) {
+            Log.error(error, "An unexpected error occurred while deserializing dirty chunks:");
+        }
+    }
+
+    private static void writeBytes(ByteArrayOutputStream output, byte[] bytes) {
+        writeVarInt(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream output, int value) {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position = 0;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        byte readHeader() {
+            if (readByte() != FORMAT_MAGIC)
+                throw new IllegalArgumentException("Data is not in the compact format");
+            return readByte();
+        }
+
+        byte readByte() {
+            return data[position++];
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte currentByte;
+
+            do {
+                if (shift >= 64)
+                    throw new IllegalArgumentException("VarLong is too big");
+                currentByte = readByte();
+                value |= (long) (currentByte & 0x7F) << shift;
+                shift += 7;
+            } while ((currentByte & 0x80) != 0);
+
+            return value;
+        }
+
+        byte[] readBytes() {
+            int length = readVarInt();
+            if (length < 0 || position + length > data.length)
+                throw new IllegalArgumentException("Invalid bytes length: " + length);
+
+            byte[] bytes = new byte[length];
+            System.arraycopy(data, position, bytes, 0, length);
+            position += length;
+            return bytes;
+        }
+
+    }
+
+}
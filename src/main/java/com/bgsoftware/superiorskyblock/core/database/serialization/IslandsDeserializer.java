@@ -2,6 +2,7 @@ package com.bgsoftware.superiorskyblock.core.database.serialization;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
 import com.bgsoftware.superiorskyblock.api.enums.Rating;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandFlag;
@@ -39,6 +40,8 @@ import org.bukkit.potion.PotionEffectType;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -117,31 +120,7 @@ public class IslandsDeserializer {
     }
 
     public static void deserializeVisitors(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("islands_visitors", visitorsRow -> {
-            DatabaseResult visitors = new DatabaseResult(visitorsRow);
-
-            Optional<UUID> islandUUID = visitors.getUUID("island");
-            if (!islandUUID.isPresent()) {
-                Log.warn("Cannot load island visitors for null islands, skipping...");
-                return;
-            }
-
-            Optional<UUID> uuid = visitors.getUUID("player");
-            if (!uuid.isPresent()) {
-                Log.warn("Cannot load island visitors with invalid uuids for ", islandUUID.get(), ", skipping...");
-                return;
-            }
-
-            SuperiorPlayer visitorPlayer = plugin.getPlayers().getSuperiorPlayer(uuid.get(), false);
-            if (visitorPlayer == null) {
-                Log.warn("Cannot load island visitor with unrecognized uuid: " + uuid.get() + ", skipping...");
-                return;
-            }
-
-            Island.Builder builder = databaseCache.computeIfAbsentInfo(islandUUID.get(), IslandBuilderImpl::new);
-            long visitTime = visitors.getLong("visit_time").orElse(System.currentTimeMillis());
-            builder.addUniqueVisitor(visitorPlayer, visitTime);
-        });
+        databaseBridge.loadAllObjects("islands_visitors", visitorsRow -> deserializeVisitor(visitorsRow, databaseCache));
     }
 
     public static void deserializePlayerPermissions(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
@@ -280,6 +259,14 @@ public class IslandsDeserializer {
         });
     }
 
+    public static void deserializeDirtyChunks(Island.Builder builder, byte[] dirtyChunks) {
+        if (CompactIslandsSerializer.isCompactFormat(dirtyChunks)) {
+            CompactIslandsSerializer.deserializeDirtyChunks(builder, dirtyChunks);
+        } else {
+            deserializeDirtyChunks(builder, new String(dirtyChunks, StandardCharsets.UTF_8));
+        }
+    }
+
     public static void deserializeDirtyChunks(Island.Builder builder, String dirtyChunks) {
         if (Text.isBlank(dirtyChunks))
             return;
@@ -326,6 +313,14 @@ public class IslandsDeserializer {
         }
     }
 
+    public static void deserializeBlockCounts(Island.Builder builder, byte[] blocks) {
+        if (CompactIslandsSerializer.isCompactFormat(blocks)) {
+            CompactIslandsSerializer.deserializeBlockCounts(builder, blocks);
+        } else {
+            deserializeBlockCounts(builder, new String(blocks, StandardCharsets.UTF_8));
+        }
+    }
+
     public static void deserializeBlockCounts(Island.Builder builder, String blocks) {
         if (Text.isBlank(blocks))
             return;
@@ -624,48 +619,7 @@ public class IslandsDeserializer {
     }
 
     public static void deserializeIslandChest(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("islands_chests", islandChestsRow -> {
-            DatabaseResult islandChests = new DatabaseResult(islandChestsRow);
-
-            Optional<UUID> uuid = islandChests.getUUID("island");
-            if (!uuid.isPresent()) {
-                Log.warn("Cannot load island chests for null islands, skipping...");
-                return;
-            }
-
-            Optional<Integer> index = islandChests.getInt("index");
-            if (!index.isPresent() || index.get() < 0) {
-                Log.warn("Cannot load island chest with invalid index for ", uuid.get(), ", skipping...");
-                return;
-            }
-
-            Optional<ItemStack[]> contents = islandChests.getBlob("contents").map(Serializers.INVENTORY_SERIALIZER::deserialize);
-            if (!contents.isPresent()) {
-                Log.warn("Cannot load island chest with invalid contents for ", uuid.get(), ", skipping...");
-                return;
-            }
-
-            int contentsLength = contents.get().length;
-            ItemStack[] chestContents;
-
-            if (contentsLength % 9 != 0) {
-                int amountOfRows = Math.min(1, Math.max(6, (contentsLength / 9) + 1));
-                chestContents = new ItemStack[amountOfRows * 9];
-                int amountOfContentsToCopy = Math.min(contentsLength, chestContents.length);
-                System.arraycopy(contents.get(), 0, chestContents, 0, amountOfContentsToCopy);
-            } else if (contentsLength > 54) {
-                chestContents = new ItemStack[54];
-                System.arraycopy(contents.get(), 0, chestContents, 0, 54);
-            } else if (contentsLength < 9) {
-                chestContents = new ItemStack[9];
-                System.arraycopy(contents.get(), 0, chestContents, 0, contentsLength);
-            } else {
-                chestContents = contents.get();
-            }
-
-            Island.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), IslandBuilderImpl::new);
-            builder.setIslandChest(index.get(), chestContents);
-        });
+        databaseBridge.loadAllObjects("islands_chests", islandChestsRow -> deserializeIslandChestRow(islandChestsRow, databaseCache));
     }
 
     public static void deserializeRoleLimits(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
@@ -784,22 +738,103 @@ public class IslandsDeserializer {
     }
 
     public static void deserializePersistentDataContainer(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("islands_custom_data", customDataRow -> {
-            DatabaseResult customData = new DatabaseResult(customDataRow);
+        databaseBridge.loadAllObjects("islands_custom_data", customDataRow -> deserializePersistentDataRow(customDataRow, databaseCache));
+    }
 
-            Optional<UUID> uuid = customData.getUUID("island");
-            if (!uuid.isPresent()) {
-                Log.warn("Cannot load custom data for null islands, skipping...");
-                return;
-            }
+    public static void deserializeColdData(Island island, DatabaseCache<Island.Builder> databaseCache) {
+        DatabaseBridge databaseBridge = island.getDatabaseBridge();
+        DatabaseFilter islandFilter = DatabaseFilter.fromFilter("island", island.getUniqueId().toString());
+        databaseBridge.loadObject("islands_visitors", islandFilter, visitorsRow ->
+                deserializeVisitor(visitorsRow, databaseCache));
+        databaseBridge.loadObject("islands_chests", islandFilter, islandChestsRow ->
+                deserializeIslandChestRow(islandChestsRow, databaseCache));
+    }
 
-            byte[] persistentData = customData.getBlob("data").orElse(new byte[0]);
+    private static void deserializeVisitor(Map<String, Object> visitorsRow, DatabaseCache<Island.Builder> databaseCache) {
+        DatabaseResult visitors = new DatabaseResult(visitorsRow);
 
-            if (persistentData.length == 0)
-                return;
+        Optional<UUID> islandUUID = visitors.getUUID("island");
+        if (!islandUUID.isPresent()) {
+            Log.warn("Cannot load island visitors for null islands, skipping...");
+            return;
+        }
 
-            Island.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), IslandBuilderImpl::new);
-            builder.setPersistentData(persistentData);
-        });
+        Optional<UUID> uuid = visitors.getUUID("player");
+        if (!uuid.isPresent()) {
+            Log.warn("Cannot load island visitors with invalid uuids for ", islandUUID.get(), ", skipping...");
+            return;
+        }
+
+        SuperiorPlayer visitorPlayer = plugin.getPlayers().getSuperiorPlayer(uuid.get(), false);
+        if (visitorPlayer == null) {
+            Log.warn("Cannot load island visitor with unrecognized uuid: " + uuid.get() + ", skipping...");
+            return;
+        }
+
+        Island.Builder builder = databaseCache.computeIfAbsentInfo(islandUUID.get(), IslandBuilderImpl::new);
+        long visitTime = visitors.getLong("visit_time").orElse(System.currentTimeMillis());
+        builder.addUniqueVisitor(visitorPlayer, visitTime);
+    }
+
+    private static void deserializeIslandChestRow(Map<String, Object> islandChestsRow, DatabaseCache<Island.Builder> databaseCache) {
+        DatabaseResult islandChests = new DatabaseResult(islandChestsRow);
+
+        Optional<UUID> uuid = islandChests.getUUID("island");
+        if (!uuid.isPresent()) {
+            Log.warn("Cannot load island chests for null islands, skipping...");
+            return;
+        }
+
+        Optional<Integer> index = islandChests.getInt("index");
+        if (!index.isPresent() || index.get() < 0) {
+            Log.warn("Cannot load island chest with invalid index for ", uuid.get(), ", skipping...");
+            return;
+        }
+
+        Optional<ItemStack[]> contents = islandChests.getBlob("contents").map(Serializers.INVENTORY_SERIALIZER::deserialize);
+        if (!contents.isPresent()) {
+            Log.warn("Cannot load island chest with invalid contents for ", uuid.get(), ", skipping...");
+            return;
+        }
+
+        int contentsLength = contents.get().length;
+        ItemStack[] chestContents;
+
+        if (contentsLength % 9 != 0) {
+            int amountOfRows = Math.min(1, Math.max(6, (contentsLength / 9) + 1));
+            chestContents = new ItemStack[amountOfRows * 9];
+            int amountOfContentsToCopy = Math.min(contentsLength, chestContents.length);
+            System.arraycopy(contents.get(), 0, chestContents, 0, amountOfContentsToCopy);
+        } else if (contentsLength > 54) {
+            chestContents = new ItemStack[54];
+            System.arraycopy(contents.get(), 0, chestContents, 0, 54);
+        } else if (contentsLength < 9) {
+            chestContents = new ItemStack[9];
+            System.arraycopy(contents.get(), 0, chestContents, 0, contentsLength);
+        } else {
+            chestContents = contents.get();
+        }
+
+        Island.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), IslandBuilderImpl::new);
+        builder.setIslandChest(index.get(), chestContents);
     }
+
+    private static void deserializePersistentDataRow(Map<String, Object> customDataRow, DatabaseCache<Island.Builder> databaseCache) {
+        DatabaseResult customData = new DatabaseResult(customDataRow);
+
+        Optional<UUID> uuid = customData.getUUID("island");
+        if (!uuid.isPresent()) {
+            Log.warn("Cannot load custom data for null islands, skipping...");
+            return;
+        }
+
+        byte[] persistentData = customData.getBlob("data").orElse(new byte[0]);
+
+        if (persistentData.length == 0)
+            return;
+
+        Island.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), IslandBuilderImpl::new);
+        builder.setPersistentData(persistentData);
+    }
+
 }
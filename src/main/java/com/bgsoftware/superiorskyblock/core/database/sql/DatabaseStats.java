@@ -0,0 +1,261 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.core.database.bridge.IslandsDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.messages.Message;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the database pipeline: executed statements and selects per table, batch sizes,
+ * the time statements wait for the database threads and the time they take to execute.
+ * The time of selects does not include reading their rows.
+ * Latencies are recorded in microseconds into histograms with 4 buckets for every power of two,
+ * so percentiles are accurate up to 25% of their value.
+ */
+public class DatabaseStats {
+
+    private static final long TICKS_PER_MINUTE = 1200L;
+    private static final String OTHER_TABLE = "other";
+
+    private static final Map<String, String> QUERY_TABLES = new ConcurrentHashMap<>();
+    private static final Map<String, TableStats> TABLES = new ConcurrentHashMap<>();
+
+    private static final Histogram EXECUTE_LATENCY = new Histogram();
+    private static final Histogram BATCH_LATENCY = new Histogram();
+    private static final Histogram SELECT_LATENCY = new Histogram();
+    private static final Histogram QUEUE_LATENCY = new Histogram();
+    private static final Histogram BATCH_SIZES = new Histogram();
+
+    private static long[] lastLoggedExecuteLatency = new long[Histogram.BUCKETS_COUNT];
+    private static long[] lastLoggedQueueLatency = new long[Histogram.BUCKETS_COUNT];
+
+    private DatabaseStats() {
+
+    }
+
+    public static void startLogging(SuperiorSkyblockPlugin plugin) {
+        long logInterval = plugin.getSettings().getDatabase().getStatsLogInterval();
+        if (logInterval > 0)
+            BukkitExecutor.timer(DatabaseStats::logStats, logInterval * TICKS_PER_MINUTE);
+    }
+
+    public static void recordStatement(String query, int rows, long startTime, boolean success) {
+        long latency = getElapsedMicros(startTime);
+        getTableStats(getTable(query)).record(rows, success);
+        EXECUTE_LATENCY.record(latency);
+    }
+
+    public static void recordBatch(String query, int rows, long startTime, boolean success) {
+        long latency = getElapsedMicros(startTime);
+        getTableStats(getTable(query)).record(rows, success);
+        BATCH_LATENCY.record(latency);
+        EXECUTE_LATENCY.record(latency);
+        BATCH_SIZES.record(rows);
+    }
+
+    public static void recordSelect(String table, long startTime) {
+        getTableStats(table).selects.increment();
+        SELECT_LATENCY.record(getElapsedMicros(startTime));
+    }
+
+    public static void recordQueueWait(long submitTime) {
+        QUEUE_LATENCY.record(getElapsedMicros(submitTime));
+    }
+
+    public static void sendStats(CommandSender sender) {
+        Message.DATABASE_STATS_HEADER.send(sender);
+        Message.DATABASE_STATS_THREADS.send(sender, BukkitExecutor.getDataThreadsCount(),
+                formatQueueSizes(BukkitExecutor.getDataQueueSizes()));
+        Message.DATABASE_STATS_PENDING_WRITES.send(sender, WriteBehindJournal.getPendingRowsCount(),
+                IslandsDatabaseBridge.getPendingFutureSaves(), PlayersDatabaseBridge.getPendingFutureSaves());
+        Message.DATABASE_STATS_QUEUE_WAIT.send(sender, formatPercentiles(QUEUE_LATENCY.snapshot()));
+        Message.DATABASE_STATS_STATEMENTS.send(sender, formatPercentiles(EXECUTE_LATENCY.snapshot()));
+        Message.DATABASE_STATS_BATCHES.send(sender, formatPercentiles(BATCH_LATENCY.snapshot()),
+                formatPercentiles(BATCH_SIZES.snapshot(), 1));
+        Message.DATABASE_STATS_SELECTS.send(sender, formatPercentiles(SELECT_LATENCY.snapshot()));
+        Message.DATABASE_STATS_TABLES.send(sender);
+
+        new TreeMap<>(TABLES).forEach((table, tableStats) -> Message.DATABASE_STATS_TABLE.send(sender, table,
+                tableStats.statements.sum(), tableStats.rows.sum(), tableStats.selects.sum(), tableStats.errors.sum()));
+    }
+
+    private static void logStats() {
+        // Latencies in the log are of the last interval only, so a degrading database is noticed quickly.
+        long[] executeLatency = EXECUTE_LATENCY.snapshot();
+        long[] queueLatency = QUEUE_LATENCY.snapshot();
+
+        long errors = 0;
+        for (TableStats tableStats : TABLES.values())
+            errors += tableStats.errors.sum();
+
+        Log.info("Database stats: queued tasks: ", formatQueueSizes(BukkitExecutor.getDataQueueSizes()),
+                ", pending rows: ", WriteBehindJournal.getPendingRowsCount(),
+                ", pending saves: ", IslandsDatabaseBridge.getPendingFutureSaves(), "/", PlayersDatabaseBridge.getPendingFutureSaves(),
+                ", queue wait: ", formatPercentiles(Histogram.subtract(queueLatency, lastLoggedQueueLatency)),
+                ", statements: ", formatPercentiles(Histogram.subtract(executeLatency, lastLoggedExecuteLatency)),
+                ", total errors: ", errors);
+
+        lastLoggedExecuteLatency = executeLatency;
+        lastLoggedQueueLatency = queueLatency;
+    }
+
+    private static TableStats getTableStats(String table) {
+        return TABLES.computeIfAbsent(table, t -> new TableStats());
+    }
+
+    private static String getTable(String query) {
+        String table = QUERY_TABLES.get(query);
+        if (table == null) {
+            table = parseTable(query);
+            // Queries are cached by SQLQueries, so the amount of different queries is bounded.
+            QUERY_TABLES.put(query, table);
+        }
+        return table;
+    }
+
+    private static String parseTable(String query) {
+        int tableStart = query.indexOf("{prefix}");
+        if (tableStart < 0)
+            return OTHER_TABLE;
+
+        tableStart += "{prefix}".length();
+        int tableEnd = tableStart;
+        while (tableEnd < query.length() && (Character.isLetterOrDigit(query.charAt(tableEnd)) || query.charAt(tableEnd) == '_'))
+            ++tableEnd;
+
+        return tableEnd == tableStart ? OTHER_TABLE : query.substring(tableStart, tableEnd);
+    }
+
+    private static long getElapsedMicros(long startTime) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+    }
+
+    private static String formatQueueSizes(int[] queueSizes) {
+        int total = 0;
+        for (int queueSize : queueSizes)
+            total += queueSize;
+
+        if (queueSizes.length == 1)
+            return String.valueOf(total);
+
+        StringBuilder queueSizesBuilder = new StringBuilder().append(total).append(" (");
+        for (int i = 0; i < queueSizes.length; ++i) {
+            if (i != 0)
+                queueSizesBuilder.append("/");
+            queueSizesBuilder.append(queueSizes[i]);
+        }
+        return queueSizesBuilder.append(")").toString();
+    }
+
+    private static String formatPercentiles(long[] buckets) {
+        return formatPercentiles(buckets, 1000D);
+    }
+
+    private static String formatPercentiles(long[] buckets, double unitsDivider) {
+        long count = Histogram.count(buckets);
+        if (count == 0)
+            return "0";
+
+        String units = unitsDivider == 1 ? "" : "ms";
+        return String.format("%d, p50 %.1f%s, p95 %.1f%s, p99 %.1f%s", count,
+                Histogram.percentile(buckets, 0.50) / unitsDivider, units,
+                Histogram.percentile(buckets, 0.95) / unitsDivider, units,
+                Histogram.percentile(buckets, 0.99) / unitsDivider, units);
+    }
+
+    private static final class TableStats {
+
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder selects = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(int rows, boolean success) {
+            this.statements.increment();
+            if (success) {
+                this.rows.add(rows);
+            } else {
+                this.errors.increment();
+            }
+        }
+
+    }
+
+    private static final class Histogram {
+
+        private static final int SUB_BUCKETS_BITS = 2;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKETS_BITS;
+        private static final int BUCKETS_COUNT = 64 * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+
+        void record(long value) {
+            this.buckets.incrementAndGet(getBucket(Math.max(0, value)));
+        }
+
+        long[] snapshot() {
+            long[] snapshot = new long[BUCKETS_COUNT];
+            for (int i = 0; i < BUCKETS_COUNT; ++i)
+                snapshot[i] = this.buckets.get(i);
+            return snapshot;
+        }
+
+        static long[] subtract(long[] buckets, long[] previousBuckets) {
+            long[] result = new long[BUCKETS_COUNT];
+            for (int i = 0; i < BUCKETS_COUNT; ++i)
+                result[i] = buckets[i] - previousBuckets[i];
+            return result;
+        }
+
+        static long count(long[] buckets) {
+            long count = 0;
+            for (long bucket : buckets)
+                count += bucket;
+            return count;
+        }
+
+        static long percentile(long[] buckets, double percentile) {
+            long target = (long) Math.ceil(count(buckets) * percentile);
+            long seen = 0;
+
+            for (int i = 0; i < BUCKETS_COUNT; ++i) {
+                seen += buckets[i];
+                if (seen >= target && buckets[i] > 0)
+                    return getBucketUpperBound(i);
+            }
+
+            return 0;
+        }
+
+        private static int getBucket(long value) {
+            if (value < SUB_BUCKETS)
+                return (int) value;
+
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) ((value >>> (exponent - SUB_BUCKETS_BITS)) & (SUB_BUCKETS - 1));
+            return exponent * SUB_BUCKETS + subBucket;
+        }
+
+        private static long getBucketUpperBound(int bucket) {
+            if (bucket < SUB_BUCKETS)
+                return bucket;
+
+            int exponent = bucket / SUB_BUCKETS;
+            int subBucket = bucket % SUB_BUCKETS;
+            long subBucketSize = 1L << (exponent - SUB_BUCKETS_BITS);
+            return (1L << exponent) + (subBucket + 1) * subBucketSize - 1;
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.bgsoftware.superiorskyblock.core.database.sql;
 
+import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
@@ -9,16 +10,34 @@ import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 
 import java.sql.ResultSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 public class SQLDatabaseBridge implements DatabaseBridge {
 
+    // Batches are confined to the threads that started them, so operations of other threads on the same
+    // bridge are never added to them.
+    private static final ThreadLocal<Map<SQLDatabaseBridge, StatementHolder>> BATCH_STATEMENT_HOLDERS =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    @Nullable
+    private final UUID shardKey;
+
     private DatabaseBridgeMode databaseBridgeMode = DatabaseBridgeMode.IDLE;
-    private StatementHolder batchStatementHolder;
 
     public SQLDatabaseBridge() {
+        this(null);
+    }
+
+    public SQLDatabaseBridge(@Nullable UUID shardKey) {
+        this.shardKey = shardKey;
+    }
 
+    @Nullable
+    public UUID getShardKey() {
+        return this.shardKey;
     }
 
     private static String getColumnFilter(DatabaseFilter filter) {
@@ -51,11 +70,13 @@ public class SQLDatabaseBridge implements DatabaseBridge {
 
     @Override
     public void batchOperations(boolean batchOperations) {
+        Map<SQLDatabaseBridge, StatementHolder> batchStatementHolders = BATCH_STATEMENT_HOLDERS.get();
         if (batchOperations) {
-            batchStatementHolder = new StatementHolder("");
-        } else if (batchStatementHolder != null) {
-            batchStatementHolder.executeBatch(true);
-            batchStatementHolder = null;
+            batchStatementHolders.putIfAbsent(this, new StatementHolder("", this.shardKey));
+        } else {
+            StatementHolder batchStatementHolder = batchStatementHolders.remove(this);
+            if (batchStatementHolder != null)
+                batchStatementHolder.executeBatch(true);
         }
     }
 
@@ -64,17 +85,16 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        StringBuilder columnsBuilder = new StringBuilder();
+        if (WriteBehindJournal.isEnabled()) {
+            if (filter != null && getBatchStatementHolder() == null) {
+                WriteBehindJournal.enqueue(table, filter, columns, this.shardKey);
+                return;
+            }
 
-        for (Pair<String, Object> column : columns) {
-            if (columnsBuilder.length() != 0)
-                columnsBuilder.append(",");
-            columnsBuilder.append(column.getKey()).append("=?");
+            WriteBehindJournal.flushRow(table, filter);
         }
 
-        String columnFilter = getColumnFilter(filter);
-
-        String query = String.format("UPDATE {prefix}%s SET %s%s;", table, columnsBuilder, columnFilter);
+        String query = SQLQueries.update(table, columns, filter);
         StatementHolder statementHolder = buildStatementHolder(query);
 
         for (Pair<String, Object> column : columns) {
@@ -93,19 +113,10 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        StringBuilder columnsBuilder = new StringBuilder();
-        StringBuilder valuesBuilder = new StringBuilder();
-
-        for (Pair<String, Object> column : columns) {
-            if (columnsBuilder.length() != 0)
-                columnsBuilder.append(",");
-            if (valuesBuilder.length() != 0)
-                valuesBuilder.append(",");
-            columnsBuilder.append("`").append(column.getKey()).append("`");
-            valuesBuilder.append("?");
-        }
+        if (WriteBehindJournal.isEnabled())
+            WriteBehindJournal.flushForInsert(table, columns);
 
-        String query = String.format("REPLACE INTO {prefix}%s (%s) VALUES(%s);", table, columnsBuilder, valuesBuilder);
+        String query = SQLQueries.insert(table, columns);
         StatementHolder statementHolder = buildStatementHolder(query);
 
         for (Pair<String, Object> column : columns) {
@@ -120,8 +131,10 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        String columnFilter = getColumnFilter(filter);
-        String query = String.format("DELETE FROM {prefix}%s%s;", table, columnFilter);
+        if (WriteBehindJournal.isEnabled())
+            WriteBehindJournal.discardForDelete(table, filter);
+
+        String query = SQLQueries.delete(table, filter);
         StatementHolder statementHolder = buildStatementHolder(query);
 
         if (filter != null) {
@@ -162,9 +175,15 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         return this.databaseBridgeMode;
     }
 
+    @Nullable
+    private StatementHolder getBatchStatementHolder() {
+        return BATCH_STATEMENT_HOLDERS.get().get(this);
+    }
+
     private StatementHolder buildStatementHolder(String query) {
+        StatementHolder batchStatementHolder = getBatchStatementHolder();
         if (batchStatementHolder == null) {
-            return new StatementHolder(query);
+            return new StatementHolder(query, this.shardKey);
         } else {
             batchStatementHolder.setQuery(query);
             return batchStatementHolder;
@@ -172,7 +191,7 @@ public class SQLDatabaseBridge implements DatabaseBridge {
     }
 
     private void executeStatementHolder(StatementHolder statementHolder) {
-        if (batchStatementHolder == statementHolder) {
+        if (getBatchStatementHolder() == statementHolder) {
             statementHolder.addBatch();
         } else {
             statementHolder.execute(true);
@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.core.database.sql;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.RemoteSQLSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.SQLSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.MariaDBSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.MySQLSession;
@@ -23,6 +24,11 @@ public class SQLHelper {
         return globalSession != null;
     }
 
+    public static boolean supportsParallelQueries() {
+        // Local sessions share a single connection, therefore queries cannot run in parallel.
+        return globalSession instanceof RemoteSQLSession;
+    }
+
     public static void waitForConnection() {
         if (isReady())
             globalSession.waitForConnection();
@@ -57,7 +63,12 @@ public class SQLHelper {
 
     public static void createIndex(String indexName, String tableName, String... columns) {
         if (isReady())
-            globalSession.createIndex(indexName, tableName, columns, QueryResult.EMPTY_VOID_QUERY_RESULT);
+            globalSession.createIndex(indexName, tableName, columns, true, QueryResult.EMPTY_VOID_QUERY_RESULT);
+    }
+
+    public static void createNonUniqueIndex(String indexName, String tableName, String... columns) {
+        if (isReady())
+            globalSession.createIndex(indexName, tableName, columns, false, QueryResult.EMPTY_VOID_QUERY_RESULT);
     }
 
     public static void modifyColumnType(String tableName, String columnName, String newType) {
@@ -71,8 +82,39 @@ public class SQLHelper {
     }
 
     public static void select(String tableName, String filters, QueryResult<ResultSet> queryResult) {
-        if (isReady())
-            globalSession.select(tableName, filters, queryResult);
+        if (isReady()) {
+            long startTime = System.nanoTime();
+            // Only the execution of the query is recorded, without reading its rows.
+            globalSession.select(tableName, filters, new QueryResult<ResultSet>().onSuccess(resultSet -> {
+                DatabaseStats.recordSelect(tableName, startTime);
+                queryResult.complete(resultSet);
+            }).onFail(error -> {
+                DatabaseStats.recordSelect(tableName, startTime);
+                queryResult.fail(error);
+            }));
+        }
+    }
+
+    public static void select(String tableName, String query, Object[] values, QueryResult<ResultSet> queryResult) {
+        if (isReady()) {
+            long startTime = System.nanoTime();
+            boolean[] recorded = new boolean[]{false};
+            // Only the execution of the query is recorded, without reading its rows.
+            globalSession.customQuery(query, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
+                for (int i = 0; i < values.length; ++i)
+                    preparedStatement.setObject(i + 1, values[i]);
+
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    DatabaseStats.recordSelect(tableName, startTime);
+                    recorded[0] = true;
+                    queryResult.complete(resultSet);
+                }
+            }).onFail(error -> {
+                if (!recorded[0])
+                    DatabaseStats.recordSelect(tableName, startTime);
+                queryResult.fail(error);
+            }));
+        }
     }
 
     public static void setJournalMode(String jounralMode, QueryResult<ResultSet> queryResult) {
@@ -0,0 +1,178 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for the text of generated queries.
+ * Queries are identified by their table and the columns they use, so the same text is returned for
+ * all operations on the same columns, regardless of their values.
+ */
+public class SQLQueries {
+
+    // SQLite limits the amount of parameters in a single statement to 999 by default.
+    private static final int MAX_QUERY_PARAMETERS = 999;
+    private static final String[] EMPTY_COLUMNS = new String[0];
+
+    private static final Map<QueryKey, String> INSERT_QUERIES = new ConcurrentHashMap<>();
+    private static final Map<QueryKey, String> UPDATE_QUERIES = new ConcurrentHashMap<>();
+    private static final Map<QueryKey, String> DELETE_QUERIES = new ConcurrentHashMap<>();
+    private static final Map<String, MultiRowInsert> MULTI_ROW_INSERTS = new ConcurrentHashMap<>();
+
+    private SQLQueries() {
+
+    }
+
+    public static String insert(String table, Pair<String, Object>[] columns) {
+        return INSERT_QUERIES.computeIfAbsent(new QueryKey(table, getColumnNames(columns), EMPTY_COLUMNS), queryKey -> {
+            MultiRowInsert multiRowInsert = new MultiRowInsert(queryKey.table, queryKey.columns);
+            String query = multiRowInsert.getQuery(1);
+            MULTI_ROW_INSERTS.put(query, multiRowInsert);
+            return query;
+        });
+    }
+
+    public static String update(String table, Pair<String, Object>[] columns, @Nullable DatabaseFilter filter) {
+        return update(table, getColumnNames(columns), getFilterColumns(filter));
+    }
+
+    public static String update(String table, Collection<String> columns, String[] filterColumns) {
+        return update(table, columns.toArray(EMPTY_COLUMNS), filterColumns);
+    }
+
+    public static String delete(String table, @Nullable DatabaseFilter filter) {
+        return DELETE_QUERIES.computeIfAbsent(new QueryKey(table, EMPTY_COLUMNS, getFilterColumns(filter)), queryKey ->
+                String.format("DELETE FROM {prefix}%s%s;", queryKey.table, buildColumnFilter(queryKey.filterColumns)));
+    }
+
+    /**
+     * Get the multi-row form of an insert query.
+     *
+     * @param query The single-row insert query, as returned by {@link #insert(String, Pair[])}
+     * @return The multi-row form of the query, or null if the query is not an insert query.
+     */
+    @Nullable
+    public static MultiRowInsert getMultiRowInsert(String query) {
+        return MULTI_ROW_INSERTS.get(query);
+    }
+
+    private static String update(String table, String[] columns, String[] filterColumns) {
+        return UPDATE_QUERIES.computeIfAbsent(new QueryKey(table, columns, filterColumns), queryKey -> {
+            StringBuilder columnsBuilder = new StringBuilder();
+
+            for (String column : queryKey.columns) {
+                if (columnsBuilder.length() != 0)
+                    columnsBuilder.append(",");
+                columnsBuilder.append(column).append("=?");
+            }
+
+            return String.format("UPDATE {prefix}%s SET %s%s;", queryKey.table, columnsBuilder,
+                    buildColumnFilter(queryKey.filterColumns));
+        });
+    }
+
+    private static String[] getColumnNames(Pair<String, Object>[] columns) {
+        String[] columnNames = new String[columns.length];
+        for (int i = 0; i < columns.length; ++i)
+            columnNames[i] = columns[i].getKey();
+        return columnNames;
+    }
+
+    private static String[] getFilterColumns(@Nullable DatabaseFilter filter) {
+        if (filter == null)
+            return EMPTY_COLUMNS;
+
+        String[] filterColumns = new String[filter.getFilters().size()];
+        int[] index = {0};
+        filter.forEach((column, value) -> filterColumns[index[0]++] = column);
+        return filterColumns;
+    }
+
+    private static String buildColumnFilter(String[] filterColumns) {
+        StringBuilder columnFilter = new StringBuilder();
+        for (String filterColumn : filterColumns) {
+            columnFilter.append(columnFilter.length() == 0 ? " WHERE " : " AND ").append(filterColumn).append("=?");
+        }
+        return columnFilter.toString();
+    }
+
+    public static class MultiRowInsert {
+
+        private final Map<Integer, String> queries = new ConcurrentHashMap<>();
+        private final String queryPrefix;
+        private final String rowValues;
+        private final int maxRows;
+
+        MultiRowInsert(String table, String[] columns) {
+            StringBuilder columnsBuilder = new StringBuilder();
+            StringBuilder valuesBuilder = new StringBuilder();
+
+            for (String column : columns) {
+                if (columnsBuilder.length() != 0)
+                    columnsBuilder.append(",");
+                if (valuesBuilder.length() != 0)
+                    valuesBuilder.append(",");
+                columnsBuilder.append("`").append(column).append("`");
+                valuesBuilder.append("?");
+            }
+
+            this.queryPrefix = String.format("REPLACE INTO {prefix}%s (%s) VALUES", table, columnsBuilder);
+            this.rowValues = "(" + valuesBuilder + ")";
+            this.maxRows = Math.max(1, MAX_QUERY_PARAMETERS / Math.max(1, columns.length));
+        }
+
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        public String getQuery(int rows) {
+            return queries.computeIfAbsent(rows, r -> {
+                StringBuilder query = new StringBuilder(queryPrefix);
+                for (int i = 0; i < r; ++i) {
+                    if (i != 0)
+                        query.append(",");
+                    query.append(rowValues);
+                }
+                return query.append(";").toString();
+            });
+        }
+
+    }
+
+    private static final class QueryKey {
+
+        private final String table;
+        private final String[] columns;
+        private final String[] filterColumns;
+        private final int hashCode;
+
+        QueryKey(String table, String[] columns, String[] filterColumns) {
+            this.table = table;
+            this.columns = columns;
+            this.filterColumns = filterColumns;
+            this.hashCode = 31 * (31 * table.hashCode() + Arrays.hashCode(columns)) + Arrays.hashCode(filterColumns);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            QueryKey queryKey = (QueryKey) o;
+            return table.equals(queryKey.table) && Arrays.equals(columns, queryKey.columns) &&
+                    Arrays.equals(filterColumns, queryKey.filterColumns);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
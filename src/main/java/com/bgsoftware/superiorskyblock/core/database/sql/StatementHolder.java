@@ -1,6 +1,6 @@
 package com.bgsoftware.superiorskyblock.core.database.sql;
 
-import com.bgsoftware.superiorskyblock.core.Mutable;
+import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.core.Text;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
@@ -11,20 +11,34 @@ import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class StatementHolder {
 
     private static final Pattern QUERY_VALUE_PATTERN = Pattern.compile("\\?");
 
-    private final List<List<Object>> batches = new LinkedList<>();
+    private final List<Batch> batches = new ArrayList<>();
 
-    private final List<Object> values = new LinkedList<>();
+    private final List<Object> values = new ArrayList<>();
+    @Nullable
+    private final UUID shardKey;
     private String query;
+    @Nullable
+    private List<Long> journalEntries;
 
     public StatementHolder(String statement) {
+        this(statement, null);
+    }
+
+    public StatementHolder(String statement, @Nullable UUID shardKey) {
+        this.shardKey = shardKey;
         setQuery(statement);
     }
 
@@ -33,7 +47,7 @@ public class StatementHolder {
     }
 
     public void addBatch() {
-        this.batches.add(new LinkedList<>(this.values));
+        this.batches.add(new Batch(this.query, this.values.toArray()));
         this.values.clear();
     }
 
@@ -42,67 +56,92 @@ public class StatementHolder {
         return this;
     }
 
-    public void executeBatch(boolean async) {
-        if (this.batches.isEmpty())
+    /**
+     * Add entries of the {@link StatementsJournal} that will be released once the next execution
+     * of this holder succeeds. When set, the statements of this holder are not journaled again.
+     */
+    public void addJournalEntries(Collection<Long> journalEntries) {
+        if (journalEntries.isEmpty())
             return;
 
+        if (this.journalEntries == null)
+            this.journalEntries = new ArrayList<>();
+
+        this.journalEntries.addAll(journalEntries);
+    }
+
+    public void executeBatch(boolean async) {
         // Commit changes if exists.
         if (!this.values.isEmpty())
             addBatch();
 
-        Mutable<String> rawQuery = new Mutable<>(this.query);
-
-        executeQuery(async, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
-            Connection connection = preparedStatement.getConnection();
-            connection.setAutoCommit(false);
-
-            for (List<Object> values : batches) {
-                rawQuery.setValue(this.query);
-
-                populateStatement(preparedStatement, values, rawQuery);
-
-                Log.debug(Debug.DATABASE_QUERY, rawQuery.getValue());
-
-                preparedStatement.addBatch();
-            }
+        if (this.batches.isEmpty())
+            return;
 
-            preparedStatement.executeBatch();
+        List<Batch> batches = new ArrayList<>(this.batches);
+        this.batches.clear();
 
-            try {
-                connection.commit();
-            } catch (Throwable ignored) {
+        runQuery(async, () -> {
+            List<StatementsJournal.Statement> journalStatements = new ArrayList<>(batches.size());
+            for (Batch batch : batches)
+                journalStatements.add(new StatementsJournal.Statement(batch.query, batch.values));
+            return journalStatements;
+        }, () -> {
+            // Batches are executed in the order they were added, while consecutive batches
+            // of the same query are executed together.
+            int runStart = 0;
+            for (int i = 1; i <= batches.size(); ++i) {
+                if (i == batches.size() || !batches.get(i).query.equals(batches.get(runStart).query)) {
+                    executeBatches(batches.get(runStart).query, batches.subList(runStart, i));
+                    runStart = i;
+                }
             }
-
-            connection.setAutoCommit(true);
-        }).onFail(error -> {
-            Log.error(error, "An unexpected error occurred while executing query `", rawQuery.getValue(), "`:");
-        }));
+        });
     }
 
     public void execute(boolean async) {
-        Mutable<String> rawQuery = new Mutable<>(query);
+        String query = this.query;
+        Object[] values = this.values.toArray();
+        this.values.clear();
 
-        executeQuery(async, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
-            populateStatement(preparedStatement, this.values, rawQuery);
+        runQuery(async, () -> Collections.singletonList(new StatementsJournal.Statement(query, values)), () -> {
+            long startTime = System.nanoTime();
+            SQLHelper.customQuery(query, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
+                populateStatement(preparedStatement, values, 0);
 
-            Log.debug(Debug.DATABASE_QUERY, rawQuery.getValue());
+                if (Log.isDebugged(Debug.DATABASE_QUERY))
+                    Log.debug(Debug.DATABASE_QUERY, buildRawQuery(query, values));
 
-            preparedStatement.executeUpdate();
-        }).onFail(error -> {
-            Log.error(error, "An unexpected error occurred while executing query `", rawQuery.getValue(), "`:");
-        }));
+                preparedStatement.executeUpdate();
+                DatabaseStats.recordStatement(query, 1, startTime, true);
+            }).onFail(error -> {
+                DatabaseStats.recordStatement(query, 1, startTime, false);
+                Log.error(error, "An unexpected error occurred while executing query `", query, "`:");
+            }));
+        });
     }
 
-    private void executeQuery(boolean async, QueryResult<PreparedStatement> queryResult) {
-        if (Text.isBlank(query) || !SQLHelper.isReady())
+    private void runQuery(boolean async, Supplier<List<StatementsJournal.Statement>> journalStatements,
+                          Runnable queryRunnable) {
+        List<Long> journalEntries = this.journalEntries == null ? Collections.emptyList() : this.journalEntries;
+        this.journalEntries = null;
+
+        if (Text.isBlank(query) || !SQLHelper.isReady()) {
+            StatementsJournal.release(journalEntries);
             return;
+        }
 
-        if (async && !BukkitExecutor.isDataThread()) {
+        // Queries are executed on the database thread of their shard, even when called from other
+        // database threads, so all queries of the same island or player are executed in order.
+        if (async && !BukkitExecutor.isDataThread(this.shardKey)) {
+            List<Long> queuedJournalEntries = journalEntries;
             StackTrace stackTrace = new StackTrace();
-            BukkitExecutor.data(() -> {
+            long submitTime = System.nanoTime();
+            BukkitExecutor.data(this.shardKey, () -> {
                 try {
+                    DatabaseStats.recordQueueWait(submitTime);
                     Log.attachStackTrace(stackTrace);
-                    executeQuery(false, queryResult);
+                    executeQuery(queryRunnable, journalStatements(queuedJournalEntries, journalStatements));
                 } finally {
                     Log.detachStackTrace();
                 }
@@ -110,22 +149,127 @@ public class StatementHolder {
             return;
         }
 
+        executeQuery(queryRunnable, journalStatements(journalEntries, journalStatements));
+    }
+
+    /**
+     * Journal statements that were not journaled yet.
+     * Statements are journaled by the database thread that executes them, so journaling never adds work to the
+     * threads that issue them. Statements of the same island or player are executed by the same thread, so they
+     * are journaled in the order they are executed, and replaying the journal never executes an older statement
+     * after a newer one.
+     */
+    private static List<Long> journalStatements(List<Long> journalEntries,
+                                                Supplier<List<StatementsJournal.Statement>> journalStatements) {
+        if (!journalEntries.isEmpty() || !StatementsJournal.isEnabled())
+            return journalEntries;
+
+        long journalEntry = StatementsJournal.append(journalStatements.get());
+        return journalEntry < 0 ? journalEntries : Collections.singletonList(journalEntry);
+    }
+
+    private static void executeQuery(Runnable queryRunnable, List<Long> journalEntries) {
         SQLHelper.waitForConnection();
 
+        // Statements are released even if they failed, as executing them again after newer statements
+        // could override newer data. Failures are logged when they occur.
         try {
-            SQLHelper.customQuery(query, queryResult);
+            queryRunnable.run();
         } finally {
-            values.clear();
+            StatementsJournal.release(journalEntries);
+        }
+    }
+
+    private static void executeBatches(String query, List<Batch> batches) {
+        SQLQueries.MultiRowInsert multiRowInsert = batches.size() > 1 ? SQLQueries.getMultiRowInsert(query) : null;
+
+        if (multiRowInsert == null) {
+            executeBatchesInternal(query, batches, 1);
+            return;
         }
+
+        // Inserts are merged into multi-row statements, limited by the amount of parameters a statement can have.
+        int rowsPerStatement = Math.min(multiRowInsert.getMaxRows(), batches.size());
+        int fullStatementsRows = batches.size() - (batches.size() % rowsPerStatement);
+
+        executeBatchesInternal(multiRowInsert.getQuery(rowsPerStatement),
+                batches.subList(0, fullStatementsRows), rowsPerStatement);
+
+        if (fullStatementsRows < batches.size()) {
+            int remainingRows = batches.size() - fullStatementsRows;
+            executeBatchesInternal(multiRowInsert.getQuery(remainingRows),
+                    batches.subList(fullStatementsRows, batches.size()), remainingRows);
+        }
+    }
+
+    private static void executeBatchesInternal(String query, List<Batch> batches, int rowsPerStatement) {
+        if (batches.isEmpty())
+            return;
+
+        boolean debugQueries = Log.isDebugged(Debug.DATABASE_QUERY);
+        long startTime = System.nanoTime();
+
+        SQLHelper.customQuery(query, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
+            Connection connection = preparedStatement.getConnection();
+            connection.setAutoCommit(false);
+
+            try {
+                for (int statementStart = 0; statementStart < batches.size(); statementStart += rowsPerStatement) {
+                    int parameterIndex = 0;
+                    for (Batch batch : batches.subList(statementStart, statementStart + rowsPerStatement)) {
+                        parameterIndex = populateStatement(preparedStatement, batch.values, parameterIndex);
+                        if (debugQueries)
+                            Log.debug(Debug.DATABASE_QUERY, buildRawQuery(batch.query, batch.values));
+                    }
+
+                    preparedStatement.addBatch();
+                }
+
+                preparedStatement.executeBatch();
+
+                try {
+                    connection.commit();
+                } catch (Throwable ignored) {
+                }
+            } catch (SQLException error) {
+                // Statements may be reused, so rows of a failed batch must not be executed by the next batch.
+                preparedStatement.clearBatch();
+                throw error;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+            DatabaseStats.recordBatch(query, batches.size(), startTime, true);
+        }).onFail(error -> {
+            DatabaseStats.recordBatch(query, batches.size(), startTime, false);
+            Log.error(error, "An unexpected error occurred while executing query `", query, "`:");
+        }));
+    }
+
+    private static int populateStatement(PreparedStatement preparedStatement, Object[] values,
+                                         int parameterIndex) throws SQLException {
+        for (Object value : values)
+            preparedStatement.setObject(++parameterIndex, value);
+        return parameterIndex;
+    }
+
+    private static String buildRawQuery(String query, Object[] values) {
+        String rawQuery = query;
+        for (Object value : values)
+            rawQuery = QUERY_VALUE_PATTERN.matcher(rawQuery).replaceFirst(Matcher.quoteReplacement(value + ""));
+        return rawQuery;
     }
 
-    private static void populateStatement(PreparedStatement preparedStatement, List<Object> values,
-                                          Mutable<String> rawQuery) throws SQLException {
-        int currentIndex = 1;
-        for (Object value : values) {
-            preparedStatement.setObject(currentIndex++, value);
-            rawQuery.setValue(QUERY_VALUE_PATTERN.matcher(rawQuery.getValue()).replaceFirst(value + ""));
+    private static final class Batch {
+
+        private final String query;
+        private final Object[] values;
+
+        Batch(String query, Object[] values) {
+            this.query = query;
+            this.values = values;
         }
+
     }
 
 }
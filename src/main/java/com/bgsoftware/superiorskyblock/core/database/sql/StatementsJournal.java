@@ -0,0 +1,581 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.config.SettingsManager;
+import com.bgsoftware.superiorskyblock.core.database.bridge.IslandsDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe local journal of statements that were issued but not executed by the database yet.
+ * <p>
+ * Statements are appended to a memory-mapped file before they are executed, and released once the
+ * database executed them. Releasing statements appends a release entry with their sequences, so
+ * statements that were executed are never executed again. The file is forced to the disk in groups,
+ * every sync-interval.
+ * Once all statements are released, the journal is truncated by moving to the next epoch.
+ * When the journal is full, the statements that were not released yet are moved into the other
+ * journal file, which then becomes the active one.
+ * On startup, statements of the current epoch that were not released are executed again before the
+ * data is loaded.
+ * <p>
+ * File layout: magic, version, epoch and then entries. Each entry is its length, epoch, sequence,
+ * crc of its data, and then the data itself: its type, and then either the statements with their
+ * typed values or the sequences of the released entries.
+ */
+public class StatementsJournal {
+
+    private static final int MAGIC = 0x53534A4E;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_HEADER_SIZE = 24;
+    private static final int INITIAL_CAPACITY = 1 << 20;
+    private static final int MAX_CAPACITY = 1 << 30;
+    // The space of a release entry of a single statement, which is reserved for every live entry.
+    private static final int RELEASE_ENTRY_SIZE = ENTRY_HEADER_SIZE + 1 + 4 + 8;
+
+    private static final byte ENTRY_STATEMENTS = 0;
+    private static final byte ENTRY_RELEASE = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_BYTES = 6;
+    private static final byte TYPE_BIG_DECIMAL = 7;
+    private static final byte TYPE_BIG_INTEGER = 8;
+
+    private static final Object LOCK = new Object();
+    private static final Map<Long, byte[]> LIVE_ENTRIES = new LinkedHashMap<>();
+
+    private static final File[] journalFiles = new File[2];
+    private static int activeFile = 0;
+    @Nullable
+    private static FileChannel fileChannel;
+    @Nullable
+    private static volatile MappedByteBuffer buffer;
+    private static long epoch = 0;
+    private static long nextSequence = 1;
+    private static long maxSize = 0;
+    // The space reserved for the release entries of the live entries.
+    private static long reservedSpace = 0;
+    private static boolean dirty = false;
+    private static boolean fullWarned = false;
+
+    private static volatile boolean enabled = false;
+
+    private StatementsJournal() {
+
+    }
+
+    public static void open(SuperiorSkyblockPlugin plugin) {
+        SettingsManager.Database database = plugin.getSettings().getDatabase();
+
+        if (!database.isJournal())
+            return;
+
+        File datastoreFolder = new File(plugin.getDataFolder(), "datastore");
+        journalFiles[0] = new File(datastoreFolder, "journal-0.dat");
+        journalFiles[1] = new File(datastoreFolder, "journal-1.dat");
+        maxSize = Math.max(INITIAL_CAPACITY, Math.min(MAX_CAPACITY, database.getJournalMaxSize() * 1024L * 1024L));
+
+        try {
+            if (!datastoreFolder.exists() && !datastoreFolder.mkdirs())
+                throw new IOException("Cannot create datastore folder");
+
+            replay();
+        } catch (Throwable error) {
+            Log.error(error, "An unexpected error occurred while opening the statements journal:");
+            close();
+            return;
+        }
+
+        enabled = true;
+    }
+
+    public static void start(SuperiorSkyblockPlugin plugin) {
+        if (!enabled)
+            return;
+
+        long syncInterval = Math.max(1, plugin.getSettings().getDatabase().getJournalSyncInterval());
+        BukkitExecutor.asyncTimer(IslandsDatabaseBridge::journalFutureSaves, syncInterval);
+        BukkitExecutor.asyncTimer(StatementsJournal::sync, syncInterval);
+    }
+
+    public static void shutdown() {
+        if (!enabled)
+            return;
+
+        enabled = false;
+
+        synchronized (LOCK) {
+            // Statements that were not released are kept for the next startup.
+            if (LIVE_ENTRIES.isEmpty())
+                truncate();
+            else if (buffer != null)
+                buffer.force();
+            close();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Append statements to the journal.
+     *
+     * @return The sequence of the entry, or -1 if the statements were not appended.
+     */
+    public static long append(List<Statement> statements) {
+        if (!enabled || statements.isEmpty())
+            return -1;
+
+        byte[] data = encode(statements);
+        int requiredSpace = ENTRY_HEADER_SIZE + data.length + RELEASE_ENTRY_SIZE;
+
+        synchronized (LOCK) {
+            if (buffer == null)
+                return -1;
+
+            if (buffer.remaining() < requiredSpace + reservedSpace && !rotate(requiredSpace)) {
+                if (!fullWarned) {
+                    fullWarned = true;
+                    Log.warn("The statements journal is full, statements will not be journaled until it is truncated.");
+                }
+                return -1;
+            }
+
+            long sequence = nextSequence++;
+            writeEntry(buffer, sequence, data);
+            LIVE_ENTRIES.put(sequence, data);
+            reservedSpace += RELEASE_ENTRY_SIZE;
+            dirty = true;
+            return sequence;
+        }
+    }
+
+    public static void release(long sequence) {
+        if (sequence >= 0)
+            release(Collections.singletonList(sequence));
+    }
+
+    public static void release(Collection<Long> sequences) {
+        if (sequences.isEmpty())
+            return;
+
+        synchronized (LOCK) {
+            List<Long> releasedSequences = new ArrayList<>(sequences.size());
+            for (long sequence : sequences) {
+                if (LIVE_ENTRIES.remove(sequence) != null)
+                    releasedSequences.add(sequence);
+            }
+
+            if (releasedSequences.isEmpty() || buffer == null)
+                return;
+
+            // The space of the release entry was reserved when the entries were appended.
+            writeEntry(buffer, 0, encodeRelease(releasedSequences));
+            reservedSpace -= (long) releasedSequences.size() * RELEASE_ENTRY_SIZE;
+            dirty = true;
+        }
+    }
+
+    private static void sync() {
+        MappedByteBuffer buffer;
+
+        synchronized (LOCK) {
+            buffer = StatementsJournal.buffer;
+            if (buffer == null)
+                return;
+
+            if (LIVE_ENTRIES.isEmpty() && buffer.position() > HEADER_SIZE) {
+                // All statements were executed, the journal can be truncated.
+                truncate();
+                return;
+            }
+
+            if (!dirty)
+                return;
+
+            dirty = false;
+        }
+
+        buffer.force();
+    }
+
+    private static void replay() throws IOException {
+        JournalFile[] files = {JournalFile.read(journalFiles[0]), JournalFile.read(journalFiles[1])};
+
+        activeFile = files[1] != null && (files[0] == null || files[1].epoch > files[0].epoch) ? 1 : 0;
+        JournalFile journalFile = files[activeFile];
+
+        List<JournalEntry> entries = journalFile == null ? Collections.emptyList() : journalFile.entries;
+        epoch = journalFile == null ? 0 : journalFile.epoch;
+
+        // Only entries that were not released are executed again.
+        Set<Long> releasedSequences = new HashSet<>();
+        for (JournalEntry entry : entries) {
+            if (entry.data[0] == ENTRY_RELEASE)
+                releasedSequences.addAll(decodeRelease(entry.data));
+        }
+
+        List<JournalEntry> liveEntries = new ArrayList<>();
+        for (JournalEntry entry : entries) {
+            if (entry.data[0] == ENTRY_STATEMENTS && !releasedSequences.contains(entry.sequence))
+                liveEntries.add(entry);
+        }
+
+        if (!liveEntries.isEmpty()) {
+            Log.info("Replaying ", liveEntries.size(), " journaled database operations...");
+            for (JournalEntry entry : liveEntries) {
+                for (Statement statement : decode(entry.data)) {
+                    StatementHolder statementHolder = new StatementHolder(statement.query);
+                    for (Object value : statement.values)
+                        statementHolder.setObject(value);
+                    statementHolder.execute(false);
+                }
+            }
+        }
+
+        map(activeFile, INITIAL_CAPACITY);
+        truncate();
+    }
+
+    private static void truncate() {
+        if (buffer == null)
+            return;
+
+        // Moving to the next epoch invalidates all entries in the file.
+        // This must reach the disk before entries of the new epoch are written over the old ones.
+        ++epoch;
+        writeHeader(buffer);
+        buffer.putLong(HEADER_SIZE, 0);
+        buffer.position(HEADER_SIZE);
+        buffer.force();
+        reservedSpace = 0;
+        dirty = false;
+        fullWarned = false;
+    }
+
+    private static boolean rotate(int requiredSpace) {
+        long liveSize = 0;
+        for (byte[] data : LIVE_ENTRIES.values())
+            liveSize += ENTRY_HEADER_SIZE + data.length + RELEASE_ENTRY_SIZE;
+
+        long capacity = INITIAL_CAPACITY;
+        while (capacity < (liveSize + requiredSpace) * 2 + HEADER_SIZE && capacity < maxSize)
+            capacity <<= 1;
+        capacity = Math.min(capacity, maxSize);
+
+        if (capacity < HEADER_SIZE + liveSize + requiredSpace)
+            return false;
+
+        try {
+            // Live entries are moved into the other file, which becomes the active one only after
+            // it was written to the disk with a newer epoch.
+            ++epoch;
+            map(1 - activeFile, (int) capacity);
+            writeHeader(buffer);
+            for (Map.Entry<Long, byte[]> liveEntry : LIVE_ENTRIES.entrySet())
+                writeEntry(buffer, liveEntry.getKey(), liveEntry.getValue());
+            buffer.force();
+            // Released entries are not moved, so their release entries are not needed anymore.
+            reservedSpace = (long) LIVE_ENTRIES.size() * RELEASE_ENTRY_SIZE;
+            activeFile = 1 - activeFile;
+            return true;
+        } catch (IOException error) {
+            Log.error(error, "An unexpected error occurred while rotating the statements journal:");
+            return false;
+        }
+    }
+
+    private static void map(int file, int capacity) throws IOException {
+        FileChannel newFileChannel = FileChannel.open(journalFiles[file].toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        MappedByteBuffer buffer;
+        try {
+            buffer = newFileChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException error) {
+            newFileChannel.close();
+            throw error;
+        }
+
+        buffer.position(HEADER_SIZE);
+
+        if (fileChannel != null)
+            fileChannel.close();
+
+        fileChannel = newFileChannel;
+        StatementsJournal.buffer = buffer;
+    }
+
+    private static void close() {
+        buffer = null;
+        if (fileChannel != null) {
+            try {
+                fileChannel.close();
+            } catch (IOException ignored) {
+            }
+            fileChannel = null;
+        }
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, epoch);
+    }
+
+    private static void writeEntry(MappedByteBuffer buffer, long sequence, byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+
+        buffer.putInt(data.length);
+        buffer.putLong(epoch);
+        buffer.putLong(sequence);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(data);
+
+        // The next entry is marked as empty, so stale entries after it are never read.
+        if (buffer.remaining() >= 4)
+            buffer.putInt(buffer.position(), 0);
+    }
+
+    private static byte[] encode(List<Statement> statements) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            output.writeByte(ENTRY_STATEMENTS);
+            output.writeInt(statements.size());
+            for (Statement statement : statements) {
+                writeString(output, statement.query);
+                output.writeInt(statement.values.length);
+                for (Object value : statement.values)
+                    writeValue(output, value);
+            }
+
+            return bytes.toByteArray();
+        } catch (IOException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    private static byte[] encodeRelease(List<Long> sequences) {
+        ByteBuffer data = ByteBuffer.allocate(1 + 4 + 8 * sequences.size());
+        data.put(ENTRY_RELEASE);
+        data.putInt(sequences.size());
+        for (long sequence : sequences)
+            data.putLong(sequence);
+        return data.array();
+    }
+
+    private static List<Long> decodeRelease(byte[] data) {
+        ByteBuffer input = ByteBuffer.wrap(data, 1, data.length - 1);
+        int sequencesCount = input.getInt();
+        List<Long> sequences = new ArrayList<>(sequencesCount);
+        for (int i = 0; i < sequencesCount; ++i)
+            sequences.add(input.getLong());
+        return sequences;
+    }
+
+    private static List<Statement> decode(byte[] data) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+        input.readByte(); // Entry type
+
+        int statementsCount = input.readInt();
+        List<Statement> statements = new ArrayList<>(statementsCount);
+
+        for (int i = 0; i < statementsCount; ++i) {
+            String query = readString(input);
+            Object[] values = new Object[input.readInt()];
+            for (int j = 0; j < values.length; ++j)
+                values[j] = readValue(input);
+            statements.add(new Statement(query, values));
+        }
+
+        return statements;
+    }
+
+    private static void writeValue(DataOutputStream output, @Nullable Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(TYPE_NULL);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            output.writeByte(TYPE_INT);
+            output.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            output.writeByte(TYPE_LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            output.writeByte(TYPE_DOUBLE);
+            output.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            output.writeByte(TYPE_BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(TYPE_BIG_DECIMAL);
+            writeString(output, value.toString());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(TYPE_BIG_INTEGER);
+            writeString(output, value.toString());
+        } else if (value instanceof byte[]) {
+            output.writeByte(TYPE_BYTES);
+            output.writeInt(((byte[]) value).length);
+            output.write((byte[]) value);
+        } else {
+            output.writeByte(TYPE_STRING);
+            writeString(output, value.toString());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(input);
+            case TYPE_INT:
+                return input.readInt();
+            case TYPE_LONG:
+                return input.readLong();
+            case TYPE_DOUBLE:
+                return input.readDouble();
+            case TYPE_BOOLEAN:
+                return input.readBoolean();
+            case TYPE_BYTES: {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return bytes;
+            }
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(readString(input));
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readString(input));
+            default:
+                throw new IOException("Unknown value type: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static final class Statement {
+
+        private final String query;
+        private final Object[] values;
+
+        public Statement(String query, Object[] values) {
+            this.query = query;
+            this.values = values;
+        }
+
+    }
+
+    private static final class JournalEntry {
+
+        private final long sequence;
+        private final byte[] data;
+
+        JournalEntry(long sequence, byte[] data) {
+            this.sequence = sequence;
+            this.data = data;
+        }
+
+    }
+
+    private static final class JournalFile {
+
+        private final long epoch;
+        private final List<JournalEntry> entries;
+
+        JournalFile(long epoch, List<JournalEntry> entries) {
+            this.epoch = epoch;
+            this.entries = entries;
+        }
+
+        @Nullable
+        static JournalFile read(File file) throws IOException {
+            if (!file.exists() || file.length() < HEADER_SIZE)
+                return null;
+
+            try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+                    return null;
+
+                long epoch = buffer.getLong(8);
+                List<JournalEntry> entries = new ArrayList<>();
+                buffer.position(HEADER_SIZE);
+
+                try {
+                    while (buffer.remaining() >= ENTRY_HEADER_SIZE) {
+                        int length = buffer.getInt();
+                        long entryEpoch = buffer.getLong();
+                        long sequence = buffer.getLong();
+                        int crc = buffer.getInt();
+
+                        // Entries of older epochs and partially written entries end the journal.
+                        if (length <= 0 || entryEpoch != epoch || length > buffer.remaining())
+                            break;
+
+                        byte[] data = new byte[length];
+                        buffer.get(data);
+
+                        CRC32 dataCrc = new CRC32();
+                        dataCrc.update(data, 0, data.length);
+                        if ((int) dataCrc.getValue() != crc)
+                            break;
+
+                        entries.add(new JournalEntry(sequence, data));
+                    }
+                } catch (BufferUnderflowException ignored) {
+                }
+
+                return new JournalFile(epoch, entries);
+            }
+        }
+
+    }
+
+}
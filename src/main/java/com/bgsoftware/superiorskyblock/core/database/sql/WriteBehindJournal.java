@@ -0,0 +1,422 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.config.SettingsManager;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind journal for row updates.
+ * Updates for the same row (table + filter) are merged into a single UPDATE statement, which is executed once
+ * the first update of the row has been pending for the configured max-latency.
+ * Inserts and deletes of rows that have pending updates flush (or discard) these updates first, so the order
+ * of operations in the database stays the same as the order they were issued in.
+ * Pending rows are indexed by their tables and filter columns, so these operations only look up the rows they affect.
+ */
+public class WriteBehindJournal {
+
+    private static final Map<RowKey, PendingRow> PENDING_ROWS = new LinkedHashMap<>();
+    // Keys of pending rows of each table, grouped by their filter columns.
+    private static final Map<String, Map<List<String>, Set<RowKey>>> PENDING_ROWS_BY_TABLES = new HashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static long maxLatency = 0;
+
+    private WriteBehindJournal() {
+
+    }
+
+    public static void start(SuperiorSkyblockPlugin plugin) {
+        SettingsManager.Database database = plugin.getSettings().getDatabase();
+
+        if (!database.isWriteBehind())
+            return;
+
+        enabled = true;
+        maxLatency = Math.max(0, database.getWriteBehindMaxLatency());
+        BukkitExecutor.asyncTimer(() -> flush(false), Math.max(1, database.getWriteBehindFlushInterval()));
+    }
+
+    public static void shutdown() {
+        // Once shutdown, all operations will be executed directly.
+        enabled = false;
+        flush(true);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void enqueue(String table, DatabaseFilter filter, Pair<String, Object>[] columns,
+                               @Nullable UUID shardKey) {
+        RowKey rowKey = new RowKey(table, filter);
+
+        synchronized (PENDING_ROWS) {
+            PendingRow pendingRow = PENDING_ROWS.get(rowKey);
+            if (pendingRow == null) {
+                // The creation time is taken while holding the lock, so pending rows are ordered by their creation times.
+                pendingRow = new PendingRow(rowKey, shardKey, System.currentTimeMillis());
+                PENDING_ROWS.put(rowKey, pendingRow);
+                PENDING_ROWS_BY_TABLES.computeIfAbsent(table, t -> new HashMap<>())
+                        .computeIfAbsent(Arrays.asList(rowKey.filterColumns), f -> new LinkedHashSet<>())
+                        .add(rowKey);
+            }
+
+            for (Pair<String, Object> column : columns)
+                pendingRow.columns.put(column.getKey(), column.getValue());
+
+            // Pending updates are journaled as they are, so they are not lost if the server crashes before they are flushed.
+            // Updates are journaled by the database thread of the row, so journaling never adds work to the calling thread.
+            if (StatementsJournal.isEnabled()) {
+                PendingRow journaledRow = pendingRow;
+                BukkitExecutor.data(shardKey, () -> journalPendingRow(journaledRow, table, columns));
+            }
+        }
+    }
+
+    public static void flushRow(String table, @Nullable DatabaseFilter filter) {
+        if (filter == null) {
+            flushRows(() -> getTableRows(table));
+        } else {
+            RowKey rowKey = new RowKey(table, filter);
+            flushRows(() -> Collections.singletonList(rowKey));
+        }
+    }
+
+    public static void flushForInsert(String table, Pair<String, Object>[] columns) {
+        flushRows(() -> {
+            Map<List<String>, Set<RowKey>> tableRows = PENDING_ROWS_BY_TABLES.get(table);
+            if (tableRows == null)
+                return Collections.emptyList();
+
+            // Inserted rows are identified by the values of their filter columns.
+            List<RowKey> insertedRows = new LinkedList<>();
+            for (List<String> filterColumns : tableRows.keySet()) {
+                RowKey rowKey = RowKey.fromColumns(table, filterColumns, columns);
+                if (rowKey != null)
+                    insertedRows.add(rowKey);
+            }
+
+            return insertedRows;
+        });
+    }
+
+    public static void discardForDelete(String table, @Nullable DatabaseFilter filter) {
+        synchronized (PENDING_ROWS) {
+            if (PENDING_ROWS.isEmpty())
+                return;
+
+            List<RowKey> deletedRows;
+
+            if (filter == null) {
+                deletedRows = getTableRows(table);
+            } else {
+                Map<List<String>, Set<RowKey>> tableRows = PENDING_ROWS_BY_TABLES.get(table);
+                if (tableRows == null)
+                    return;
+
+                RowKey filterRowKey = new RowKey(table, filter);
+                List<String> filterColumns = Arrays.asList(filterRowKey.filterColumns);
+                deletedRows = new LinkedList<>();
+
+                for (Map.Entry<List<String>, Set<RowKey>> entry : tableRows.entrySet()) {
+                    if (entry.getKey().equals(filterColumns)) {
+                        deletedRows.add(filterRowKey);
+                    } else {
+                        // Deletes may filter only some of the columns of the rows, such as all rows of an island.
+                        for (RowKey rowKey : entry.getValue()) {
+                            if (rowKey.matches(filter))
+                                deletedRows.add(rowKey);
+                        }
+                    }
+                }
+            }
+
+            // Updates of rows that are about to be deleted are meaningless, and therefore are dropped.
+            for (RowKey rowKey : deletedRows) {
+                PendingRow pendingRow = removePendingRow(rowKey);
+                if (pendingRow != null)
+                    StatementsJournal.release(pendingRow.journalEntries);
+            }
+        }
+    }
+
+    public static void flush(boolean force) {
+        long flushTime = System.currentTimeMillis() - maxLatency;
+        flushRows(() -> {
+            List<RowKey> expiredRows = new LinkedList<>();
+            // Pending rows are ordered by their creation times, so the first row that was not expired ends the search.
+            for (PendingRow pendingRow : PENDING_ROWS.values()) {
+                if (!force && pendingRow.creationTime > flushTime)
+                    break;
+                expiredRows.add(pendingRow.rowKey);
+            }
+            return expiredRows;
+        });
+    }
+
+    public static int getPendingRowsCount() {
+        synchronized (PENDING_ROWS) {
+            return PENDING_ROWS.size();
+        }
+    }
+
+    /**
+     * Flush pending rows.
+     *
+     * @param rowKeysSupplier Supplier for the keys of the rows to flush, which is called while holding the lock.
+     */
+    private static void flushRows(Supplier<Collection<RowKey>> rowKeysSupplier) {
+        List<PendingRow> rowsToFlush = new LinkedList<>();
+        List<PendingRow> currentThreadRows = new LinkedList<>();
+
+        synchronized (PENDING_ROWS) {
+            if (PENDING_ROWS.isEmpty())
+                return;
+
+            for (RowKey rowKey : rowKeysSupplier.get()) {
+                PendingRow pendingRow = removePendingRow(rowKey);
+                if (pendingRow == null)
+                    continue;
+
+                if (BukkitExecutor.isDataThread(pendingRow.shardKey)) {
+                    currentThreadRows.add(pendingRow);
+                } else {
+                    rowsToFlush.add(pendingRow);
+                }
+            }
+
+            // Statements that are not executed from their database thread are only submitted to it.
+            // This must be done while holding the lock, so flushes from other threads will not be
+            // submitted before these rows and override newer values.
+            executeRows(rowsToFlush);
+        }
+
+        executeRows(currentThreadRows);
+    }
+
+    private static List<RowKey> getTableRows(String table) {
+        Map<List<String>, Set<RowKey>> tableRows = PENDING_ROWS_BY_TABLES.get(table);
+        if (tableRows == null)
+            return Collections.emptyList();
+
+        List<RowKey> rowKeys = new LinkedList<>();
+        tableRows.values().forEach(rowKeys::addAll);
+        return rowKeys;
+    }
+
+    @Nullable
+    private static PendingRow removePendingRow(RowKey rowKey) {
+        PendingRow pendingRow = PENDING_ROWS.remove(rowKey);
+
+        if (pendingRow != null) {
+            Map<List<String>, Set<RowKey>> tableRows = PENDING_ROWS_BY_TABLES.get(rowKey.table);
+            List<String> filterColumns = Arrays.asList(rowKey.filterColumns);
+            Set<RowKey> rowKeys = tableRows.get(filterColumns);
+            rowKeys.remove(rowKey);
+            if (rowKeys.isEmpty()) {
+                tableRows.remove(filterColumns);
+                if (tableRows.isEmpty())
+                    PENDING_ROWS_BY_TABLES.remove(rowKey.table);
+            }
+        }
+
+        return pendingRow;
+    }
+
+    private static void executeRows(List<PendingRow> rows) {
+        if (rows.isEmpty())
+            return;
+
+        // Rows that update the same columns of the same table share the same query, and can be executed as a batch.
+        // Batches are executed by the database thread of their rows, therefore rows are grouped by their shard first.
+        Map<UUID, Map<String, List<PendingRow>>> rowsByShards = new LinkedHashMap<>();
+        for (PendingRow pendingRow : rows) {
+            rowsByShards.computeIfAbsent(pendingRow.shardKey, s -> new LinkedHashMap<>())
+                    .computeIfAbsent(pendingRow.buildQuery(), q -> new LinkedList<>()).add(pendingRow);
+        }
+
+        rowsByShards.forEach((shardKey, rowsByQuery) -> executeRows(shardKey, rowsByQuery));
+    }
+
+    private static void executeRows(@Nullable UUID shardKey, Map<String, List<PendingRow>> rowsByQuery) {
+        rowsByQuery.forEach((query, queryRows) -> {
+            StatementHolder statementHolder = new StatementHolder(query, shardKey);
+
+            for (PendingRow pendingRow : queryRows) {
+                statementHolder.addJournalEntries(pendingRow.journalEntries);
+                pendingRow.columns.values().forEach(statementHolder::setObject);
+                for (String filterValue : pendingRow.rowKey.filterValues)
+                    statementHolder.setObject(filterValue);
+
+                if (queryRows.size() > 1)
+                    statementHolder.addBatch();
+            }
+
+            if (queryRows.size() > 1) {
+                statementHolder.executeBatch(true);
+            } else {
+                statementHolder.execute(true);
+            }
+        });
+    }
+
+    private static void journalPendingRow(PendingRow pendingRow, String table, Pair<String, Object>[] columns) {
+        long journalEntry = StatementsJournal.append(Collections.singletonList(
+                buildJournalStatement(table, columns, pendingRow.rowKey)));
+
+        if (journalEntry < 0)
+            return;
+
+        synchronized (PENDING_ROWS) {
+            if (PENDING_ROWS.get(pendingRow.rowKey) == pendingRow) {
+                pendingRow.journalEntries.add(journalEntry);
+                return;
+            }
+        }
+
+        // The row was flushed or discarded since the update was enqueued. Flushed rows are journaled again
+        // when they are executed, if they have no journal entries.
+        StatementsJournal.release(journalEntry);
+    }
+
+    private static StatementsJournal.Statement buildJournalStatement(String table, Pair<String, Object>[] columns,
+                                                                     RowKey rowKey) {
+        Object[] values = new Object[columns.length + rowKey.filterValues.length];
+
+        String[] columnNames = new String[columns.length];
+        for (int i = 0; i < columns.length; ++i) {
+            columnNames[i] = columns[i].getKey();
+            values[i] = columns[i].getValue();
+        }
+
+        System.arraycopy(rowKey.filterValues, 0, values, columns.length, rowKey.filterValues.length);
+
+        return new StatementsJournal.Statement(SQLQueries.update(table, Arrays.asList(columnNames),
+                rowKey.filterColumns), values);
+    }
+
+    private static final class RowKey {
+
+        private final String table;
+        private final String[] filterColumns;
+        private final String[] filterValues;
+        private final int hashCode;
+
+        RowKey(String table, DatabaseFilter filter) {
+            this.table = table;
+
+            int filtersCount = filter.getFilters().size();
+            this.filterColumns = new String[filtersCount];
+            this.filterValues = new String[filtersCount];
+
+            int[] index = {0};
+            filter.forEach((column, value) -> {
+                this.filterColumns[index[0]] = column;
+                this.filterValues[index[0]] = value + "";
+                ++index[0];
+            });
+
+            this.hashCode = calculateHashCode();
+        }
+
+        private RowKey(String table, String[] filterColumns, String[] filterValues) {
+            this.table = table;
+            this.filterColumns = filterColumns;
+            this.filterValues = filterValues;
+            this.hashCode = calculateHashCode();
+        }
+
+        @Nullable
+        static RowKey fromColumns(String table, List<String> filterColumns, Pair<String, Object>[] columns) {
+            String[] filterValues = new String[filterColumns.size()];
+
+            for (int i = 0; i < filterValues.length; ++i) {
+                int columnIndex = indexOfColumn(columns, filterColumns.get(i));
+                if (columnIndex < 0)
+                    return null;
+                filterValues[i] = columns[columnIndex].getValue() + "";
+            }
+
+            return new RowKey(table, filterColumns.toArray(new String[0]), filterValues);
+        }
+
+        boolean matches(@Nullable DatabaseFilter filter) {
+            if (filter == null)
+                return true;
+
+            for (Pair<String, Object> filterPair : filter.getFilters()) {
+                int columnIndex = Arrays.asList(filterColumns).indexOf(filterPair.getKey());
+                if (columnIndex < 0 || !filterValues[columnIndex].equals(filterPair.getValue() + ""))
+                    return false;
+            }
+
+            return true;
+        }
+
+        private static int indexOfColumn(Pair<String, Object>[] columns, String column) {
+            for (int i = 0; i < columns.length; ++i) {
+                if (columns[i].getKey().equals(column))
+                    return i;
+            }
+
+            return -1;
+        }
+
+        private int calculateHashCode() {
+            return 31 * (31 * table.hashCode() + Arrays.hashCode(filterColumns)) + Arrays.hashCode(filterValues);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RowKey rowKey = (RowKey) o;
+            return table.equals(rowKey.table) && Arrays.equals(filterColumns, rowKey.filterColumns) &&
+                    Arrays.equals(filterValues, rowKey.filterValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private static final class PendingRow {
+
+        private final Map<String, Object> columns = new LinkedHashMap<>();
+        private final List<Long> journalEntries = new LinkedList<>();
+        private final RowKey rowKey;
+        @Nullable
+        private final UUID shardKey;
+        private final long creationTime;
+
+        PendingRow(RowKey rowKey, @Nullable UUID shardKey, long creationTime) {
+            this.rowKey = rowKey;
+            this.shardKey = shardKey;
+            this.creationTime = creationTime;
+        }
+
+        String buildQuery() {
+            return SQLQueries.update(rowKey.table, columns.keySet(), rowKey.filterColumns);
+        }
+
+    }
+
+}
@@ -6,6 +6,7 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.google.common.base.Preconditions;
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.Connection;
@@ -16,6 +17,8 @@ import java.util.concurrent.CompletableFuture;
 
 public abstract class RemoteSQLSession implements SQLSession {
 
+    public static final int MAXIMUM_POOL_SIZE = 50;
+
     protected final CompletableFuture<Void> ready = new CompletableFuture<>();
     protected final SuperiorSkyblockPlugin plugin;
 
@@ -74,7 +77,7 @@ public abstract class RemoteSQLSession implements SQLSession {
     }
 
     @Override
-    public void createIndex(String indexName, String tableName, String[] columns, QueryResult<Void> queryResult) {
+    public void createIndex(String indexName, String tableName, String[] columns, boolean unique, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
         for (String column : columns) {
             columnsSection.append(",").append(column);
@@ -82,8 +85,8 @@ public abstract class RemoteSQLSession implements SQLSession {
 
         String prefix = plugin.getSettings().getDatabase().getPrefix();
 
-        executeUpdate(String.format("CREATE UNIQUE INDEX %s ON %s%s (%s);",
-                indexName, prefix, tableName, columnsSection.substring(1)), queryResult);
+        executeUpdate(String.format("CREATE %sINDEX %s ON %s%s (%s);",
+                unique ? "UNIQUE " : "", indexName, prefix, tableName, columnsSection.substring(1)), queryResult);
     }
 
     @Override
@@ -127,6 +130,16 @@ public abstract class RemoteSQLSession implements SQLSession {
         }
     }
 
+    protected static void addStatementsProperties(HikariConfig config) {
+        // Prepared statements are cached per connection, and batches of statements are sent to the server
+        // as multi-row statements.
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+    }
+
     private void executeUpdate(String statement, QueryResult<Void> queryResult) {
         Preconditions.checkNotNull(this.dataSource, "Session was not initialized.");
 
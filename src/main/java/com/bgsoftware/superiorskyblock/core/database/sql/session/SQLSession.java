@@ -19,7 +19,7 @@ public interface SQLSession {
 
     void renameTable(String tableName, String newName, QueryResult<Void> queryResult);
 
-    void createIndex(String indexName, String tableName, String[] columns, QueryResult<Void> queryResult);
+    void createIndex(String indexName, String tableName, String[] columns, boolean unique, QueryResult<Void> queryResult);
 
     void modifyColumnType(String tableName, String columnName, String newType, QueryResult<Void> queryResult);
 
@@ -38,12 +38,13 @@ public class MySQLSession extends RemoteSQLSession {
             config.setUsername(userName);
             config.setPassword(password);
             config.setMinimumIdle(5);
-            config.setMaximumPoolSize(50);
+            config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
             config.setConnectionTimeout(10000);
             config.setIdleTimeout(plugin.getSettings().getDatabase().getWaitTimeout());
             config.setMaxLifetime(plugin.getSettings().getDatabase().getMaxLifetime());
             config.addDataSourceProperty("characterEncoding", "utf8");
             config.addDataSourceProperty("useUnicode", "true");
+            addStatementsProperties(config);
 
             dataSource = new HikariDataSource(config);
 
@@ -16,10 +16,26 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class SQLiteSession implements SQLSession {
 
+    private static final int MAX_CACHED_STATEMENTS = 256;
+
+    // Statements are cached for reuse, as all queries are executed on the same connection.
+    private final Map<String, PreparedStatement> cachedStatements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= MAX_CACHED_STATEMENTS)
+                return false;
+
+            closeStatement(eldest.getValue());
+            return true;
+        }
+    };
+
     private final CompletableFuture<Void> ready = new CompletableFuture<>();
     private final SuperiorSkyblockPlugin plugin;
 
@@ -80,6 +96,11 @@ public class SQLiteSession implements SQLSession {
     public void closeConnection() {
         Preconditions.checkNotNull(this.conn, "Session was not initialized.");
 
+        synchronized (cachedStatements) {
+            cachedStatements.values().forEach(SQLiteSession::closeStatement);
+            cachedStatements.clear();
+        }
+
         try {
             conn.close();
         } catch (SQLException error) {
@@ -116,14 +137,14 @@ public class SQLiteSession implements SQLSession {
     }
 
     @Override
-    public void createIndex(String indexName, String tableName, String[] columns, QueryResult<Void> queryResult) {
+    public void createIndex(String indexName, String tableName, String[] columns, boolean unique, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
         for (String column : columns) {
             columnsSection.append(",").append(column);
         }
 
-        executeUpdate(String.format("CREATE UNIQUE INDEX %s ON %s (%s);",
-                indexName, tableName, columnsSection.substring(1)), queryResult);
+        executeUpdate(String.format("CREATE %sINDEX %s ON %s (%s);",
+                unique ? "UNIQUE " : "", indexName, tableName, columnsSection.substring(1)), queryResult);
     }
 
     @Override
@@ -160,11 +181,42 @@ public class SQLiteSession implements SQLSession {
     public void customQuery(String query, QueryResult<PreparedStatement> queryResult) {
         Preconditions.checkNotNull(this.conn, "Session was not initialized.");
 
-        try (PreparedStatement preparedStatement =
-                     this.conn.prepareStatement(query.replace("{prefix}", ""))) {
-            queryResult.complete(preparedStatement);
-        } catch (SQLException error) {
-            queryResult.fail(error);
+        synchronized (cachedStatements) {
+            try {
+                PreparedStatement preparedStatement = cachedStatements.get(query);
+
+                if (preparedStatement == null || preparedStatement.isClosed()) {
+                    preparedStatement = this.conn.prepareStatement(query.replace("{prefix}", ""));
+                    cachedStatements.put(query, preparedStatement);
+                } else {
+                    // Statements are reused, so values and rows of previous queries are cleared.
+                    preparedStatement.clearParameters();
+                    preparedStatement.clearBatch();
+                }
+
+                try {
+                    queryResult.complete(preparedStatement);
+                } catch (SQLException error) {
+                    clearBatch(preparedStatement);
+                    throw error;
+                }
+            } catch (SQLException error) {
+                queryResult.fail(error);
+            }
+        }
+    }
+
+    private static void closeStatement(PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private static void clearBatch(PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.clearBatch();
+        } catch (SQLException ignored) {
         }
     }
 
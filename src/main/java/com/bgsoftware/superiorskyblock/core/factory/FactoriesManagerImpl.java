@@ -230,11 +230,13 @@ public class FactoriesManagerImpl implements FactoriesManager {
     }
 
     public DatabaseBridge createDatabaseBridge(Island island) {
-        return databaseBridgeFactory.createIslandsDatabaseBridge(island, new SQLDatabaseBridge());
+        UUID shardKey = island == null ? null : island.getUniqueId();
+        return databaseBridgeFactory.createIslandsDatabaseBridge(island, new SQLDatabaseBridge(shardKey));
     }
 
     public DatabaseBridge createDatabaseBridge(SuperiorPlayer superiorPlayer) {
-        return databaseBridgeFactory.createPlayersDatabaseBridge(superiorPlayer, new SQLDatabaseBridge());
+        UUID shardKey = superiorPlayer == null ? null : superiorPlayer.getUniqueId();
+        return databaseBridgeFactory.createPlayersDatabaseBridge(superiorPlayer, new SQLDatabaseBridge(shardKey));
     }
 
     public DatabaseBridge createDatabaseBridge(GridManager gridManager) {
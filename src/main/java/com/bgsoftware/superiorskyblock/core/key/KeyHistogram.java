@@ -0,0 +1,116 @@
+package com.bgsoftware.superiorskyblock.core.key;
+
+import com.bgsoftware.superiorskyblock.api.key.Key;
+
+import java.util.Arrays;
+
+/**
+ * Counts of keys by their ids in {@link KeyIds}, stored in open-addressed primitive arrays.
+ * Used for passing block counts of chunks to calculations of islands, so counts can be merged
+ * without creating objects for every key of every chunk.
+ * This class is not thread-safe.
+ */
+public class KeyHistogram {
+
+    private static final int EMPTY_ID = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] ids;
+    private long[] counts;
+    private int size = 0;
+
+    public KeyHistogram() {
+        this(16);
+    }
+
+    public KeyHistogram(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.ids = new int[capacity];
+        this.counts = new long[capacity];
+        Arrays.fill(this.ids, EMPTY_ID);
+    }
+
+    public void add(Key key, long amount) {
+        add(KeyIds.getId(key), amount);
+    }
+
+    public void add(int id, long amount) {
+        int slot = findSlot(this.ids, id);
+
+        if (this.ids[slot] == EMPTY_ID) {
+            this.ids[slot] = id;
+            this.counts[slot] = amount;
+            if (++this.size > this.ids.length * LOAD_FACTOR)
+                resize();
+        } else {
+            this.counts[slot] += amount;
+        }
+    }
+
+    public void addAll(KeyHistogram other) {
+        int[] otherIds = other.ids;
+        long[] otherCounts = other.counts;
+        for (int i = 0; i < otherIds.length; ++i) {
+            if (otherIds[i] != EMPTY_ID)
+                add(otherIds[i], otherCounts[i]);
+        }
+    }
+
+    public long get(int id) {
+        int slot = findSlot(this.ids, id);
+        return this.ids[slot] == EMPTY_ID ? 0 : this.counts[slot];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getCapacity() {
+        return this.ids.length;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void forEach(CountConsumer consumer) {
+        for (int i = 0; i < this.ids.length; ++i) {
+            if (this.ids[i] != EMPTY_ID)
+                consumer.accept(this.ids[i], this.counts[i]);
+        }
+    }
+
+    private void resize() {
+        int[] oldIds = this.ids;
+        long[] oldCounts = this.counts;
+
+        this.ids = new int[oldIds.length * 2];
+        this.counts = new long[oldIds.length * 2];
+        Arrays.fill(this.ids, EMPTY_ID);
+
+        for (int i = 0; i < oldIds.length; ++i) {
+            if (oldIds[i] != EMPTY_ID) {
+                int slot = findSlot(this.ids, oldIds[i]);
+                this.ids[slot] = oldIds[i];
+                this.counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int findSlot(int[] ids, int id) {
+        int mask = ids.length - 1;
+        // Ids are sequential, so they are spread by a multiplicative hash.
+        int hash = id * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (ids[slot] != EMPTY_ID && ids[slot] != id)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    public interface CountConsumer {
+
+        void accept(int id, long count);
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.bgsoftware.superiorskyblock.core.key;
+
+import com.bgsoftware.superiorskyblock.api.key.Key;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of int ids for keys, so counts of keys can be stored in primitive arrays.
+ * Ids are given in the order keys are first requested, and stay the same until the server stops.
+ */
+public class KeyIds {
+
+    private static final Map<Key, Integer> KEYS_TO_IDS = new ConcurrentHashMap<>();
+    private static final Object KEYS_LOCK = new Object();
+
+    private static volatile Key[] idsToKeys = new Key[256];
+    private static int nextId = 0;
+
+    private KeyIds() {
+
+    }
+
+    public static int getId(Key key) {
+        Integer id = KEYS_TO_IDS.get(key);
+        return id == null ? createId(key) : id;
+    }
+
+    public static Key getKey(int id) {
+        return idsToKeys[id];
+    }
+
+    private static int createId(Key key) {
+        synchronized (KEYS_LOCK) {
+            Integer id = KEYS_TO_IDS.get(key);
+            if (id != null)
+                return id;
+
+            int newId = nextId++;
+
+            Key[] idsToKeys = KeyIds.idsToKeys;
+            if (newId >= idsToKeys.length)
+                idsToKeys = Arrays.copyOf(idsToKeys, idsToKeys.length * 2);
+            idsToKeys[newId] = key;
+            // The array must contain the key before the id is visible to other threads.
+            KeyIds.idsToKeys = idsToKeys;
+
+            KEYS_TO_IDS.put(key, newId);
+
+            return newId;
+        }
+    }
+
+}
@@ -92,6 +92,10 @@ public class Keys {
         return plugin.getBlockValues().convertKey(baseKey, location);
     }
 
+    public static boolean isLocationSensitive(Key baseKey) {
+        return plugin.getBlockValues().hasCustomKeyParser(baseKey);
+    }
+
     /* Item keys */
 
     public static Key of(ItemStack itemStack) {
@@ -1,7 +1,6 @@
 package com.bgsoftware.superiorskyblock.core.menu.button.impl;
 
 import com.bgsoftware.common.annotations.Nullable;
-import com.bgsoftware.superiorskyblock.api.island.bank.BankTransaction;
 import com.bgsoftware.superiorskyblock.api.menu.button.MenuTemplateButton;
 import com.bgsoftware.superiorskyblock.api.world.GameSound;
 import com.bgsoftware.superiorskyblock.core.menu.TemplateItem;
@@ -9,9 +8,9 @@ import com.bgsoftware.superiorskyblock.core.menu.button.AbstractMenuTemplateButt
 import com.bgsoftware.superiorskyblock.core.menu.button.AbstractMenuViewButton;
 import com.bgsoftware.superiorskyblock.core.menu.button.MenuTemplateButtonImpl;
 import com.bgsoftware.superiorskyblock.core.menu.impl.MenuBankLogs;
+import com.bgsoftware.superiorskyblock.island.bank.logs.BankLogsSorting;
 import org.bukkit.event.inventory.InventoryClickEvent;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,13 +36,13 @@ public class BankLogsSortButton extends AbstractMenuViewButton<MenuBankLogs.View
         TIME {
             @Override
             void onButtonClick(InventoryClickEvent clickEvent, MenuBankLogs.View menuView) {
-                menuView.setSorting(Comparator.comparingLong(BankTransaction::getTime));
+                menuView.setSorting(BankLogsSorting.TIME);
             }
         },
         MONEY {
             @Override
             void onButtonClick(InventoryClickEvent clickEvent, MenuBankLogs.View menuView) {
-                menuView.setSorting((o1, o2) -> o2.getAmount().compareTo(o1.getAmount()));
+                menuView.setSorting(BankLogsSorting.AMOUNT);
             }
         };
 
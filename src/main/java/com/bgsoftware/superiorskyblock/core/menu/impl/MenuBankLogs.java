@@ -4,10 +4,12 @@ import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.bank.BankTransaction;
+import com.bgsoftware.superiorskyblock.api.island.bank.IslandBank;
 import com.bgsoftware.superiorskyblock.api.menu.Menu;
 import com.bgsoftware.superiorskyblock.api.menu.layout.MenuLayout;
 import com.bgsoftware.superiorskyblock.api.menu.view.MenuView;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.io.MenuParserImpl;
 import com.bgsoftware.superiorskyblock.core.menu.AbstractPagedMenu;
 import com.bgsoftware.superiorskyblock.core.menu.MenuIdentifiers;
@@ -19,14 +21,13 @@ import com.bgsoftware.superiorskyblock.core.menu.converter.MenuConverter;
 import com.bgsoftware.superiorskyblock.core.menu.layout.AbstractMenuLayout;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
 import com.bgsoftware.superiorskyblock.core.menu.view.args.IslandViewArgs;
+import com.bgsoftware.superiorskyblock.island.bank.SIslandBank;
+import com.bgsoftware.superiorskyblock.island.bank.logs.BankLogsSorting;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -73,7 +74,8 @@ public class MenuBankLogs extends AbstractPagedMenu<MenuBankLogs.View, IslandVie
 
         private final Island island;
 
-        private Comparator<BankTransaction> sorting;
+        @Nullable
+        private BankLogsSorting sorting;
         private UUID filteredPlayer;
 
         View(SuperiorPlayer inventoryViewer, @Nullable MenuView<?, ?> previousMenuView,
@@ -82,7 +84,7 @@ public class MenuBankLogs extends AbstractPagedMenu<MenuBankLogs.View, IslandVie
             this.island = args.getIsland();
         }
 
-        public void setSorting(Comparator<BankTransaction> sorting) {
+        public void setSorting(@Nullable BankLogsSorting sorting) {
             this.sorting = sorting;
         }
 
@@ -97,26 +99,39 @@ public class MenuBankLogs extends AbstractPagedMenu<MenuBankLogs.View, IslandVie
 
         @Override
         protected List<BankTransaction> requestObjects() {
-            List<BankTransaction> transactions = getTransactions();
+            IslandBank islandBank = island.getIslandBank();
 
             if (sorting == null) {
-                return transactions;
+                return getTransactions(islandBank);
             }
 
-            transactions = new LinkedList<>(transactions);
+            // Sorting is done by the bank logs, so logs that are loaded by pages are sorted by the database.
+            if (islandBank instanceof SIslandBank) {
+                return getTransactions((SIslandBank) islandBank, sorting);
+            }
 
-            transactions.sort(sorting);
+            return new SequentialListBuilder<BankTransaction>()
+                    .sorted(sorting.getComparator())
+                    .build(getTransactions(islandBank));
+        }
 
-            return Collections.unmodifiableList(transactions);
+        private List<BankTransaction> getTransactions(IslandBank islandBank) {
+            if (filteredPlayer == null) {
+                return islandBank.getAllTransactions();
+            } else if (filteredPlayer.equals(CONSOLE_UUID)) {
+                return islandBank.getConsoleTransactions();
+            } else {
+                return islandBank.getTransactions(plugin.getPlayers().getSuperiorPlayer(filteredPlayer));
+            }
         }
 
-        private List<BankTransaction> getTransactions() {
+        private List<BankTransaction> getTransactions(SIslandBank islandBank, BankLogsSorting sorting) {
             if (filteredPlayer == null) {
-                return island.getIslandBank().getAllTransactions();
+                return islandBank.getAllTransactions(sorting);
             } else if (filteredPlayer.equals(CONSOLE_UUID)) {
-                return island.getIslandBank().getConsoleTransactions();
+                return islandBank.getConsoleTransactions(sorting);
             } else {
-                return island.getIslandBank().getTransactions(plugin.getPlayers().getSuperiorPlayer(filteredPlayer));
+                return islandBank.getTransactions(plugin.getPlayers().getSuperiorPlayer(filteredPlayer), sorting);
             }
         }
 
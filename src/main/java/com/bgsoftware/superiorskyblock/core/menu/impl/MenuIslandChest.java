@@ -18,6 +18,7 @@ import com.bgsoftware.superiorskyblock.core.menu.layout.PagedMenuLayoutImpl;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
 import com.bgsoftware.superiorskyblock.core.menu.view.MenuViewWrapper;
 import com.bgsoftware.superiorskyblock.core.menu.view.args.IslandViewArgs;
+import com.bgsoftware.superiorskyblock.island.ColdDataHydration;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -41,6 +42,10 @@ public class MenuIslandChest extends AbstractPagedMenu<MenuIslandChest.View, Isl
     }
 
     public void openMenu(SuperiorPlayer superiorPlayer, @Nullable MenuView<?, ?> previousMenu, Island island) {
+        ColdDataHydration.runWithColdData(island, () -> openMenuInternal(superiorPlayer, previousMenu, island));
+    }
+
+    private void openMenuInternal(SuperiorPlayer superiorPlayer, @Nullable MenuView<?, ?> previousMenu, Island island) {
         if (isSkipOneItem()) {
             IslandChest[] islandChest = island.getChest();
             if (islandChest.length == 1) {
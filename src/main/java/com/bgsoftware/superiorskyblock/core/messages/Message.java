@@ -190,6 +190,7 @@ public enum Message {
     COMMAND_DESCRIPTION_ADMIN_CMD_ALL,
     COMMAND_DESCRIPTION_ADMIN_COUNT,
     COMMAND_DESCRIPTION_ADMIN_DATA,
+    COMMAND_DESCRIPTION_ADMIN_DB_STATS,
     COMMAND_DESCRIPTION_ADMIN_DEBUG,
     COMMAND_DESCRIPTION_ADMIN_DEL_WARP,
     COMMAND_DESCRIPTION_ADMIN_DEMOTE,
@@ -315,6 +316,15 @@ public enum Message {
     CREATE_ISLAND,
     CREATE_ISLAND_FAILURE,
     CREATE_WORLD_FAILURE,
+    DATABASE_STATS_BATCHES,
+    DATABASE_STATS_HEADER,
+    DATABASE_STATS_PENDING_WRITES,
+    DATABASE_STATS_QUEUE_WAIT,
+    DATABASE_STATS_SELECTS,
+    DATABASE_STATS_STATEMENTS,
+    DATABASE_STATS_TABLE,
+    DATABASE_STATS_TABLES,
+    DATABASE_STATS_THREADS,
     DEBUG_MODE_DISABLED,
     DEBUG_MODE_ENABLED,
     DEBUG_MODE_FILTER_ADD,
@@ -658,6 +668,8 @@ public enum Message {
     REACHED_ENTITY_LIMIT,
     RECALC_ALL_ISLANDS,
     RECALC_ALL_ISLANDS_DONE,
+    RECALC_ALL_ISLANDS_PROGRESS,
+    RECALC_ALL_ISLANDS_PROGRESS_NO_ETA,
     RECALC_ALREADY_RUNNING,
     RECALC_ALREADY_RUNNING_OTHER,
     RECALC_PROCCESS_REQUEST,
@@ -1,22 +1,40 @@
 package com.bgsoftware.superiorskyblock.core.threads;
 
+import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class BukkitExecutor {
 
+    private static final String DATABASE_THREAD_NAME = "SuperiorSkyblock Database Thread";
+    private static final String CHUNKS_THREAD_NAME = "SuperiorSkyblock Chunks Thread #%d";
+
     private static SuperiorSkyblockPlugin plugin;
-    private static ExecutorService databaseExecutor;
+    private static ThreadPoolExecutor databaseExecutor;
+    // Database work of islands and players is sharded by their uuid, so the work of each of them is
+    // executed in order while work of different islands can run in parallel.
+    // The first shard is the main database executor.
+    private static volatile ThreadPoolExecutor[] databaseExecutors;
+    private static volatile String[] databaseThreadNames;
+    @Nullable
+    private static ThreadPoolExecutor chunksExecutor;
+    // Limits the amount of chunks waiting to be decoded, so chunks are not read faster than they are decoded.
+    @Nullable
+    private static Semaphore chunksExecutorPermits;
     private static boolean shutdown = false;
     private static boolean syncDatabaseCalls = false;
     private static boolean syncBukkitCalls = false;
@@ -27,7 +45,91 @@ public class BukkitExecutor {
 
     public static void init(SuperiorSkyblockPlugin plugin) {
         BukkitExecutor.plugin = plugin;
-        databaseExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("SuperiorSkyblock Database Thread").build());
+        databaseExecutor = createDataExecutor(DATABASE_THREAD_NAME);
+        databaseExecutors = new ThreadPoolExecutor[]{databaseExecutor};
+        databaseThreadNames = new String[]{DATABASE_THREAD_NAME};
+    }
+
+    /**
+     * Start additional database threads.
+     * Should be called before any data is saved, as the shard of each island and player depends on
+     * the amount of database threads.
+     */
+    public static void startDataThreads(int dataThreads) {
+        if (dataThreads <= databaseExecutors.length)
+            return;
+
+        ThreadPoolExecutor[] databaseExecutors = new ThreadPoolExecutor[dataThreads];
+        String[] databaseThreadNames = new String[dataThreads];
+        databaseExecutors[0] = databaseExecutor;
+        databaseThreadNames[0] = DATABASE_THREAD_NAME;
+        for (int i = 1; i < dataThreads; ++i) {
+            databaseThreadNames[i] = DATABASE_THREAD_NAME + " #" + i;
+            databaseExecutors[i] = createDataExecutor(databaseThreadNames[i]);
+        }
+
+        BukkitExecutor.databaseThreadNames = databaseThreadNames;
+        BukkitExecutor.databaseExecutors = databaseExecutors;
+    }
+
+    public static int getDataThreadsCount() {
+        return databaseExecutors.length;
+    }
+
+    public static int[] getDataQueueSizes() {
+        ThreadPoolExecutor[] databaseExecutors = BukkitExecutor.databaseExecutors;
+        int[] queueSizes = new int[databaseExecutors.length];
+        for (int i = 0; i < databaseExecutors.length; ++i)
+            queueSizes[i] = databaseExecutors[i].getQueue().size();
+        return queueSizes;
+    }
+
+    /**
+     * Start the threads used for decoding chunks.
+     * The threads have the lowest priority, so they do not starve the threads of the server.
+     */
+    public static void startChunksThreads(int chunksThreads) {
+        if (chunksThreads <= 0 || chunksExecutor != null)
+            return;
+
+        chunksExecutor = new ThreadPoolExecutor(chunksThreads, chunksThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat(CHUNKS_THREAD_NAME)
+                .setPriority(Thread.MIN_PRIORITY).setDaemon(true).build());
+        chunksExecutorPermits = new Semaphore(chunksThreads * 2);
+    }
+
+    public static boolean hasChunksThreads() {
+        return chunksExecutor != null && !syncBukkitCalls;
+    }
+
+    /**
+     * Run a task on the chunks threads.
+     * The calling thread is blocked while the threads are busy with too many tasks.
+     */
+    public static CompletableFuture<Void> chunks(Runnable runnable) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        if (!hasChunksThreads()) {
+            runChunksTask(runnable, result);
+            return result;
+        }
+
+        chunksExecutorPermits.acquireUninterruptibly();
+
+        try {
+            chunksExecutor.execute(() -> {
+                try {
+                    runChunksTask(runnable, result);
+                } finally {
+                    chunksExecutorPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException error) {
+            chunksExecutorPermits.release();
+            runChunksTask(runnable, result);
+        }
+
+        return result;
     }
 
     public static void ensureMain(Runnable runnable) {
@@ -68,8 +170,26 @@ public class BukkitExecutor {
         }
     }
 
+    public static void data(@Nullable UUID shardKey, Runnable runnable) {
+        if (ensureNotShudown())
+            return;
+
+        if (syncDatabaseCalls) {
+            runnable.run();
+        } else {
+            getDataExecutor(shardKey).execute(runnable);
+        }
+    }
+
     public static boolean isDataThread() {
-        return syncDatabaseCalls || Thread.currentThread().getName().equals("SuperiorSkyblock Database Thread");
+        return syncDatabaseCalls || Thread.currentThread().getName().startsWith(DATABASE_THREAD_NAME);
+    }
+
+    public static boolean isDataThread(@Nullable UUID shardKey) {
+        if (syncDatabaseCalls)
+            return true;
+
+        return Thread.currentThread().getName().equals(databaseThreadNames[getDataShard(shardKey)]);
     }
 
     public static void async(Runnable runnable) {
@@ -120,6 +240,8 @@ public class BukkitExecutor {
     public static void close() {
         try {
             shutdown = true;
+            if (chunksExecutor != null)
+                chunksExecutor.shutdownNow();
             Log.info("Shutting down database executor");
             shutdownAndAwaitTermination();
         } catch (Exception error) {
@@ -136,8 +258,38 @@ public class BukkitExecutor {
         return false;
     }
 
+    private static int getDataShard(@Nullable UUID shardKey) {
+        int shardsCount = databaseExecutors.length;
+        return shardKey == null || shardsCount == 1 ? 0 : (shardKey.hashCode() & Integer.MAX_VALUE) % shardsCount;
+    }
+
+    private static ExecutorService getDataExecutor(@Nullable UUID shardKey) {
+        return databaseExecutors[getDataShard(shardKey)];
+    }
+
+    private static void runChunksTask(Runnable runnable, CompletableFuture<Void> result) {
+        try {
+            runnable.run();
+            result.complete(null);
+        } catch (Throwable error) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static ThreadPoolExecutor createDataExecutor(String threadName) {
+        // Same as a single thread executor, while still exposing its queue.
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat(threadName).build());
+    }
+
     private static void shutdownAndAwaitTermination() {
-        databaseExecutor.shutdown(); // Disable new tasks from being submitted
+        for (ExecutorService databaseExecutor : databaseExecutors)
+            databaseExecutor.shutdown(); // Disable new tasks from being submitted
+        for (ExecutorService databaseExecutor : databaseExecutors)
+            shutdownAndAwaitTermination(databaseExecutor);
+    }
+
+    private static void shutdownAndAwaitTermination(ExecutorService databaseExecutor) {
         try {
             // Wait a while for existing tasks to terminate
             if (!databaseExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
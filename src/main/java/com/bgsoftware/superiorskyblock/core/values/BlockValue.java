@@ -0,0 +1,56 @@
+package com.bgsoftware.superiorskyblock.core.values;
+
+import com.bgsoftware.superiorskyblock.api.key.Key;
+
+import java.math.BigDecimal;
+
+/**
+ * The resolved values of a block key: its worth, level, the key its counts are stored under
+ * and the global key of that key.
+ * Instances are immutable, and are replaced when the block values are changed.
+ */
+public class BlockValue {
+
+    private final BigDecimal worth;
+    private final BigDecimal level;
+    private final Key valueKey;
+    private final Key globalKey;
+    private final boolean countGlobalKey;
+
+    BlockValue(BigDecimal worth, BigDecimal level, Key valueKey, Key globalKey, boolean countGlobalKey) {
+        this.worth = worth;
+        this.level = level;
+        this.valueKey = valueKey;
+        this.globalKey = globalKey;
+        this.countGlobalKey = countGlobalKey;
+    }
+
+    public BigDecimal getWorth() {
+        return worth;
+    }
+
+    public BigDecimal getLevel() {
+        return level;
+    }
+
+    public boolean hasValue() {
+        return worth.compareTo(BigDecimal.ZERO) != 0 || level.compareTo(BigDecimal.ZERO) != 0;
+    }
+
+    public Key getValueKey() {
+        return valueKey;
+    }
+
+    public Key getGlobalKey() {
+        return globalKey;
+    }
+
+    /**
+     * Whether the global key is different from the value key and has a worth or level value,
+     * in which case blocks of this key should be counted under the global key as well.
+     */
+    public boolean isCountGlobalKey() {
+        return countGlobalKey;
+    }
+
+}
@@ -10,9 +10,11 @@ import com.bgsoftware.superiorskyblock.api.key.KeySet;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.Manager;
 import com.bgsoftware.superiorskyblock.core.key.BaseKey;
+import com.bgsoftware.superiorskyblock.core.key.KeyIds;
 import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
 import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
 import com.bgsoftware.superiorskyblock.core.key.collections.MaterialKeySet;
+import com.bgsoftware.superiorskyblock.core.key.types.LazyKey;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.values.container.BlockValuesContainer;
@@ -26,6 +28,7 @@ import javax.script.Bindings;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -63,6 +66,10 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     private final BlockValuesContainer customBlockWorthValues;
     private final BlockValuesContainer customBlockLevels;
 
+    // Resolved values of keys, indexed by the ids of the keys.
+    // The array is replaced by an empty one whenever the values of blocks are changed.
+    private volatile BlockValue[] compiledValues = new BlockValue[256];
+
     public BlockValuesManagerImpl(SuperiorSkyblockPlugin plugin,
                                   BlockValuesContainer blockWorthValuesContainer,
                                   BlockValuesContainer blockLevelsContainer,
@@ -88,13 +95,81 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
 
         this.blockWorthValues.loadDefaultValues(plugin);
         this.blockLevels.loadDefaultValues(plugin);
+        clearCompiledValues();
         plugin.getProviders().addPricesLoadCallback(this::convertValuesToLevels);
     }
 
     @Override
     public BigDecimal getBlockWorth(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return getBlockValue(key).getWorth();
+    }
+
+    @Override
+    public BigDecimal getBlockLevel(Key key) {
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return getBlockValue(key).getLevel();
+    }
+
+    @Override
+    public Key getBlockKey(Key key) {
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return getBlockValue(key).getValueKey();
+    }
+
+    public BlockValue getBlockValue(Key key) {
+        // API keys are equal to regular keys but have different value keys, therefore they cannot share
+        // the compiled values of regular keys.
+        if (key instanceof LazyKey || ((BaseKey<?>) key).isAPIKey())
+            return compileBlockValue(key);
+
+        int keyId = KeyIds.getId(key);
+
+        BlockValue[] compiledValues = this.compiledValues;
+        BlockValue blockValue = keyId < compiledValues.length ? compiledValues[keyId] : null;
+
+        if (blockValue == null) {
+            blockValue = compileBlockValue(key);
+            setCompiledValue(compiledValues, keyId, blockValue);
+        }
+
+        return blockValue;
+    }
+
+    public void clearCompiledValues() {
+        synchronized (this) {
+            this.compiledValues = new BlockValue[this.compiledValues.length];
+        }
+    }
+
+    private void setCompiledValue(BlockValue[] compiledValues, int keyId, BlockValue blockValue) {
+        if (keyId < compiledValues.length) {
+            // If the array was replaced in the meantime, the value is set in the old array and discarded.
+            compiledValues[keyId] = blockValue;
+            return;
+        }
+
+        synchronized (this) {
+            // Values that were compiled before the array was cleared should not be stored.
+            if (this.compiledValues != compiledValues)
+                return;
+
+            BlockValue[] newCompiledValues = Arrays.copyOf(compiledValues, Math.max(keyId + 1, compiledValues.length * 2));
+            newCompiledValues[keyId] = blockValue;
+            this.compiledValues = newCompiledValues;
+        }
+    }
+
+    private BlockValue compileBlockValue(Key key) {
+        BigDecimal worth = compileBlockWorth(key);
+        BigDecimal level = compileBlockLevel(key, worth);
+        Key valueKey = ((BaseKey<?>) key).isAPIKey() || isValuesMenu(key) ? getValuesKey(key) : compileBlockKey(key);
+        Key globalKey = ((BaseKey<?>) valueKey).toGlobalKey();
+        boolean countGlobalKey = !globalKey.equals(valueKey) && getBlockValue(globalKey).hasValue();
+        return new BlockValue(worth, level, valueKey, globalKey, countGlobalKey);
+    }
 
+    private BigDecimal compileBlockWorth(Key key) {
         Log.debug(Debug.GET_WORTH, key);
 
         BigDecimal customBlockValue = customBlockWorthValues.getBlockValue(key);
@@ -132,10 +207,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         return BigDecimal.ZERO;
     }
 
-    @Override
-    public BigDecimal getBlockLevel(Key key) {
-        Preconditions.checkNotNull(key, "key parameter cannot be null.");
-
+    private BigDecimal compileBlockLevel(Key key, BigDecimal worth) {
         Log.debug(Debug.GET_LEVEL, key);
 
         BigDecimal customBlockLevel = customBlockLevels.getBlockValue(key);
@@ -147,7 +219,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         BigDecimal level = blockLevels.getBlockValue(key);
 
         if (level == null) {
-            level = convertValueToLevel(getBlockWorth(key));
+            level = convertValueToLevel(worth);
             blockLevels.setBlockValue(key, level);
             Log.debugResult(Debug.GET_LEVEL, "Return Converted From Worth", level);
         } else {
@@ -157,13 +229,8 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         return level;
     }
 
-    @Override
-    public Key getBlockKey(Key key) {
-        Preconditions.checkNotNull(key, "key parameter cannot be null.");
-
-        if (((BaseKey<?>) key).isAPIKey() || isValuesMenu(key)) {
-            return getValuesKey(key);
-        } else if (customBlockKeys.contains(key)) {
+    private Key compileBlockKey(Key key) {
+        if (customBlockKeys.contains(key)) {
             return customBlockKeys.getKey(key);
         } else if (blockWorthValues.containsKeyRaw(key)) {
             return key;
@@ -191,6 +258,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         if (levelValue != null && !customBlockLevels.hasBlockValue(key)) {
             customBlockLevels.setBlockValue(key, levelValue);
         }
+        clearCompiledValues();
     }
 
     @Override
@@ -202,8 +270,13 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
             customKeyParsers.put(blockType, customKeyParser);
     }
 
+    public boolean hasCustomKeyParser(Key key) {
+        return customKeyParsers.containsKey(key);
+    }
+
     public void registerMenuValueBlocks(KeySet blocks) {
         valuesMenuBlocks.addAll(blocks);
+        clearCompiledValues();
     }
 
     public boolean isValuesMenu(Key key) {
@@ -215,11 +288,13 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     }
 
     public void addCustomBlockKey(Key key) {
-        customBlockKeys.add(key);
+        if (customBlockKeys.add(key))
+            clearCompiledValues();
     }
 
     public void addCustomBlockKeys(Collection<Key> blocks) {
-        customBlockKeys.addAll(blocks);
+        if (customBlockKeys.addAll(blocks))
+            clearCompiledValues();
     }
 
     public Key convertKey(Key original, Location location) {
@@ -294,6 +369,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
                 blockLevels.setBlockValue(blockKey, convertValueToLevel(blockCount));
             }
         });
+        clearCompiledValues();
     }
 
     private static BigDecimal fastBigDecimalFromString(String value) {
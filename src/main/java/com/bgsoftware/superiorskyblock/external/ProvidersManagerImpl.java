@@ -239,7 +239,12 @@ public class ProvidersManagerImpl extends Manager implements ProvidersManager {
     @Override
     public void setPricesProvider(PricesProvider pricesProvider) {
         this.pricesProvider = pricesProvider;
-        this.pricesProvider.getWhenPricesAreReady().whenComplete((result, error) -> this.forcePricesLoad());
+        // Block values that were resolved using the old prices are not valid anymore.
+        plugin.getBlockValues().clearCompiledValues();
+        this.pricesProvider.getWhenPricesAreReady().whenComplete((result, error) -> {
+            plugin.getBlockValues().clearCompiledValues();
+            this.forcePricesLoad();
+        });
     }
 
     public void forcePricesLoad() {
@@ -4,6 +4,10 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import org.bukkit.Location;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public class SpawnersProvider_Default implements SpawnersProvider_AutoDetect {
 
     @Override
@@ -11,6 +15,15 @@ public class SpawnersProvider_Default implements SpawnersProvider_AutoDetect {
         return new Pair<>(1, null);
     }
 
+    @Override
+    public Map<Location, Pair<Integer, String>> getSpawners(Collection<Location> locations) {
+        Map<Location, Pair<Integer, String>> spawners = new HashMap<>();
+        Pair<Integer, String> spawnerInfo = new Pair<>(1, null);
+        for (Location location : locations)
+            spawners.put(location, spawnerInfo);
+        return spawners;
+    }
+
     @Override
     public String getSpawnerType(ItemStack itemStack) {
         return "PIG";
@@ -14,4 +14,9 @@ public class StackedBlocksProvider_Default implements StackedBlocksProvider_Auto
         return Collections.emptyList();
     }
 
+    @Override
+    public Collection<Pair<Key, Integer>> getBlocks(World world, Collection<Pair<Integer, Integer>> chunks) {
+        return Collections.emptyList();
+    }
+
 }
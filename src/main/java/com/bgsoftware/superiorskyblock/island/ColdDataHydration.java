@@ -0,0 +1,65 @@
+package com.bgsoftware.superiorskyblock.island;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy loading of the cold data of islands: unique visitors and chests.
+ * This data is not needed by the grid, and is only accessed when players interact with the island.
+ * When enabled, cold data is not loaded on startup, but in the background when players are about to
+ * interact with the island.
+ * Islands that did not access their cold data for the configured idle time drop it from memory.
+ */
+public class ColdDataHydration {
+
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+
+    private static final long EVICTION_INTERVAL = 1200L;
+
+    private static boolean enabled = false;
+    private static long idleTime = 0;
+
+    private ColdDataHydration() {
+
+    }
+
+    public static void init() {
+        // Custom database bridges are not guaranteed to support loading data of a single island.
+        enabled = plugin.getSettings().getDatabase().isLazyIslands() && !plugin.getFactory().hasCustomDatabaseBridge();
+        idleTime = TimeUnit.MINUTES.toMillis(Math.max(1, plugin.getSettings().getDatabase().getLazyIslandsIdleTime()));
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run a task once the cold data of the island is loaded.
+     * The task is run right away if the data is already loaded, otherwise it is run on the main thread
+     * after the data is loaded in the background.
+     */
+    public static void runWithColdData(Island island, Runnable task) {
+        if (!(island instanceof SIsland) || ((SIsland) island).isColdDataHydrated()) {
+            task.run();
+        } else {
+            ((SIsland) island).hydrateColdData().thenRun(() -> BukkitExecutor.ensureMain(task));
+        }
+    }
+
+    public static void startEviction() {
+        if (enabled)
+            BukkitExecutor.timer(ColdDataHydration::evictIdleIslands, EVICTION_INTERVAL);
+    }
+
+    private static void evictIdleIslands() {
+        long evictTime = System.currentTimeMillis() - idleTime;
+        for (Island island : plugin.getGrid().getIslands()) {
+            if (island instanceof SIsland)
+                ((SIsland) island).evictColdData(evictTime);
+        }
+    }
+
+}
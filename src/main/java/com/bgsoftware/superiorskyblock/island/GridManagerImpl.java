@@ -35,6 +35,7 @@ import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.algorithm.DefaultIslandCreationAlgorithm;
 import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
+import com.bgsoftware.superiorskyblock.island.calculation.IslandsCalculationScheduler;
 import com.bgsoftware.superiorskyblock.island.preview.IslandPreviews;
 import com.bgsoftware.superiorskyblock.island.preview.SIslandPreview;
 import com.bgsoftware.superiorskyblock.island.purge.IslandsPurger;
@@ -50,6 +51,7 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
+import org.bukkit.command.CommandSender;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -59,10 +61,12 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class GridManagerImpl extends Manager implements GridManager {
@@ -80,7 +84,11 @@ public class GridManagerImpl extends Manager implements GridManager {
     };
 
     private final IslandsPurger islandsPurger;
+    private final IslandsCalculationScheduler calculationScheduler;
     private final IslandPreviews islandPreviews;
+    private final IslandNamesIndex islandNamesIndex = new IslandNamesIndex();
+    // Shared immutable lists of single islands, returned for chunks that are inside one island only.
+    private final Map<Island, List<Island>> chunkIslandsLists = new ConcurrentHashMap<>();
     private IslandsContainer islandsContainer;
     private DatabaseBridge databaseBridge;
     private IslandCreationAlgorithm islandCreationAlgorithm;
@@ -103,6 +111,7 @@ public class GridManagerImpl extends Manager implements GridManager {
         super(plugin);
         this.islandsPurger = islandsPurger;
         this.islandPreviews = islandPreviews;
+        this.calculationScheduler = new IslandsCalculationScheduler(plugin);
     }
 
     @Override
@@ -120,6 +129,8 @@ public class GridManagerImpl extends Manager implements GridManager {
 
     public void updateSpawn() {
         try {
+            if (this.spawnIsland != null)
+                this.chunkIslandsLists.remove(this.spawnIsland);
             this.spawnIsland = new SpawnIsland();
         } catch (ManagerLoadException error) {
             ManagerLoadException.handle(error);
@@ -245,6 +256,7 @@ public class GridManagerImpl extends Manager implements GridManager {
                             ((BaseSchematic) schematic).getAffectedChunks() : null;
 
                     this.islandsContainer.addIsland(island);
+                    this.islandNamesIndex.addIsland(island);
                     setLastIsland(new SBlockPosition(islandLocation));
 
                     try {
@@ -408,12 +420,14 @@ public class GridManagerImpl extends Manager implements GridManager {
         });
 
         this.islandsContainer.removeIsland(island);
+        this.islandNamesIndex.removeIsland(island);
+        this.chunkIslandsLists.remove(island);
 
         // Delete island from database
         if (pluginDisable) {
             IslandsDatabaseBridge.deleteIsland(island);
         } else {
-            BukkitExecutor.data(() -> IslandsDatabaseBridge.deleteIsland(island));
+            BukkitExecutor.data(island.getUniqueId(), () -> IslandsDatabaseBridge.deleteIsland(island));
         }
 
         this.dragonBattleService.get().stopEnderDragonBattle(island);
@@ -454,8 +468,7 @@ public class GridManagerImpl extends Manager implements GridManager {
     @Override
     public Island getIsland(String islandName) {
         Preconditions.checkNotNull(islandName, "islandName parameter cannot be null.");
-        String inputName = Formatters.STRIP_COLOR_FORMATTER.format(islandName);
-        return getIslands().stream().filter(island -> island.getRawName().equalsIgnoreCase(inputName)).findFirst().orElse(null);
+        return this.islandNamesIndex.getIsland(islandName);
     }
 
     @Override
@@ -469,6 +482,16 @@ public class GridManagerImpl extends Manager implements GridManager {
         return this.islandsContainer.getIslandAt(location);
     }
 
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        Preconditions.checkNotNull(world, "world parameter cannot be null.");
+
+        if (spawnIsland instanceof SpawnIsland && ((SpawnIsland) spawnIsland).isBlockInside(world, blockX, blockZ))
+            return spawnIsland;
+
+        return this.islandsContainer.getIslandAt(world, blockX, blockZ);
+    }
+
     @Override
     @Deprecated
     public Island getIslandAt(Chunk chunk) {
@@ -511,33 +534,40 @@ public class GridManagerImpl extends Manager implements GridManager {
         if (!plugin.getGrid().isIslandsWorld(chunk.getWorld()))
             return Collections.emptyList();
 
-        Set<Island> islands = new LinkedHashSet<>();
+        World world = chunk.getWorld();
+        int minX = chunk.getX() << 4;
+        int minZ = chunk.getZ() << 4;
 
-        ChunkPosition chunkPosition = ChunkPosition.of(chunk);
-        Location cornerLocation = WorldBlocks.getChunkBlock(chunkPosition, 0, 100, 0);
+        // The corners of the chunk are looked up in the islands grid by their coordinates,
+        // so no locations are created.
+        Island firstCorner = getIslandAt(world, minX, minZ);
+        Island secondCorner = getIslandAt(world, minX + 15, minZ);
+        Island thirdCorner = getIslandAt(world, minX + 15, minZ + 15);
+        Island fourthCorner = getIslandAt(world, minX, minZ + 15);
 
-        Island island;
+        Island chunkIsland = firstCorner != null ? firstCorner : secondCorner != null ? secondCorner :
+                thirdCorner != null ? thirdCorner : fourthCorner;
 
-        // Checks corner at 0, y, 0
-        if ((island = getIslandAt(cornerLocation)) != null)
-            islands.add(island);
+        if (chunkIsland == null)
+            return Collections.emptyList();
 
-        // Checks corner at 15, y, 0
-        cornerLocation.add(15, 0, 0);
-        if ((island = getIslandAt(cornerLocation)) != null)
-            islands.add(island);
+        // Almost all chunks are inside a single island, in which case the shared list of the island is returned.
+        if ((secondCorner == null || secondCorner == chunkIsland) && (thirdCorner == null || thirdCorner == chunkIsland) &&
+                (fourthCorner == null || fourthCorner == chunkIsland))
+            return this.chunkIslandsLists.computeIfAbsent(chunkIsland, Collections::singletonList);
 
-        // Checks corner at 15, y, 15
-        cornerLocation.add(0, 0, 15);
-        if ((island = getIslandAt(cornerLocation)) != null)
-            islands.add(island);
+        Set<Island> islands = new LinkedHashSet<>();
 
-        // Checks corner at 0, y, 15
-        cornerLocation.add(-15, 0, 0);
-        if ((island = getIslandAt(cornerLocation)) != null)
-            islands.add(island);
+        if (firstCorner != null)
+            islands.add(firstCorner);
+        if (secondCorner != null)
+            islands.add(secondCorner);
+        if (thirdCorner != null)
+            islands.add(thirdCorner);
+        if (fourthCorner != null)
+            islands.add(fourthCorner);
 
-        return islands.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new LinkedList<>(islands));
+        return Collections.unmodifiableList(new LinkedList<>(islands));
     }
 
     @Override
@@ -581,6 +611,10 @@ public class GridManagerImpl extends Manager implements GridManager {
         this.forceSort = forceSort;
     }
 
+    public IslandNamesIndex getIslandNamesIndex() {
+        return islandNamesIndex;
+    }
+
     @Override
     public Island getSpawnIsland() {
         if (spawnIsland == null)
@@ -704,6 +738,10 @@ public class GridManagerImpl extends Manager implements GridManager {
 
     @Override
     public void calcAllIslands(Runnable callback) {
+        calcAllIslands(null, callback);
+    }
+
+    public void calcAllIslands(@Nullable CommandSender progressReceiver, @Nullable Runnable callback) {
         Log.debug(Debug.CALCULATE_ALL_ISLANDS);
 
         List<Island> islands = new ArrayList<>();
@@ -715,9 +753,7 @@ public class GridManagerImpl extends Manager implements GridManager {
             }
         }
 
-        for (int i = 0; i < islands.size(); i++) {
-            islands.get(i).calcIslandWorth(null, i + 1 < islands.size() ? null : callback);
-        }
+        this.calculationScheduler.calcIslands(islands, progressReceiver, callback);
     }
 
     @Override
@@ -0,0 +1,120 @@
+package com.bgsoftware.superiorskyblock.island;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.core.formatting.Formatters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Index of islands by their names, without colors and case-insensitive.
+ * Exact lookups are done in O(1), and lookups by a prefix only visit the names that match the prefix.
+ * Lookups do not lock, while updates are done under the lock of the index.
+ * Islands without names are not indexed.
+ */
+public class IslandNamesIndex {
+
+    // The indexed name of every indexed island.
+    private final Map<Island, String> indexedNames = new HashMap<>();
+    // Different islands may have the same name, for example if they were named before their names were validated.
+    private final Map<String, List<Island>> islandsByNames = new ConcurrentHashMap<>();
+    private final NavigableSet<String> sortedNames = new ConcurrentSkipListSet<>();
+
+    public synchronized void addIsland(Island island) {
+        removeIsland(island);
+
+        String name = normalizeName(island.getRawName());
+        this.indexedNames.put(island, name);
+
+        if (name.isEmpty())
+            return;
+
+        this.islandsByNames.compute(name, (unused, islands) -> {
+            if (islands == null)
+                return Collections.singletonList(island);
+
+            List<Island> newIslands = new ArrayList<>(islands.size() + 1);
+            newIslands.addAll(islands);
+            newIslands.add(island);
+            return Collections.unmodifiableList(newIslands);
+        });
+        this.sortedNames.add(name);
+    }
+
+    public synchronized void removeIsland(Island island) {
+        String name = this.indexedNames.remove(island);
+
+        if (name == null || name.isEmpty())
+            return;
+
+        List<Island> islands = this.islandsByNames.computeIfPresent(name, (unused, currentIslands) -> {
+            List<Island> newIslands = new ArrayList<>(currentIslands);
+            newIslands.remove(island);
+            return newIslands.isEmpty() ? null : Collections.unmodifiableList(newIslands);
+        });
+
+        if (islands == null)
+            this.sortedNames.remove(name);
+    }
+
+    /**
+     * Update the name of an island, if it is indexed.
+     */
+    public synchronized void updateIsland(Island island) {
+        if (this.indexedNames.containsKey(island))
+            addIsland(island);
+    }
+
+    @Nullable
+    public Island getIsland(String islandName) {
+        List<Island> islands = this.islandsByNames.get(normalizeName(islandName));
+        return islands == null ? null : islands.get(0);
+    }
+
+    public List<Island> getIslandsByPrefix(String prefix) {
+        return getIslandsByPrefix(prefix, island -> true, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get islands with names that start with the given prefix.
+     * The lookup stops once the given amount of islands that match the predicate is found.
+     */
+    public List<Island> getIslandsByPrefix(String prefix, Predicate<Island> predicate, int limit) {
+        String normalizedPrefix = normalizeName(prefix);
+        List<Island> islands = new LinkedList<>();
+
+        for (String name : this.sortedNames.tailSet(normalizedPrefix, true)) {
+            if (!name.startsWith(normalizedPrefix))
+                break;
+
+            List<Island> namedIslands = this.islandsByNames.get(name);
+            if (namedIslands == null)
+                continue;
+
+            for (Island island : namedIslands) {
+                if (predicate.test(island)) {
+                    islands.add(island);
+                    if (islands.size() >= limit)
+                        return Collections.unmodifiableList(islands);
+                }
+            }
+        }
+
+        return islands.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(islands);
+    }
+
+    private static String normalizeName(String islandName) {
+        return Formatters.STRIP_COLOR_FORMATTER.format(islandName).toLowerCase(Locale.ENGLISH);
+    }
+
+}
@@ -263,6 +263,8 @@ public class IslandUtils {
     public static void deleteChunks(Island island, List<ChunkPosition> chunkPositions, Runnable onFinish) {
         plugin.getNMSChunks().deleteChunks(island, chunkPositions, onFinish);
         chunkPositions.forEach(chunkPosition -> {
+            if (island instanceof SIsland && plugin.getSettings().isRecalcIncremental())
+                ((SIsland) island).getCalculatedChunks().markModified(chunkPosition);
             plugin.getStackedBlocks().removeStackedBlocks(chunkPosition);
             plugin.getEventsBus().callIslandChunkResetEvent(island, chunkPosition);
         });
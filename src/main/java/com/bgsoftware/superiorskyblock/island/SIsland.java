@@ -35,6 +35,7 @@ import com.bgsoftware.superiorskyblock.api.upgrades.UpgradeLevel;
 import com.bgsoftware.superiorskyblock.api.world.WorldInfo;
 import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.core.AtomicBigCounter;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
 import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.IslandArea;
@@ -44,6 +45,8 @@ import com.bgsoftware.superiorskyblock.core.Mutable;
 import com.bgsoftware.superiorskyblock.core.SBlockPosition;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.database.bridge.IslandsDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.database.cache.DatabaseCache;
+import com.bgsoftware.superiorskyblock.core.database.serialization.IslandsDeserializer;
 import com.bgsoftware.superiorskyblock.core.events.EventResult;
 import com.bgsoftware.superiorskyblock.core.events.EventsBus;
 import com.bgsoftware.superiorskyblock.core.formatting.Formatters;
@@ -59,7 +62,9 @@ import com.bgsoftware.superiorskyblock.core.profiler.ProfileType;
 import com.bgsoftware.superiorskyblock.core.profiler.Profiler;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.core.threads.Synchronized;
+import com.bgsoftware.superiorskyblock.core.values.BlockValue;
 import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
+import com.bgsoftware.superiorskyblock.island.chunk.CalculatedChunksContainer;
 import com.bgsoftware.superiorskyblock.island.chunk.DirtyChunksContainer;
 import com.bgsoftware.superiorskyblock.island.container.value.SyncedValue;
 import com.bgsoftware.superiorskyblock.island.container.value.Value;
@@ -125,6 +130,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
@@ -147,6 +153,7 @@ public class SIsland implements Island {
     private final IslandEntitiesTrackerAlgorithm entitiesTracker;
     private final Synchronized<BukkitTask> bankInterestTask = Synchronized.of(null);
     private final DirtyChunksContainer dirtyChunksContainer;
+    private final CalculatedChunksContainer calculatedChunksContainer = new CalculatedChunksContainer();
 
     /*
      * Island Identifiers
@@ -201,18 +208,28 @@ public class SIsland implements Island {
     private final AtomicReference<BigDecimal> islandLevel = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> bonusWorth = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> bonusLevel = new AtomicReference<>(BigDecimal.ZERO);
+    private volatile CachedValue cachedWorth = null;
+    private volatile CachedValue cachedLevel = null;
     private final Map<MissionReference, Counter> completedMissions = new ConcurrentHashMap<>();
-    private final Synchronized<IslandChest[]> islandChests = Synchronized.of(createDefaultIslandChests());
+    private final Synchronized<IslandChest[]> islandChests = Synchronized.of(new IslandChest[0]);
     private final Synchronized<CompletableFuture<Biome>> biomeGetterTask = Synchronized.of(null);
     private final AtomicInteger generatedSchematics = new AtomicInteger(0);
     private final AtomicInteger unlockedWorlds = new AtomicInteger(0);
     @Nullable
     private PersistentDataContainer persistentDataContainer;
+    /*
+     * Island Cold Data
+     */
+    private final Object coldDataLock = new Object();
+    @Nullable
+    private CompletableFuture<Void> coldDataHydrationTask;
+    private volatile boolean coldDataHydrated;
+    private volatile long coldDataLastAccess = System.currentTimeMillis();
     /*
      * Island Flags
      */
     private volatile boolean beingRecalculated = false;
-    private final AtomicReference<BigInteger> currentTotalBlockCounts = new AtomicReference<>(BigInteger.ZERO);
+    private final AtomicBigCounter currentTotalBlockCounts = new AtomicBigCounter();
     private volatile BigInteger lastSavedBlockCounts = BigInteger.ZERO;
     private SuperiorPlayer owner;
     private String creationTimeDate;
@@ -272,14 +289,8 @@ public class SIsland implements Island {
         this.completedMissions.putAll(builder.completedMissions);
         this.islandFlags.putAll(builder.islandFlags);
         this.cobbleGeneratorValues.write(cobbleGeneratorValues -> cobbleGeneratorValues.putAll(builder.cobbleGeneratorValues));
-        this.uniqueVisitors.write(uniqueVisitors -> uniqueVisitors.addAll(builder.uniqueVisitors));
         this.entityLimits.putAll(builder.entityLimits);
         this.islandEffects.putAll(builder.islandEffects);
-        IslandChest[] islandChests = new IslandChest[builder.islandChests.size()];
-        for (int index = 0; index < islandChests.length; ++index) {
-            islandChests[index] = SIslandChest.createChest(this, index, builder.islandChests.get(index));
-        }
-        this.islandChests.set(islandChests);
         this.roleLimits.putAll(builder.roleLimits);
         this.visitorHomes.set(builder.visitorHomes);
         this.islandSize.set(builder.islandSize);
@@ -340,13 +351,17 @@ public class SIsland implements Island {
         checkMembersDuplication();
         updateOldUpgradeValues();
         updateUpgrades();
-        updateIslandChests();
 
         this.islandBank.setBalance(builder.balance);
         builder.bankTransactions.forEach(this.islandBank::loadTransaction);
         if (builder.persistentData.length > 0)
             getPersistentDataContainer().load(builder.persistentData);
 
+        if (builder.coldDataLoaded) {
+            loadColdData(builder);
+            this.coldDataHydrated = true;
+        }
+
         this.databaseBridge.setDatabaseBridgeMode(DatabaseBridgeMode.SAVE_DATA);
     }
 
@@ -467,12 +482,14 @@ public class SIsland implements Island {
 
     @Override
     public List<SuperiorPlayer> getUniqueVisitors() {
+        ensureColdDataHydrated();
         return uniqueVisitors.readAndGet(uniqueVisitors -> new SequentialListBuilder<SuperiorPlayer>()
                 .build(uniqueVisitors, UniqueVisitor::getSuperiorPlayer));
     }
 
     @Override
     public List<Pair<SuperiorPlayer, Long>> getUniqueVisitorsWithTimes() {
+        ensureColdDataHydrated();
         return uniqueVisitors.readAndGet(uniqueVisitors -> new SequentialListBuilder<Pair<SuperiorPlayer, Long>>()
                 .build(uniqueVisitors, UniqueVisitor::toPair));
     }
@@ -753,25 +770,18 @@ public class SIsland implements Island {
 
         plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_PLAYERS, this);
 
-        if (!isMember(superiorPlayer) && superiorPlayer.isShownAsOnline()) {
-            Optional<UniqueVisitor> uniqueVisitorOptional = uniqueVisitors.readAndGet(uniqueVisitors ->
-                    uniqueVisitors.stream().filter(pair -> pair.getSuperiorPlayer().equals(superiorPlayer)).findFirst());
+        // The cold data of the island is likely to be accessed while players are inside it.
+        if (inside && !this.coldDataHydrated)
+            hydrateColdData();
 
+        if (!isMember(superiorPlayer) && superiorPlayer.isShownAsOnline()) {
             long visitTime = System.currentTimeMillis();
-
-            boolean updateVisitor;
-
-            if (uniqueVisitorOptional.isPresent()) {
-                uniqueVisitorOptional.get().setLastVisitTime(visitTime);
-                updateVisitor = true;
+            if (this.coldDataHydrated) {
+                updateUniqueVisitor(superiorPlayer, visitTime);
             } else {
-                updateVisitor = uniqueVisitors.writeAndGet(uniqueVisitors -> uniqueVisitors.add(new UniqueVisitor(superiorPlayer, visitTime)));
-            }
-
-            if (updateVisitor) {
-                plugin.getMenus().refreshUniqueVisitors(this);
-
-                IslandsDatabaseBridge.saveVisitor(this, superiorPlayer, visitTime);
+                // We do not want to block the player from entering the island until the visitors are loaded.
+                hydrateColdData().thenRun(() -> BukkitExecutor.ensureMain(() ->
+                        updateUniqueVisitor(superiorPlayer, visitTime)));
             }
         }
 
@@ -1205,14 +1215,18 @@ public class SIsland implements Island {
     public boolean isInside(Location location) {
         Preconditions.checkNotNull(location, "location parameter cannot be null.");
 
-        if (location.getWorld() == null || !plugin.getGrid().isIslandsWorld(location.getWorld()))
+        return location.getWorld() != null && isBlockInside(location.getWorld(), location.getBlockX(), location.getBlockZ());
+    }
+
+    public boolean isBlockInside(World world, int blockX, int blockZ) {
+        if (!plugin.getGrid().isIslandsWorld(world))
             return false;
 
         int islandDistance = (int) Math.round(plugin.getSettings().getMaxIslandSize() *
                 (plugin.getSettings().isBuildOutsideIsland() ? 1.5 : 1D));
-        IslandArea islandArea = new IslandArea(this.center, islandDistance);
 
-        return islandArea.intercepts(location.getBlockX(), location.getBlockZ());
+        return Math.abs(blockX - this.center.getX()) <= islandDistance &&
+                Math.abs(blockZ - this.center.getZ()) <= islandDistance;
     }
 
     @Override
@@ -1521,6 +1535,8 @@ public class SIsland implements Island {
         this.islandName = islandName;
         this.islandRawName = Formatters.STRIP_COLOR_FORMATTER.format(this.islandName);
 
+        plugin.getGrid().getIslandNamesIndex().updateIsland(this);
+
         IslandsDatabaseBridge.saveName(this);
     }
 
@@ -2192,34 +2208,35 @@ public class SIsland implements Island {
         if (!trackedBlock)
             return BlockChangeResult.MISSING_BLOCK_VALUE;
 
-        BigInteger newTotalBlocksCount = this.currentTotalBlockCounts.updateAndGet(count -> count.add(amount));
+        this.currentTotalBlockCounts.add(amount);
 
         BigDecimal oldWorth = getWorth();
         BigDecimal oldLevel = getIslandLevel();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
+        BlockValue compiledValue = plugin.getBlockValues().getBlockValue(key);
+        BigDecimal blockValue = compiledValue.getWorth();
+        BigDecimal blockLevel = compiledValue.getLevel();
 
         boolean saveBlockCounts = (flags & IslandBlockFlags.SAVE_BLOCK_COUNTS) != 0;
         boolean updateLastTimeStatus = (flags & IslandBlockFlags.UPDATE_LAST_TIME_STATUS) != 0;
 
         if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            islandWorth.updateAndGet(islandWorth -> islandWorth.add(blockValue.multiply(new BigDecimal(amount))));
-            if (saveBlockCounts)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
+            BigDecimal worthDelta = blockValue.multiply(new BigDecimal(amount));
+            islandWorth.updateAndGet(islandWorth -> islandWorth.add(worthDelta));
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
         }
 
         if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            islandLevel.updateAndGet(islandLevel -> islandLevel.add(blockLevel.multiply(new BigDecimal(amount))));
-            if (saveBlockCounts)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
+            BigDecimal levelDelta = blockLevel.multiply(new BigDecimal(amount));
+            islandLevel.updateAndGet(islandLevel -> islandLevel.add(levelDelta));
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
         }
 
         if (updateLastTimeStatus)
             updateLastTime();
 
         if (saveBlockCounts)
-            saveBlockCounts(newTotalBlocksCount, oldWorth, oldLevel);
+            saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
 
         return BlockChangeResult.SUCCESS;
     }
@@ -2395,33 +2412,34 @@ public class SIsland implements Island {
         if (!untrackedBlocks)
             return BlockChangeResult.MISSING_BLOCK_VALUE;
 
-        BigInteger newTotalBlocksCount = this.currentTotalBlockCounts.updateAndGet(count -> count.subtract(amountBig));
+        this.currentTotalBlockCounts.add(-amount);
 
         BigDecimal oldWorth = getWorth(), oldLevel = getIslandLevel();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
+        BlockValue compiledValue = plugin.getBlockValues().getBlockValue(key);
+        BigDecimal blockValue = compiledValue.getWorth();
+        BigDecimal blockLevel = compiledValue.getLevel();
 
         boolean saveBlockCounts = (flags & IslandBlockFlags.SAVE_BLOCK_COUNTS) != 0;
         boolean updateLastTimeStatus = (flags & IslandBlockFlags.UPDATE_LAST_TIME_STATUS) != 0;
 
         if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandWorth.updateAndGet(islandWorth -> islandWorth.subtract(blockValue.multiply(new BigDecimal(amount))));
-            if (saveBlockCounts)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
+            BigDecimal worthDelta = blockValue.multiply(new BigDecimal(amount));
+            this.islandWorth.updateAndGet(islandWorth -> islandWorth.subtract(worthDelta));
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
         }
 
         if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandLevel.updateAndGet(islandLevel -> islandLevel.subtract(blockLevel.multiply(new BigDecimal(amount))));
-            if (saveBlockCounts)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
+            BigDecimal levelDelta = blockLevel.multiply(new BigDecimal(amount));
+            this.islandLevel.updateAndGet(islandLevel -> islandLevel.subtract(levelDelta));
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
         }
 
         if (updateLastTimeStatus)
             updateLastTime();
 
         if (saveBlockCounts)
-            saveBlockCounts(newTotalBlocksCount, oldWorth, oldLevel);
+            saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
 
         return BlockChangeResult.SUCCESS;
     }
@@ -2537,6 +2555,18 @@ public class SIsland implements Island {
         this.dirtyChunksContainer.markEmpty(ChunkPosition.of(WorldInfo.of(world), chunkX, chunkZ), save);
     }
 
+    public CalculatedChunksContainer getCalculatedChunks() {
+        return this.calculatedChunksContainer;
+    }
+
+    /**
+     * Mark a chunk as modified, so it is scanned again by the next incremental calculation.
+     */
+    public void markChunkModified(World world, int chunkX, int chunkZ) {
+        if (plugin.getSettings().isRecalcIncremental())
+            this.calculatedChunksContainer.markModified(ChunkPosition.of(WorldInfo.of(world), chunkX, chunkZ));
+    }
+
     @Override
     public BigInteger getBlockCountAsBigInteger(Key key) {
         return this.blocksTracker.getBlockCount(key);
@@ -2555,7 +2585,7 @@ public class SIsland implements Island {
     @Override
     public void clearBlockCounts() {
         blocksTracker.clearBlockCounts();
-        this.currentTotalBlockCounts.set(BigInteger.ZERO);
+        this.currentTotalBlockCounts.reset();
 
         islandWorth.set(BigDecimal.ZERO);
         islandLevel.set(BigDecimal.ZERO);
@@ -2572,15 +2602,24 @@ public class SIsland implements Island {
     @Override
     public BigDecimal getWorth() {
         double bankWorthRate = BuiltinModules.BANK.bankWorthRate;
+        int flags = plugin.getSettings().isNegativeWorth() ? 1 : 0;
 
         BigDecimal islandWorth = this.islandWorth.get();
-        BigDecimal islandBank = this.islandBank.getBalance();
+        BigDecimal islandBank = bankWorthRate <= 0 ? BigDecimal.ZERO : this.islandBank.getBalance();
         BigDecimal bonusWorth = this.bonusWorth.get();
-        BigDecimal finalIslandWorth = (bankWorthRate <= 0 ? getRawWorth() : islandWorth.add(
+
+        // The final worth is calculated again only if one of the values it is calculated from was changed.
+        CachedValue cachedWorth = this.cachedWorth;
+        if (cachedWorth != null && cachedWorth.isValid(islandWorth, bonusWorth, islandBank, bankWorthRate, flags))
+            return cachedWorth.value;
+
+        BigDecimal finalIslandWorth = (bankWorthRate <= 0 ? islandWorth : islandWorth.add(
                 islandBank.multiply(BigDecimal.valueOf(bankWorthRate)))).add(bonusWorth);
 
-        if (!plugin.getSettings().isNegativeWorth() && finalIslandWorth.compareTo(BigDecimal.ZERO) < 0)
-            return BigDecimal.ZERO;
+        if ((flags & 1) == 0 && finalIslandWorth.compareTo(BigDecimal.ZERO) < 0)
+            finalIslandWorth = BigDecimal.ZERO;
+
+        this.cachedWorth = new CachedValue(islandWorth, bonusWorth, islandBank, bankWorthRate, flags, finalIslandWorth);
 
         return finalIslandWorth;
     }
@@ -2636,16 +2675,27 @@ public class SIsland implements Island {
 
     @Override
     public BigDecimal getIslandLevel() {
+        int flags = (plugin.getSettings().isRoundedIslandLevels() ? 1 : 0) |
+                (plugin.getSettings().isNegativeLevel() ? 2 : 0);
+
+        BigDecimal rawLevel = this.islandLevel.get();
         BigDecimal bonusLevel = this.bonusLevel.get();
-        BigDecimal islandLevel = this.islandLevel.get().add(bonusLevel);
 
-        if (plugin.getSettings().isRoundedIslandLevels()) {
+        CachedValue cachedLevel = this.cachedLevel;
+        if (cachedLevel != null && cachedLevel.isValid(rawLevel, bonusLevel, null, 0, flags))
+            return cachedLevel.value;
+
+        BigDecimal islandLevel = rawLevel.add(bonusLevel);
+
+        if ((flags & 1) != 0) {
             islandLevel = islandLevel.setScale(0, RoundingMode.HALF_UP);
         }
 
-        if (!plugin.getSettings().isNegativeLevel() && islandLevel.compareTo(BigDecimal.ZERO) < 0)
+        if ((flags & 2) == 0 && islandLevel.compareTo(BigDecimal.ZERO) < 0)
             islandLevel = BigDecimal.ZERO;
 
+        this.cachedLevel = new CachedValue(rawLevel, bonusLevel, null, 0, flags, islandLevel);
+
         return islandLevel;
     }
 
@@ -4015,6 +4065,7 @@ public class SIsland implements Island {
 
     @Override
     public IslandChest[] getChest() {
+        ensureColdDataHydrated();
         return islandChests.readAndGet(islandChests -> Arrays.copyOf(islandChests, islandChests.length));
     }
 
@@ -4024,11 +4075,18 @@ public class SIsland implements Island {
 
     @Override
     public int getChestSize() {
+        ensureColdDataHydrated();
         return islandChests.readAndGet(islandChests -> islandChests.length);
     }
 
     @Override
     public void setChestRows(int index, int rows) {
+        if (!ensureColdDataHydrated()) {
+            // The chests must be loaded before they are changed, otherwise loading them would override the change.
+            hydrateColdData().thenRun(() -> BukkitExecutor.ensureMain(() -> setChestRows(index, rows)));
+            return;
+        }
+
         IslandChest[] islandChests = this.islandChests.get();
         int oldSize = islandChests.length;
 
@@ -4186,6 +4244,10 @@ public class SIsland implements Island {
      */
 
     private void replaceVisitor(SuperiorPlayer originalPlayer, @Nullable SuperiorPlayer newPlayer) {
+        if (!ensureColdDataHydrated()) {
+            hydrateColdData().thenRun(() -> BukkitExecutor.ensureMain(() -> replaceVisitor(originalPlayer, newPlayer)));
+            return;
+        }
         uniqueVisitors.write(uniqueVisitors -> {
             Iterator<UniqueVisitor> iterator = uniqueVisitors.iterator();
             while (iterator.hasNext()) {
@@ -4400,6 +4462,81 @@ public class SIsland implements Island {
         return completedMissions.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(completedMissions);
     }
 
+    public boolean isColdDataHydrated() {
+        return this.coldDataHydrated;
+    }
+
+    public CompletableFuture<Void> hydrateColdData() {
+        this.coldDataLastAccess = System.currentTimeMillis();
+
+        if (this.coldDataHydrated)
+            return CompletableFuture.completedFuture(null);
+
+        synchronized (this.coldDataLock) {
+            if (this.coldDataHydrated)
+                return CompletableFuture.completedFuture(null);
+
+            if (this.coldDataHydrationTask != null)
+                return this.coldDataHydrationTask;
+
+            CompletableFuture<Void> hydrationTask = new CompletableFuture<>();
+            this.coldDataHydrationTask = hydrationTask;
+
+            BukkitExecutor.data(this.uuid, () -> {
+                try {
+                    loadColdDataFromDatabase();
+                    hydrationTask.complete(null);
+                } catch (Throwable error) {
+                    synchronized (this.coldDataLock) {
+                        this.coldDataHydrationTask = null;
+                    }
+                    Log.error(error, "An unexpected error occurred while loading data of island ", this.uuid, ":");
+                    hydrationTask.completeExceptionally(error);
+                }
+            });
+
+            return hydrationTask;
+        }
+    }
+
+    public boolean evictColdData(long evictTime) {
+        if (!this.coldDataHydrated || this.coldDataLastAccess > evictTime)
+            return false;
+
+        // Islands with players inside them are likely to access their data again soon.
+        if (!this.playersInside.readAndGet(SortedSet::isEmpty))
+            return false;
+
+        // The data is loaded when members join, and is kept for synchronous accessors, such as placeholders
+        // and tab completions, for as long as they are online.
+        for (SuperiorPlayer islandMember : getIslandMembers(true)) {
+            if (islandMember.isOnline())
+                return false;
+        }
+
+        // Data that was not saved yet cannot be dropped.
+        if (IslandsDatabaseBridge.isModified(this))
+            return false;
+
+        for (IslandChest islandChest : this.islandChests.get()) {
+            if (!islandChest.getInventory().getViewers().isEmpty())
+                return false;
+        }
+
+        synchronized (this.coldDataLock) {
+            // The access time is updated before the data is accessed, therefore checking it again while
+            // holding the lock makes sure we do not drop data that is currently being used.
+            if (this.coldDataLastAccess > evictTime)
+                return false;
+
+            this.coldDataHydrated = false;
+            this.uniqueVisitors.write(SortedSet::clear);
+            this.islandChests.set(new IslandChest[0]);
+        }
+
+        return true;
+    }
+
     /*
      *  Object related methods
      */
@@ -4435,17 +4572,6 @@ public class SIsland implements Island {
         return getOwner().getName().compareTo(other.getOwner().getName());
     }
 
-    private IslandChest[] createDefaultIslandChests() {
-        IslandChest[] islandChests = new IslandChest[plugin.getSettings().getIslandChests().getDefaultPages()];
-        for (int i = 0; i < islandChests.length; i++) {
-            if (islandChests[i] == null) {
-                islandChests[i] = new SIslandChest(this, i);
-                islandChests[i].setRows(plugin.getSettings().getIslandChests().getDefaultSize());
-            }
-        }
-        return islandChests;
-    }
-
     private void startBankInterest() {
         if (BuiltinModules.BANK.bankInterestEnabled) {
             long currentTime = System.currentTimeMillis() / 1000;
@@ -4789,6 +4915,90 @@ public class SIsland implements Island {
                 .values().forEach(chunkPositions -> plugin.getNMSChunks().updateCropsTicker(chunkPositions, newCropGrowthMultiplier));
     }
 
+    private void updateUniqueVisitor(SuperiorPlayer superiorPlayer, long visitTime) {
+        Optional<UniqueVisitor> uniqueVisitorOptional = uniqueVisitors.readAndGet(uniqueVisitors ->
+                uniqueVisitors.stream().filter(pair -> pair.getSuperiorPlayer().equals(superiorPlayer)).findFirst());
+
+        boolean updateVisitor;
+
+        if (uniqueVisitorOptional.isPresent()) {
+            uniqueVisitorOptional.get().setLastVisitTime(visitTime);
+            updateVisitor = true;
+        } else {
+            updateVisitor = uniqueVisitors.writeAndGet(uniqueVisitors -> uniqueVisitors.add(new UniqueVisitor(superiorPlayer, visitTime)));
+        }
+
+        if (updateVisitor) {
+            plugin.getMenus().refreshUniqueVisitors(this);
+
+            IslandsDatabaseBridge.saveVisitor(this, superiorPlayer, visitTime);
+        }
+    }
+
+    /**
+     * Make sure the cold data of the island is loaded before it is accessed.
+     * The main thread never waits for the database: the data is loaded in the background instead,
+     * and the island is seen without its cold data until then. Cold data is usually loaded in advance,
+     * when players join or enter the island, or when chunks of the island are loaded.
+     * Commands and menus that show cold data load it first using {@link ColdDataHydration#runWithColdData}.
+     *
+     * @return Whether the cold data is loaded.
+     */
+    private boolean ensureColdDataHydrated() {
+        this.coldDataLastAccess = System.currentTimeMillis();
+
+        if (this.coldDataHydrated)
+            return true;
+
+        if (BukkitExecutor.isDataThread()) {
+            // The hydration task may be queued behind the current task, and waiting for it would never end.
+            loadColdDataFromDatabase();
+            return true;
+        }
+
+        if (Bukkit.isPrimaryThread()) {
+            hydrateColdData();
+            return false;
+        }
+
+        try {
+            hydrateColdData().join();
+        } catch (CompletionException ignored) {
+            // The error was already printed by the hydration task.
+        }
+
+        return this.coldDataHydrated;
+    }
+
+    private void loadColdDataFromDatabase() {
+        if (this.coldDataHydrated)
+            return;
+
+        DatabaseCache<Island.Builder> databaseCache = new DatabaseCache<>();
+        IslandsDeserializer.deserializeColdData(this, databaseCache);
+        Island.Builder builder = databaseCache.getCachedInfo(this.uuid);
+
+        synchronized (this.coldDataLock) {
+            if (!this.coldDataHydrated) {
+                loadColdData(builder == null ? new IslandBuilderImpl() : (IslandBuilderImpl) builder);
+                this.coldDataHydrated = true;
+            }
+
+            this.coldDataHydrationTask = null;
+        }
+    }
+
+    private void loadColdData(IslandBuilderImpl builder) {
+        this.uniqueVisitors.write(uniqueVisitors -> uniqueVisitors.addAll(builder.uniqueVisitors));
+
+        IslandChest[] islandChests = new IslandChest[builder.islandChests.size()];
+        for (int index = 0; index < islandChests.length; ++index) {
+            islandChests[index] = SIslandChest.createChest(this, index, builder.islandChests.get(index));
+        }
+        this.islandChests.set(islandChests);
+        updateIslandChests();
+    }
+
     public static class UniqueVisitor {
 
         private final Pair<SuperiorPlayer, Long> pair;
@@ -4839,4 +5049,36 @@ public class SIsland implements Island {
 
     }
 
+    /**
+     * The final worth or level of the island, together with the values it was calculated from.
+     * The values are compared by identity, as every change to them replaces their instances.
+     */
+    private static final class CachedValue {
+
+        private final BigDecimal rawValue;
+        private final BigDecimal bonusValue;
+        @Nullable
+        private final BigDecimal bankBalance;
+        private final double bankWorthRate;
+        private final int flags;
+        private final BigDecimal value;
+
+        CachedValue(BigDecimal rawValue, BigDecimal bonusValue, @Nullable BigDecimal bankBalance,
+                    double bankWorthRate, int flags, BigDecimal value) {
+            this.rawValue = rawValue;
+            this.bonusValue = bonusValue;
+            this.bankBalance = bankBalance;
+            this.bankWorthRate = bankWorthRate;
+            this.flags = flags;
+            this.value = value;
+        }
+
+        boolean isValid(BigDecimal rawValue, BigDecimal bonusValue, @Nullable BigDecimal bankBalance,
+                        double bankWorthRate, int flags) {
+            return this.rawValue == rawValue && this.bonusValue == bonusValue && this.bankBalance == bankBalance &&
+                    this.bankWorthRate == bankWorthRate && this.flags == flags;
+        }
+
+    }
+
 }
@@ -625,6 +625,10 @@ public class SpawnIsland implements Island {
                 this.islandArea.intercepts(location.getBlockX(), location.getBlockZ());
     }
 
+    public boolean isBlockInside(World world, int blockX, int blockZ) {
+        return world.equals(this.spawnWorld) && this.islandArea.intercepts(blockX, blockZ);
+    }
+
     @Override
     public boolean isInside(World world, int chunkX, int chunkZ) {
         return world.equals(this.spawnWorld) && isChunkInside(chunkX, chunkZ);
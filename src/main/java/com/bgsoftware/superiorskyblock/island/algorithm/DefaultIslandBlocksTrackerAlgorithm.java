@@ -5,6 +5,7 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.algorithms.IslandBlocksTrackerAlgorithm;
 import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.api.key.KeyMap;
+import com.bgsoftware.superiorskyblock.core.AtomicBigCounter;
 import com.bgsoftware.superiorskyblock.core.ServerVersion;
 import com.bgsoftware.superiorskyblock.core.key.BaseKey;
 import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
@@ -13,18 +14,25 @@ import com.bgsoftware.superiorskyblock.core.key.MaterialKeySource;
 import com.bgsoftware.superiorskyblock.core.key.types.MaterialKey;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.values.BlockValue;
 import com.google.common.base.Preconditions;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Collections;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerAlgorithm {
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
-    private final KeyMap<BigInteger> blockCounts = KeyMaps.createConcurrentHashMap(KeyIndicator.MATERIAL);
+    // Counters are updated without locks, and are kept in the map when they reach zero so concurrent
+    // updates of the same key are never lost. Counters of zero are hidden from the views of the counts.
+    private final KeyMap<AtomicBigCounter> blockCounts = KeyMaps.createConcurrentHashMap(KeyIndicator.MATERIAL);
+    private final Map<Key, BigInteger> blockCountsView = new BlockCountsView();
 
     private final Island island;
     private boolean loadingDataMode = false;
@@ -45,24 +53,15 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
                 ((MaterialKey) key).getMaterialKeySource() == MaterialKeySource.ITEM)
             key = ((MaterialKey) key).toGlobalKey();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
-
-        boolean increaseAmount = false;
-
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            increaseAmount = true;
-        } else if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            increaseAmount = true;
-        }
+        BlockValue blockValue = plugin.getBlockValues().getBlockValue(key);
 
         boolean hasBlockLimit = island.getBlockLimit(key) != -1;
         boolean valuesMenu = plugin.getBlockValues().isValuesMenu(key);
 
-        if (increaseAmount || hasBlockLimit || valuesMenu) {
+        if (blockValue.hasValue() || hasBlockLimit || valuesMenu) {
             Log.debug(Debug.BLOCK_PLACE, island.getOwner().getName(), key, amount);
 
-            addCounts(key, amount);
+            addCounts(key, blockValue, amount);
 
             return true;
         }
@@ -82,30 +81,19 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
                 ((MaterialKey) key).getMaterialKeySource() == MaterialKeySource.ITEM)
             key = ((MaterialKey) key).toGlobalKey();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
-
-        boolean decreaseAmount = false;
-
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            decreaseAmount = true;
-        }
-
-        if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            decreaseAmount = true;
-        }
+        BlockValue blockValue = plugin.getBlockValues().getBlockValue(key);
 
         boolean hasBlockLimit = island.getBlockLimit(key) != -1;
         boolean valuesMenu = plugin.getBlockValues().isValuesMenu(key);
 
-        if (decreaseAmount || hasBlockLimit || valuesMenu) {
+        if (blockValue.hasValue() || hasBlockLimit || valuesMenu) {
             Log.debug(Debug.BLOCK_BREAK, island.getOwner().getName(), key, amount);
 
-            Key valueKey = plugin.getBlockValues().getBlockKey(key);
+            Key valueKey = blockValue.getValueKey();
             removeCounts(valueKey, amount);
 
             Key limitKey = island.getBlockLimitKey(valueKey);
-            Key globalKey = ((BaseKey<?>) valueKey).toGlobalKey();
+            Key globalKey = blockValue.getGlobalKey();
             boolean limitCount = false;
 
             if (!limitKey.equals(valueKey)) {
@@ -113,9 +101,7 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
                 limitCount = true;
             }
 
-            if (!globalKey.equals(valueKey) && (!limitCount || !globalKey.equals(limitKey)) &&
-                    (plugin.getBlockValues().getBlockWorth(globalKey).doubleValue() != 0 ||
-                            plugin.getBlockValues().getBlockLevel(globalKey).doubleValue() != 0)) {
+            if (blockValue.isCountGlobalKey() && (!limitCount || !globalKey.equals(limitKey))) {
                 removeCounts(globalKey, amount);
             }
 
@@ -128,18 +114,29 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
     @Override
     public BigInteger getBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getOrDefault(key, BigInteger.ZERO);
+
+        AtomicBigCounter counter = blockCounts.getRaw(key, null);
+        if (counter != null && !counter.isZero())
+            return counter.get();
+
+        Key globalKey = ((BaseKey<?>) key).toGlobalKey();
+        if (globalKey.equals(key))
+            return BigInteger.ZERO;
+
+        counter = blockCounts.getRaw(globalKey, null);
+        return counter == null ? BigInteger.ZERO : counter.get();
     }
 
     @Override
     public BigInteger getExactBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getRaw(key, BigInteger.ZERO);
+        AtomicBigCounter counter = blockCounts.getRaw(key, null);
+        return counter == null ? BigInteger.ZERO : counter.get();
     }
 
     @Override
     public Map<Key, BigInteger> getBlockCounts() {
-        return Collections.unmodifiableMap(this.blockCounts);
+        return this.blockCountsView;
     }
 
     @Override
@@ -152,44 +149,130 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
         this.loadingDataMode = loadingDataMode;
     }
 
-    private void addCounts(Key key, BigInteger amount) {
-        Key valueKey = plugin.getBlockValues().getBlockKey(key);
+    private void addCounts(Key key, BlockValue blockValue, BigInteger amount) {
+        Key valueKey = blockValue.getValueKey();
 
         Log.debug(Debug.BLOCK_COUNT_INCREASE, island.getOwner().getName(), key, amount);
 
-        BigInteger currentAmount = blockCounts.getRaw(valueKey, BigInteger.ZERO);
-        blockCounts.put(valueKey, currentAmount.add(amount));
+        getCounter(valueKey).add(amount);
 
         if (loadingDataMode)
             return;
 
         Key limitKey = island.getBlockLimitKey(valueKey);
-        Key globalKey = ((BaseKey<?>) valueKey).toGlobalKey();
+        Key globalKey = blockValue.getGlobalKey();
         boolean limitCount = false;
 
         if (!limitKey.equals(valueKey)) {
             Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Limit Key", limitKey);
-            currentAmount = blockCounts.getRaw(limitKey, BigInteger.ZERO);
-            blockCounts.put(limitKey, currentAmount.add(amount));
+            getCounter(limitKey).add(amount);
             limitCount = true;
         }
 
-        if (!globalKey.equals(valueKey) && (!limitCount || !globalKey.equals(limitKey)) &&
-                (plugin.getBlockValues().getBlockWorth(globalKey).doubleValue() != 0 ||
-                        plugin.getBlockValues().getBlockLevel(globalKey).doubleValue() != 0)) {
+        if (blockValue.isCountGlobalKey() && (!limitCount || !globalKey.equals(limitKey))) {
             Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Global Key", globalKey);
-            currentAmount = blockCounts.getRaw(globalKey, BigInteger.ZERO);
-            blockCounts.put(globalKey, currentAmount.add(amount));
+            getCounter(globalKey).add(amount);
         }
     }
 
     private void removeCounts(Key key, BigInteger amount) {
         Log.debug(Debug.BLOCK_COUNT_DECREASE, island.getOwner().getName(), key, amount);
-        BigInteger currentAmount = blockCounts.getRaw(key, BigInteger.ZERO);
-        if (currentAmount.compareTo(amount) <= 0)
-            blockCounts.remove(key);
-        else
-            blockCounts.put(key, currentAmount.subtract(amount));
+        AtomicBigCounter counter = blockCounts.getRaw(key, null);
+        if (counter != null)
+            counter.subtractOrZero(amount);
+    }
+
+    private AtomicBigCounter getCounter(Key key) {
+        AtomicBigCounter counter = blockCounts.getRaw(key, null);
+
+        if (counter == null) {
+            synchronized (blockCounts) {
+                counter = blockCounts.getRaw(key, null);
+                if (counter == null) {
+                    counter = new AtomicBigCounter();
+                    blockCounts.put(key, counter);
+                }
+            }
+        }
+
+        return counter;
+    }
+
+    private class BlockCountsView extends AbstractMap<Key, BigInteger> {
+
+        private final Set<Entry<Key, BigInteger>> entrySet = new AbstractSet<Entry<Key, BigInteger>>() {
+            @Override
+            public Iterator<Entry<Key, BigInteger>> iterator() {
+                return new BlockCountsIterator(blockCounts.entrySet().iterator());
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (AtomicBigCounter counter : blockCounts.values()) {
+                    if (!counter.isZero())
+                        ++size;
+                }
+                return size;
+            }
+        };
+
+        @Override
+        public BigInteger get(Object key) {
+            if (!(key instanceof Key))
+                return null;
+
+            BigInteger count = getBlockCount((Key) key);
+            return count.signum() == 0 ? null : count;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<Key, BigInteger>> entrySet() {
+            return this.entrySet;
+        }
+
+    }
+
+    private static class BlockCountsIterator implements Iterator<Map.Entry<Key, BigInteger>> {
+
+        private final Iterator<Map.Entry<Key, AtomicBigCounter>> iterator;
+        private Map.Entry<Key, BigInteger> nextEntry;
+
+        BlockCountsIterator(Iterator<Map.Entry<Key, AtomicBigCounter>> iterator) {
+            this.iterator = iterator;
+            this.nextEntry = findNextEntry();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextEntry != null;
+        }
+
+        @Override
+        public Map.Entry<Key, BigInteger> next() {
+            Map.Entry<Key, BigInteger> nextEntry = this.nextEntry;
+            if (nextEntry == null)
+                throw new NoSuchElementException();
+            this.nextEntry = findNextEntry();
+            return nextEntry;
+        }
+
+        private Map.Entry<Key, BigInteger> findNextEntry() {
+            while (this.iterator.hasNext()) {
+                Map.Entry<Key, AtomicBigCounter> entry = this.iterator.next();
+                BigInteger count = entry.getValue().get();
+                if (count.signum() != 0)
+                    return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), count);
+            }
+
+            return null;
+        }
+
     }
 
 }
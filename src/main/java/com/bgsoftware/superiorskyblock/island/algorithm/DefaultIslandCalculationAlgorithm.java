@@ -1,5 +1,6 @@
 package com.bgsoftware.superiorskyblock.island.algorithm;
 
+import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandChunkFlags;
@@ -8,10 +9,12 @@ import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.Counter;
 import com.bgsoftware.superiorskyblock.core.collections.CompletableFutureList;
 import com.bgsoftware.superiorskyblock.core.key.ConstantKeys;
+import com.bgsoftware.superiorskyblock.core.key.KeyHistogram;
+import com.bgsoftware.superiorskyblock.core.key.KeyIds;
 import com.bgsoftware.superiorskyblock.core.key.KeyIndicator;
 import com.bgsoftware.superiorskyblock.core.key.KeyMaps;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
@@ -22,24 +25,27 @@ import com.bgsoftware.superiorskyblock.core.profiler.ProfileType;
 import com.bgsoftware.superiorskyblock.core.profiler.Profiler;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import com.bgsoftware.superiorskyblock.island.chunk.CalculatedChunksContainer;
 import com.bgsoftware.superiorskyblock.world.chunk.ChunkLoadReason;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgorithm {
 
-    public static final Map<ChunkPosition, CalculatedChunk> CACHED_CALCULATED_CHUNKS = new ConcurrentHashMap<>();
-
     private static final List<Pair<Key, Key>> MINECART_BLOCK_TYPES = createMinecartBlockTypes();
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
@@ -55,71 +61,128 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
 
     @Override
     public CompletableFuture<IslandCalculationResult> calculateIsland(Island island) {
-        CompletableFutureList<List<CalculatedChunk>> chunksToLoad = new CompletableFutureList<>();
+        CompletableFutureList<List<CalculatedChunk>> chunksToCalculate = new CompletableFutureList<>();
 
         long profiler = Profiler.start(ProfileType.CALCULATE_ISLAND);
         Log.debug(Debug.CHUNK_CALCULATION, island.getOwner().getName());
 
+        CalculatedChunksCache.View calculatedChunksCache = CalculatedChunksCache.forCalculation();
+
+        // When incremental calculations are enabled, only chunks that were modified since their last
+        // calculation are scanned again, unless it is time for a full calculation.
+        CalculatedChunksContainer islandCalculatedChunks;
+        boolean fullCalculation;
+        long calculationStamp;
+
+        if (plugin.getSettings().isRecalcIncremental() && island instanceof SIsland) {
+            islandCalculatedChunks = ((SIsland) island).getCalculatedChunks();
+            fullCalculation = islandCalculatedChunks.startFullCalculation(
+                    TimeUnit.MINUTES.toMillis(plugin.getSettings().getRecalcFullInterval()));
+            calculationStamp = islandCalculatedChunks.startCalculation(plugin.getSettings().getRecalcIncrementalMaxIslands());
+        } else {
+            islandCalculatedChunks = null;
+            fullCalculation = true;
+            calculationStamp = 0;
+        }
+
         if (!plugin.getProviders().hasSnapshotsSupport()) {
             IslandUtils.getChunkCoords(island, IslandChunkFlags.ONLY_PROTECTED | IslandChunkFlags.NO_EMPTY_CHUNKS).values()
-                    .forEach(worldChunks -> chunksToLoad.add(plugin.getNMSChunks().calculateChunks(worldChunks, CACHED_CALCULATED_CHUNKS)));
+                    .forEach(worldChunks -> chunksToCalculate.add(calculateChunks(worldChunks, calculatedChunksCache,
+                            islandCalculatedChunks, fullCalculation, calculationStamp)));
         } else {
             IslandUtils.getAllChunksAsync(island, IslandChunkFlags.ONLY_PROTECTED | IslandChunkFlags.NO_EMPTY_CHUNKS,
                     ChunkLoadReason.BLOCKS_RECALCULATE, plugin.getProviders()::takeSnapshots).forEach(completableFuture -> {
                 CompletableFuture<List<CalculatedChunk>> calculateCompletable = new CompletableFuture<>();
-                completableFuture.whenComplete((chunk, ex) -> plugin.getNMSChunks()
-                        .calculateChunks(Collections.singletonList(ChunkPosition.of(chunk)), CACHED_CALCULATED_CHUNKS).whenComplete(
-                                (pair, ex2) -> calculateCompletable.complete(pair)));
-                chunksToLoad.add(calculateCompletable);
+                completableFuture.whenComplete((chunk, ex) -> calculateChunks(Collections.singletonList(ChunkPosition.of(chunk)),
+                        calculatedChunksCache, islandCalculatedChunks, fullCalculation, calculationStamp).whenComplete(
+                        (pair, ex2) -> calculateCompletable.complete(pair)));
+                chunksToCalculate.add(calculateCompletable);
             });
         }
 
         BlockCountsTracker blockCounts = new BlockCountsTracker();
         CompletableFuture<IslandCalculationResult> result = new CompletableFuture<>();
 
+        List<Location> spawnersToLoad = new LinkedList<>();
+        Map<World, List<Pair<Integer, Integer>>> chunksToLoad = new HashMap<>();
+        List<ChunkPosition> calculatedChunks = new LinkedList<>();
+
         Set<SpawnerInfo> spawnersToCheck = new HashSet<>();
-        Set<ChunkPosition> chunksToCheck = new HashSet<>();
+        Map<World, List<Pair<Integer, Integer>>> chunksToCheck = new HashMap<>();
 
         BukkitExecutor.createTask().runAsync(v -> {
-            chunksToLoad.forEachCompleted(worldCalculatedChunks -> worldCalculatedChunks.forEach(calculatedChunk -> {
+            chunksToCalculate.forEachCompleted(worldCalculatedChunks -> worldCalculatedChunks.forEach(calculatedChunk -> {
                 Log.debugResult(Debug.CHUNK_CALCULATION, "Chunk Finished", calculatedChunk.getPosition());
 
-                // We want to remove spawners from the chunkInfo, as it will be used later
-                calculatedChunk.getBlockCounts().removeIf(key -> key instanceof SpawnerKey);
+                blockCounts.addChunkCounts(calculatedChunk.getBlockCounts());
+
+                ChunkPosition chunkPosition = calculatedChunk.getPosition();
+
+                // Spawners and stacked blocks are loaded once all chunks are calculated, so providers
+                // can look up all of them at once.
+                spawnersToLoad.addAll(calculatedChunk.getSpawners());
+                chunksToLoad.computeIfAbsent(chunkPosition.getWorld(), unused -> new LinkedList<>())
+                        .add(new Pair<>(chunkPosition.getX(), chunkPosition.getZ()));
+                calculatedChunks.add(chunkPosition);
 
-                blockCounts.addCounts(calculatedChunk.getBlockCounts());
+                // Load built-in stacked blocks
+                plugin.getStackedBlocks().forEach(chunkPosition, stackedBlock ->
+                        blockCounts.addCounts(stackedBlock.getBlockKey(), stackedBlock.getAmount() - 1));
+            }), result::completeExceptionally);
 
+            try {
                 // Load spawners
-                for (Location location : calculatedChunk.getSpawners()) {
-                    Pair<Integer, String> spawnerInfo = plugin.getProviders().getSpawnersProvider().getSpawner(location);
-
-                    if (spawnerInfo.getValue() == null) {
-                        spawnersToCheck.add(new SpawnerInfo(location, spawnerInfo.getKey()));
-                    } else {
-                        Key spawnerKey = Keys.ofSpawner(spawnerInfo.getValue(), location);
-                        blockCounts.addCounts(spawnerKey, spawnerInfo.getKey());
+                if (!spawnersToLoad.isEmpty()) {
+                    Map<Location, Pair<Integer, String>> spawners = plugin.getProviders().getSpawnersProvider()
+                            .getSpawners(spawnersToLoad);
+
+                    for (Location location : spawnersToLoad) {
+                        Pair<Integer, String> spawnerInfo = spawners.get(location);
+
+                        if (spawnerInfo == null || spawnerInfo.getValue() == null) {
+                            spawnersToCheck.add(new SpawnerInfo(location, spawnerInfo == null ? -1 : spawnerInfo.getKey()));
+                        } else {
+                            Key spawnerKey = Keys.ofSpawner(spawnerInfo.getValue(), location);
+                            blockCounts.addCounts(spawnerKey, spawnerInfo.getKey());
+                        }
                     }
                 }
 
-                ChunkPosition chunkPosition = calculatedChunk.getPosition();
-
                 // Load stacked blocks
-                Collection<Pair<Key, Integer>> stackedBlocks = plugin.getProviders().getStackedBlocksProvider()
-                        .getBlocks(chunkPosition.getWorld(), chunkPosition.getX(), chunkPosition.getZ());
+                chunksToLoad.forEach((world, worldChunks) -> {
+                    Collection<Pair<Key, Integer>> stackedBlocks = plugin.getProviders().getStackedBlocksProvider()
+                            .getBlocks(world, worldChunks);
+
+                    if (stackedBlocks == null) {
+                        chunksToCheck.put(world, worldChunks);
+                    } else for (Pair<Key, Integer> pair : stackedBlocks) {
+                        blockCounts.addCounts(pair.getKey(), pair.getValue() - 1);
+                    }
+                });
+            } catch (Throwable error) {
+                result.completeExceptionally(error);
+            } finally {
+                calculatedChunks.forEach(plugin.getProviders()::releaseSnapshots);
+            }
+        }).runSync(v -> {
+            Map<Location, Pair<Integer, String>> spawners = Collections.emptyMap();
 
-                if (stackedBlocks == null) {
-                    chunksToCheck.add(calculatedChunk.getPosition());
-                } else for (Pair<Key, Integer> pair : stackedBlocks) {
-                    blockCounts.addCounts(pair.getKey(), pair.getValue() - 1);
-                }
+            List<Location> spawnersToLoadSync = new LinkedList<>();
+            for (SpawnerInfo spawnerInfo : spawnersToCheck) {
+                if (spawnerInfo.spawnerCount <= 0)
+                    spawnersToLoadSync.add(spawnerInfo.location);
+            }
 
-                // Load built-in stacked blocks
-                plugin.getStackedBlocks().forEach(calculatedChunk.getPosition(), stackedBlock ->
-                        blockCounts.addCounts(stackedBlock.getBlockKey(), stackedBlock.getAmount() - 1));
+            if (!spawnersToLoadSync.isEmpty()) {
+                try {
+                    spawners = plugin.getProviders().getSpawnersProvider().getSpawners(spawnersToLoadSync);
+                } catch (Throwable error) {
+                    Log.entering("ENTER", island.getOwner().getName());
+                    Log.error(error, "An unexpected error occurred while loading spawners, loading them one by one:");
+                    spawners = getSpawners(spawnersToLoadSync);
+                }
+            }
 
-                plugin.getProviders().releaseSnapshots(calculatedChunk.getPosition());
-            }), result::completeExceptionally);
-        }).runSync(v -> {
             Key blockKey;
             int blockCount;
 
@@ -130,8 +193,10 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
                     blockCount = spawnerInfo.spawnerCount;
 
                     if (blockCount <= 0) {
-                        Pair<Integer, String> spawnersProviderInfo = plugin.getProviders()
-                                .getSpawnersProvider().getSpawner(spawnerInfo.location);
+                        Pair<Integer, String> spawnersProviderInfo = spawners.get(spawnerInfo.location);
+
+                        if (spawnersProviderInfo == null)
+                            continue;
 
                         blockCount = spawnersProviderInfo.getKey();
 
@@ -148,12 +213,14 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
             spawnersToCheck.clear();
 
             // Calculate stacked block counts
-            for (ChunkPosition chunkPosition : chunksToCheck) {
-                for (Pair<Key, Integer> pair : plugin.getProviders().getStackedBlocksProvider()
-                        .getBlocks(chunkPosition.getWorld(), chunkPosition.getX(), chunkPosition.getZ())) {
+            chunksToCheck.forEach((world, worldChunks) -> {
+                Collection<Pair<Key, Integer>> stackedBlocks = plugin.getProviders().getStackedBlocksProvider()
+                        .getBlocks(world, worldChunks);
+
+                if (stackedBlocks != null) for (Pair<Key, Integer> pair : stackedBlocks) {
                     blockCounts.addCounts(pair.getKey(), pair.getValue() - 1);
                 }
-            }
+            });
 
             // Calculate minecart block counts
             MINECART_BLOCK_TYPES.forEach(minecartTypes -> {
@@ -164,6 +231,8 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
 
             chunksToCheck.clear();
 
+            blockCounts.buildBlockCounts();
+
             Profiler.end(profiler);
 
             result.complete(blockCounts);
@@ -172,6 +241,61 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
         return result;
     }
 
+    private static Map<Location, Pair<Integer, String>> getSpawners(List<Location> locations) {
+        Map<Location, Pair<Integer, String>> spawners = new HashMap<>();
+        boolean loggedError = false;
+
+        for (Location location : locations) {
+            try {
+                spawners.put(location, plugin.getProviders().getSpawnersProvider().getSpawner(location));
+            } catch (Throwable error) {
+                // Only the first error is logged, as all spawners are likely to fail for the same reason.
+                if (!loggedError) {
+                    Log.error(error, "An unexpected error occurred while loading spawner at ", location, ":");
+                    loggedError = true;
+                }
+            }
+        }
+
+        return spawners;
+    }
+
+    private static CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
+                                                                            CalculatedChunksCache.View calculatedChunksCache,
+                                                                            @Nullable CalculatedChunksContainer islandCalculatedChunks,
+                                                                            boolean fullCalculation, long calculationStamp) {
+        if (islandCalculatedChunks == null)
+            return plugin.getNMSChunks().calculateChunks(chunkPositions, calculatedChunksCache);
+
+        List<CalculatedChunk> unmodifiedChunks = new LinkedList<>();
+        List<ChunkPosition> modifiedChunks = new LinkedList<>();
+
+        for (ChunkPosition chunkPosition : chunkPositions) {
+            CalculatedChunk calculatedChunk = fullCalculation ? null : islandCalculatedChunks.get(chunkPosition);
+            if (calculatedChunk == null) {
+                modifiedChunks.add(chunkPosition);
+            } else {
+                unmodifiedChunks.add(calculatedChunk);
+            }
+        }
+
+        if (modifiedChunks.isEmpty())
+            return CompletableFuture.completedFuture(unmodifiedChunks);
+
+        return plugin.getNMSChunks().calculateChunks(modifiedChunks, calculatedChunksCache).thenApply(calculatedChunks -> {
+            List<CalculatedChunk> result = new ArrayList<>(unmodifiedChunks.size() + calculatedChunks.size());
+            result.addAll(unmodifiedChunks);
+
+            for (CalculatedChunk calculatedChunk : calculatedChunks) {
+                // Results of chunks that were modified after the calculation started are not stored.
+                islandCalculatedChunks.put(calculatedChunk.getPosition(), calculatedChunk, calculationStamp);
+                result.add(calculatedChunk);
+            }
+
+            return result;
+        });
+    }
+
     private static List<Pair<Key, Key>> createMinecartBlockTypes() {
         List<Pair<Key, Key>> minecartBlockTypes = new LinkedList<>();
 
@@ -187,7 +311,11 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
 
     private static class BlockCountsTracker implements IslandCalculationResult {
 
-        private final KeyMap<BigInteger> blockCounts = KeyMaps.createConcurrentHashMap(KeyIndicator.MATERIAL);
+        // Counts of chunks and counts of other sources are kept apart, as spawners in the counts of chunks
+        // are ignored: spawners are counted by the spawners provider instead.
+        private final KeyHistogram chunkCounts = new KeyHistogram(256);
+        private final KeyHistogram otherCounts = new KeyHistogram();
+        private KeyMap<BigInteger> blockCounts = KeyMaps.createEmptyMap();
 
         @Override
         public Map<Key, BigInteger> getBlockCounts() {
@@ -195,12 +323,32 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
         }
 
         public void addCounts(Key blockKey, int amount) {
-            blockCounts.put(blockKey, blockCounts.getRaw(blockKey, BigInteger.ZERO).add(BigInteger.valueOf(amount)));
+            otherCounts.add(blockKey, amount);
         }
 
-        public void addCounts(KeyMap<Counter> other) {
-            other.forEach((key, counter) -> addCounts(key, counter.get()));
+        public void addChunkCounts(KeyHistogram other) {
+            chunkCounts.addAll(other);
         }
+
+        public void buildBlockCounts() {
+            KeyMap<BigInteger> blockCounts = KeyMaps.createConcurrentHashMap(KeyIndicator.MATERIAL);
+
+            chunkCounts.forEach((id, count) -> {
+                Key blockKey = KeyIds.getKey(id);
+                if (!(blockKey instanceof SpawnerKey))
+                    blockCounts.put(blockKey, BigInteger.valueOf(count));
+            });
+
+            otherCounts.forEach((id, count) -> {
+                Key blockKey = KeyIds.getKey(id);
+                BigInteger currentCount = blockCounts.getRaw(blockKey, null);
+                blockCounts.put(blockKey, currentCount == null ? BigInteger.valueOf(count) :
+                        currentCount.add(BigInteger.valueOf(count)));
+            });
+
+            this.blockCounts = blockCounts;
+        }
+
     }
 
     private static class SpawnerInfo {
@@ -16,10 +16,13 @@ import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
+import com.bgsoftware.superiorskyblock.island.bank.logs.BankLogsSorting;
 import com.bgsoftware.superiorskyblock.island.bank.logs.CacheBankLogs;
 import com.bgsoftware.superiorskyblock.island.bank.logs.DatabaseBankLogs;
 import com.bgsoftware.superiorskyblock.island.bank.logs.IBankLogs;
+import com.bgsoftware.superiorskyblock.island.bank.logs.PagedBankLogs;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
+import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
@@ -49,7 +52,7 @@ public class SIslandBank implements IslandBank {
     public SIslandBank(Island island, Supplier<Boolean> isGiveInterestFailed) {
         this.island = island;
         this.isGiveInterestFailed = isGiveInterestFailed;
-        this.bankLogs = BuiltinModules.BANK.cacheAllLogs ? new CacheBankLogs() : new DatabaseBankLogs(island);
+        this.bankLogs = createBankLogs(island);
     }
 
     @Override
@@ -60,6 +63,7 @@ public class SIslandBank implements IslandBank {
     @Override
     public void setBalance(BigDecimal balance) {
         this.balance.set(balance.setScale(2, RoundingMode.HALF_DOWN));
+        notifyWorthChange();
 
         // Trying to give interest again if the last one failed.
         if (isGiveInterestFailed.get())
@@ -277,6 +281,18 @@ public class SIslandBank implements IslandBank {
         return this.bankLogs.getTransactions(CONSOLE_UUID);
     }
 
+    public List<BankTransaction> getAllTransactions(BankLogsSorting sorting) {
+        return this.bankLogs.getTransactions(sorting);
+    }
+
+    public List<BankTransaction> getTransactions(SuperiorPlayer superiorPlayer, BankLogsSorting sorting) {
+        return this.bankLogs.getTransactions(superiorPlayer.getUniqueId(), sorting);
+    }
+
+    public List<BankTransaction> getConsoleTransactions(BankLogsSorting sorting) {
+        return this.bankLogs.getTransactions(CONSOLE_UUID, sorting);
+    }
+
     @Override
     public void loadTransaction(BankTransaction bankTransaction) {
         addTransaction(bankTransaction, false);
@@ -295,13 +311,28 @@ public class SIslandBank implements IslandBank {
         }
     }
 
+    private static IBankLogs createBankLogs(Island island) {
+        if (BuiltinModules.BANK.cacheAllLogs)
+            return new CacheBankLogs();
+
+        // Custom database bridges cannot be queried by pages.
+        return plugin.getFactory().hasCustomDatabaseBridge() ? new DatabaseBankLogs(island) : new PagedBankLogs(island);
+    }
+
     private void decreaseBalance(BigDecimal amount) {
         increaseBalance(amount.negate());
     }
 
     private void increaseBalance(BigDecimal amount) {
         this.balance.updateAndGet(bigDecimal -> bigDecimal.add(amount).setScale(3, RoundingMode.HALF_DOWN));
+        notifyWorthChange();
         IslandsDatabaseBridge.saveBankBalance(island);
     }
 
+    private void notifyWorthChange() {
+        // The balance is part of the worth of the island.
+        if (BuiltinModules.BANK.bankWorthRate > 0)
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, island);
+    }
+
 }
@@ -0,0 +1,58 @@
+package com.bgsoftware.superiorskyblock.island.bank.logs;
+
+import com.bgsoftware.superiorskyblock.api.island.bank.BankTransaction;
+
+import java.util.Comparator;
+
+/**
+ * Orders of bank logs, both in memory and in the database.
+ * Transactions with the same value are ordered by their positions.
+ */
+public enum BankLogsSorting {
+
+    TIME(Comparator.comparingLong(BankTransaction::getTime), "time", "time<=?") {
+        @Override
+        Object getSortValue(BankTransaction bankTransaction) {
+            return bankTransaction.getTime();
+        }
+    },
+    AMOUNT((o1, o2) -> o2.getAmount().compareTo(o1.getAmount()), "amount+0 DESC", "amount+0>=?") {
+        @Override
+        Object getSortValue(BankTransaction bankTransaction) {
+            // Amounts are stored as text, and are compared as numbers by the database.
+            return bankTransaction.getAmount().doubleValue();
+        }
+    };
+
+    private final Comparator<BankTransaction> comparator;
+    private final String orderBy;
+    private final String notAfterFilter;
+
+    BankLogsSorting(Comparator<BankTransaction> comparator, String orderBy, String notAfterFilter) {
+        this.comparator = comparator.thenComparingInt(BankTransaction::getPosition);
+        this.orderBy = orderBy;
+        this.notAfterFilter = notAfterFilter;
+    }
+
+    public Comparator<BankTransaction> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * The ORDER BY clause of the sorting, without the position of transactions.
+     */
+    String getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Filter for rows that are not sorted after a transaction with the value of {@link #getSortValue(BankTransaction)},
+     * assuming the position of the transaction is higher than the positions of the rows.
+     */
+    String getNotAfterFilter() {
+        return notAfterFilter;
+    }
+
+    abstract Object getSortValue(BankTransaction bankTransaction);
+
+}
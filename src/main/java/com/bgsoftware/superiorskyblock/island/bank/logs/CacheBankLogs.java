@@ -35,6 +35,20 @@ public class CacheBankLogs implements IBankLogs {
         return transactions == null ? Collections.emptyList() : transactions.readAndGet(Collections::unmodifiableList);
     }
 
+    @Override
+    public List<BankTransaction> getTransactions(BankLogsSorting sorting) {
+        return transactions.readAndGet(bankTransactions -> new SequentialListBuilder<BankTransaction>()
+                .sorted(sorting.getComparator())
+                .build(bankTransactions));
+    }
+
+    @Override
+    public List<BankTransaction> getTransactions(UUID playerUUID, BankLogsSorting sorting) {
+        Synchronized<List<BankTransaction>> transactions = this.transactionsByPlayers.get(playerUUID);
+        return transactions == null ? Collections.emptyList() : transactions.readAndGet(bankTransactions ->
+                new SequentialListBuilder<BankTransaction>().sorted(sorting.getComparator()).build(bankTransactions));
+    }
+
     @Override
     public void addTransaction(BankTransaction bankTransaction, UUID senderUUID, boolean loadFromDatabase) {
         transactions.write(transactions -> transactions.add(bankTransaction));
@@ -57,6 +57,21 @@ public class DatabaseBankLogs implements IBankLogs {
                 .build(cachedBankTransactions.getUnchecked(0));
     }
 
+    @Override
+    public List<BankTransaction> getTransactions(BankLogsSorting sorting) {
+        return new SequentialListBuilder<BankTransaction>()
+                .sorted(sorting.getComparator())
+                .build(cachedBankTransactions.getUnchecked(0));
+    }
+
+    @Override
+    public List<BankTransaction> getTransactions(UUID playerUUID, BankLogsSorting sorting) {
+        return new SequentialListBuilder<BankTransaction>()
+                .sorted(sorting.getComparator())
+                .filter(bankTransaction -> playerUUID.equals(bankTransaction.getPlayer()))
+                .build(cachedBankTransactions.getUnchecked(0));
+    }
+
     @Override
     public void addTransaction(BankTransaction bankTransaction, UUID senderUUID, boolean loadFromDatabase) {
         if (cachedBankTransactions.size() != 0)
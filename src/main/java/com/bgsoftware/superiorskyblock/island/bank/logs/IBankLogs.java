@@ -13,6 +13,10 @@ public interface IBankLogs {
 
     List<BankTransaction> getTransactions(UUID playerUUID);
 
+    List<BankTransaction> getTransactions(BankLogsSorting sorting);
+
+    List<BankTransaction> getTransactions(UUID playerUUID, BankLogsSorting sorting);
+
     void addTransaction(BankTransaction bankTransaction, UUID senderUUID, boolean loadFromDatabase);
 
 }
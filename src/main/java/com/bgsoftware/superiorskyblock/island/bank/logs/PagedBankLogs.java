@@ -0,0 +1,521 @@
+package com.bgsoftware.superiorskyblock.island.bank.logs;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.island.bank.BankTransaction;
+import com.bgsoftware.superiorskyblock.core.database.DatabaseResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.ResultSetMapBridge;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.island.bank.SBankTransaction;
+
+import java.sql.ResultSet;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Bank logs that are loaded from the database only when they are viewed, one page at a time.
+ * Pages are queried by ranges of positions (keyset pagination) using the (island, position) index,
+ * and filtering transactions of a player is done by the database.
+ * Sorted logs are ordered by the database as well, and their pages are queried by offsets.
+ * Only the most recently used pages of the island are kept in memory.
+ * Transactions added after the logs were accessed are kept as well, as their rows may still wait
+ * to be written into the database.
+ */
+public class PagedBankLogs implements IBankLogs {
+
+    private static final int PAGE_SIZE = 64;
+    private static final int MAXIMUM_CACHED_PAGES = 8;
+    private static final int MAXIMUM_RECENT_TRANSACTIONS = PAGE_SIZE;
+
+    private static final UUID ALL_PLAYERS = new UUID(-1, -1);
+    private static final UUID CONSOLE_UUID = new UUID(0, 0);
+
+    private static final String SELECT_PAGE_QUERY = "SELECT * FROM {prefix}bank_transactions WHERE island=?%s " +
+            "AND position>? ORDER BY position LIMIT " + PAGE_SIZE + ";";
+    private static final String SELECT_SORTED_PAGE_QUERY = "SELECT * FROM {prefix}bank_transactions WHERE island=?%s " +
+            "AND position<=? ORDER BY %s, position LIMIT " + PAGE_SIZE + " OFFSET %d;";
+    private static final String SELECT_SORTED_RANK_QUERY = "SELECT COUNT(*) FROM {prefix}bank_transactions " +
+            "WHERE island=?%s AND position<=? AND %s;";
+    private static final String SELECT_COUNT_QUERY = "SELECT COUNT(*), MAX(position) FROM {prefix}bank_transactions " +
+            "WHERE island=?%s;";
+    private static final String PLAYER_FILTER = " AND player=?";
+    private static final String CONSOLE_FILTER = " AND (player='' OR player IS NULL)";
+
+    private final Map<UUID, TransactionsFilter> filters = new LinkedHashMap<>();
+    private final Map<PageKey, List<BankTransaction>> cachedPages = new LinkedHashMap<PageKey, List<BankTransaction>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PageKey, List<BankTransaction>> eldest) {
+            return size() > MAXIMUM_CACHED_PAGES;
+        }
+    };
+    private final LinkedList<RecentTransaction> recentTransactions = new LinkedList<>();
+
+    private final Island island;
+    private int lastTransactionPosition = -1;
+
+    public PagedBankLogs(Island island) {
+        this.island = island;
+    }
+
+    @Override
+    public synchronized int getLastTransactionPosition() {
+        if (lastTransactionPosition == -1) {
+            TransactionsFilter allTransactions = getFilter(ALL_PLAYERS);
+            lastTransactionPosition = Math.max(0, allTransactions.lastPosition);
+        }
+
+        return lastTransactionPosition++;
+    }
+
+    @Override
+    public synchronized List<BankTransaction> getTransactions() {
+        return new TransactionsList(getFilter(ALL_PLAYERS));
+    }
+
+    @Override
+    public synchronized List<BankTransaction> getTransactions(UUID playerUUID) {
+        return new TransactionsList(getFilter(playerUUID));
+    }
+
+    @Override
+    public synchronized List<BankTransaction> getTransactions(BankLogsSorting sorting) {
+        return new SortedTransactionsList(getFilter(ALL_PLAYERS), sorting);
+    }
+
+    @Override
+    public synchronized List<BankTransaction> getTransactions(UUID playerUUID, BankLogsSorting sorting) {
+        return new SortedTransactionsList(getFilter(playerUUID), sorting);
+    }
+
+    @Override
+    public synchronized void addTransaction(BankTransaction bankTransaction, UUID senderUUID, boolean loadFromDatabase) {
+        // Transactions from the database are loaded when their pages are requested.
+        if (loadFromDatabase)
+            return;
+
+        recentTransactions.add(new RecentTransaction(bankTransaction, senderUUID));
+        if (recentTransactions.size() > MAXIMUM_RECENT_TRANSACTIONS) {
+            // Transactions that are no longer kept are expected to be written into the database already.
+            int removedPosition = recentTransactions.removeFirst().bankTransaction.getPosition();
+            for (TransactionsFilter filter : filters.values())
+                filter.lastSavedPosition = Math.max(filter.lastSavedPosition, removedPosition);
+        }
+
+        onTransactionAdded(filters.get(ALL_PLAYERS), bankTransaction);
+        onTransactionAdded(filters.get(senderUUID), bankTransaction);
+    }
+
+    private void onTransactionAdded(TransactionsFilter filter, BankTransaction bankTransaction) {
+        if (filter == null)
+            return;
+
+        ++filter.count;
+        filter.lastPosition = Math.max(filter.lastPosition, bankTransaction.getPosition());
+        // The first page that is not full is the only page the new transaction can be added to.
+        cachedPages.remove(new PageKey(filter.playerUUID, null, 0, filter.pagesEnds.size()));
+    }
+
+    private TransactionsFilter getFilter(UUID playerUUID) {
+        TransactionsFilter filter = filters.get(playerUUID);
+
+        if (filter == null) {
+            filter = new TransactionsFilter(playerUUID);
+            loadCount(filter);
+            filters.put(playerUUID, filter);
+        }
+
+        return filter;
+    }
+
+    private BankTransaction getTransaction(TransactionsFilter filter, int index) {
+        // Pages may contain less transactions than rows if some rows are invalid, therefore the page of
+        // the index is found by the amount of transactions in each of the previous pages.
+        for (int page = 0; ; ++page) {
+            if (page < filter.pagesEnds.size()) {
+                int pageSize = filter.pagesSizes.get(page);
+                if (index < pageSize)
+                    return getPage(filter, page).get(index);
+                index -= pageSize;
+            } else {
+                List<BankTransaction> transactions = getPage(filter, page);
+                if (index < transactions.size())
+                    return transactions.get(index);
+                // The page became full while it was loaded, and the index is in the next page.
+                if (page >= filter.pagesEnds.size())
+                    return null;
+                index -= transactions.size();
+            }
+        }
+    }
+
+    private List<BankTransaction> getPage(TransactionsFilter filter, int page) {
+        List<BankTransaction> transactions = cachedPages.get(new PageKey(filter.playerUUID, null, 0, page));
+        return transactions == null ? loadPage(filter, page) : transactions;
+    }
+
+    private List<BankTransaction> loadPage(TransactionsFilter filter, int page) {
+        // Pages are queried by the last position of their previous page.
+        int afterPosition = page == 0 ? 0 : filter.pagesEnds.get(page - 1);
+
+        // Invalid rows are kept as null values, so the ends of pages are the same as of the rows in the database.
+        TreeMap<Integer, BankTransaction> rows = new TreeMap<>();
+
+        SQLHelper.select("bank_transactions", String.format(SELECT_PAGE_QUERY, getPlayerFilter(filter.playerUUID)),
+                getQueryValues(filter.playerUUID, afterPosition), new QueryResult<ResultSet>().onSuccess(resultSet -> {
+                    while (resultSet.next()) {
+                        DatabaseResult bankTransactionRow = new DatabaseResult(new ResultSetMapBridge(resultSet));
+                        int position = bankTransactionRow.getInt("position").orElse(0);
+                        Optional<BankTransaction> bankTransaction = SBankTransaction.fromDatabase(bankTransactionRow);
+                        rows.put(position, bankTransaction.orElse(null));
+                        if (!bankTransaction.isPresent())
+                            filter.onInvalidRow(position);
+                    }
+                }).onFail(error -> {
+                    Log.entering("PagedBankLogs", "loadPage", "ENTER", island.getOwner().getName(), page);
+                    Log.error(error, "An unexpected error occurred while loading bank logs:");
+                }));
+
+        for (RecentTransaction recentTransaction : recentTransactions) {
+            int position = recentTransaction.bankTransaction.getPosition();
+            if (position > afterPosition && !rows.containsKey(position) && recentTransaction.matches(filter.playerUUID))
+                rows.put(position, recentTransaction.bankTransaction);
+        }
+
+        List<BankTransaction> transactions = new ArrayList<>(Math.min(PAGE_SIZE, rows.size()));
+        int rowsCount = 0;
+        int lastPosition = afterPosition;
+
+        for (Map.Entry<Integer, BankTransaction> row : rows.entrySet()) {
+            if (rowsCount++ >= PAGE_SIZE)
+                break;
+            lastPosition = row.getKey();
+            if (row.getValue() != null)
+                transactions.add(row.getValue());
+        }
+
+        // Only full pages have a known end, as new transactions are added to the last page.
+        if (rowsCount >= PAGE_SIZE && filter.pagesEnds.size() == page) {
+            filter.pagesEnds.add(lastPosition);
+            filter.pagesSizes.add(transactions.size());
+        }
+
+        transactions = Collections.unmodifiableList(transactions);
+        cachedPages.put(new PageKey(filter.playerUUID, null, 0, page), transactions);
+
+        return transactions;
+    }
+
+    private BankTransaction getSortedTransaction(SortedTransactionsList transactionsList, int index) {
+        int[] unsavedIndexes = transactionsList.getUnsavedIndexes();
+        int savedIndex = index;
+
+        for (int i = 0; i < unsavedIndexes.length; ++i) {
+            if (unsavedIndexes[i] == index)
+                return transactionsList.unsavedTransactions.get(i);
+            else if (unsavedIndexes[i] < index)
+                --savedIndex;
+        }
+
+        TransactionsFilter filter = transactionsList.filter;
+
+        // Pages contain all rows, including invalid ones, so the page of the index is known without loading
+        // the previous pages, unless some of the rows are invalid.
+        if (filter.invalidRows.isEmpty()) {
+            List<BankTransaction> transactions = getSortedPage(transactionsList, savedIndex / PAGE_SIZE);
+            int pageIndex = savedIndex % PAGE_SIZE;
+            BankTransaction bankTransaction = pageIndex < transactions.size() ? transactions.get(pageIndex) : null;
+            // Loading the page may find invalid rows, and then the previous pages are checked as well.
+            if (filter.invalidRows.isEmpty())
+                return bankTransaction;
+        }
+
+        for (int page = 0; ; ++page) {
+            List<BankTransaction> transactions = getSortedPage(transactionsList, page);
+            for (BankTransaction bankTransaction : transactions) {
+                if (bankTransaction != null && savedIndex-- == 0)
+                    return bankTransaction;
+            }
+            if (transactions.size() < PAGE_SIZE)
+                return null;
+        }
+    }
+
+    private List<BankTransaction> getSortedPage(SortedTransactionsList transactionsList, int page) {
+        PageKey pageKey = new PageKey(transactionsList.filter.playerUUID, transactionsList.sorting,
+                transactionsList.savedPosition, page);
+        List<BankTransaction> transactions = cachedPages.get(pageKey);
+
+        if (transactions == null) {
+            transactions = Collections.unmodifiableList(loadSortedPage(transactionsList, page));
+            cachedPages.put(pageKey, transactions);
+        }
+
+        return transactions;
+    }
+
+    private List<BankTransaction> loadSortedPage(SortedTransactionsList transactionsList, int page) {
+        TransactionsFilter filter = transactionsList.filter;
+        // Invalid rows are kept as null values, so offsets of pages are the same as of the rows in the database.
+        List<BankTransaction> transactions = new ArrayList<>(PAGE_SIZE);
+
+        SQLHelper.select("bank_transactions", String.format(SELECT_SORTED_PAGE_QUERY, getPlayerFilter(filter.playerUUID),
+                        transactionsList.sorting.getOrderBy(), page * PAGE_SIZE),
+                getQueryValues(filter.playerUUID, transactionsList.savedPosition),
+                new QueryResult<ResultSet>().onSuccess(resultSet -> {
+                    while (resultSet.next()) {
+                        DatabaseResult bankTransactionRow = new DatabaseResult(new ResultSetMapBridge(resultSet));
+                        Optional<BankTransaction> bankTransaction = SBankTransaction.fromDatabase(bankTransactionRow);
+                        transactions.add(bankTransaction.orElse(null));
+                        if (!bankTransaction.isPresent())
+                            filter.onInvalidRow(bankTransactionRow.getInt("position").orElse(0));
+                    }
+                }).onFail(error -> {
+                    Log.entering("PagedBankLogs", "loadSortedPage", "ENTER", island.getOwner().getName(), page);
+                    Log.error(error, "An unexpected error occurred while loading bank logs:");
+                }));
+
+        return transactions;
+    }
+
+    private int loadSortedRank(SortedTransactionsList transactionsList, BankTransaction bankTransaction) {
+        TransactionsFilter filter = transactionsList.filter;
+        BankLogsSorting sorting = transactionsList.sorting;
+        int[] rank = new int[]{0};
+
+        SQLHelper.select("bank_transactions", String.format(SELECT_SORTED_RANK_QUERY, getPlayerFilter(filter.playerUUID),
+                        sorting.getNotAfterFilter()),
+                getQueryValues(filter.playerUUID, transactionsList.savedPosition, sorting.getSortValue(bankTransaction)),
+                new QueryResult<ResultSet>().onSuccess(resultSet -> {
+                    if (resultSet.next())
+                        rank[0] = resultSet.getInt(1);
+                }).onFail(error -> {
+                    Log.entering("PagedBankLogs", "loadSortedRank", "ENTER", island.getOwner().getName());
+                    Log.error(error, "An unexpected error occurred while loading bank logs:");
+                }));
+
+        return rank[0];
+    }
+
+    private void loadCount(TransactionsFilter filter) {
+        SQLHelper.select("bank_transactions", String.format(SELECT_COUNT_QUERY, getPlayerFilter(filter.playerUUID)),
+                getQueryValues(filter.playerUUID), new QueryResult<ResultSet>().onSuccess(resultSet -> {
+                    if (resultSet.next()) {
+                        filter.count = resultSet.getInt(1);
+                        filter.lastPosition = resultSet.getInt(2);
+                        filter.lastSavedPosition = filter.lastPosition;
+                    }
+                }).onFail(error -> {
+                    Log.entering("PagedBankLogs", "loadCount", "ENTER", island.getOwner().getName());
+                    Log.error(error, "An unexpected error occurred while loading bank logs:");
+                }));
+
+        // Transactions that were not written into the database yet are counted as well.
+        int lastSavedPosition = filter.lastPosition;
+        for (RecentTransaction recentTransaction : recentTransactions) {
+            int position = recentTransaction.bankTransaction.getPosition();
+            if (position > lastSavedPosition && recentTransaction.matches(filter.playerUUID)) {
+                ++filter.count;
+                filter.lastPosition = Math.max(filter.lastPosition, position);
+            }
+        }
+    }
+
+    private Object[] getQueryValues(UUID playerUUID, Object... values) {
+        List<Object> queryValues = new ArrayList<>(values.length + 2);
+        queryValues.add(island.getUniqueId().toString());
+        if (!ALL_PLAYERS.equals(playerUUID) && !CONSOLE_UUID.equals(playerUUID))
+            queryValues.add(playerUUID.toString());
+        Collections.addAll(queryValues, values);
+        return queryValues.toArray();
+    }
+
+    private static String getPlayerFilter(UUID playerUUID) {
+        if (ALL_PLAYERS.equals(playerUUID)) {
+            return "";
+        } else if (CONSOLE_UUID.equals(playerUUID)) {
+            return CONSOLE_FILTER;
+        } else {
+            return PLAYER_FILTER;
+        }
+    }
+
+    private final class TransactionsList extends AbstractList<BankTransaction> {
+
+        private final TransactionsFilter filter;
+        private final int size;
+
+        TransactionsList(TransactionsFilter filter) {
+            this.filter = filter;
+            this.size = Math.max(0, filter.count);
+        }
+
+        @Override
+        public BankTransaction get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            BankTransaction bankTransaction;
+
+            synchronized (PagedBankLogs.this) {
+                bankTransaction = getTransaction(filter, index);
+            }
+
+            if (bankTransaction == null)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            return bankTransaction;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    private final class SortedTransactionsList extends AbstractList<BankTransaction> {
+
+        private final TransactionsFilter filter;
+        private final BankLogsSorting sorting;
+        private final int size;
+        // Transactions with higher positions may not be written into the database yet, and are merged
+        // into the rows that the database sorts.
+        private final int savedPosition;
+        private final List<BankTransaction> unsavedTransactions = new ArrayList<>();
+        private int[] unsavedIndexes;
+
+        SortedTransactionsList(TransactionsFilter filter, BankLogsSorting sorting) {
+            this.filter = filter;
+            this.sorting = sorting;
+            this.size = Math.max(0, filter.count);
+            this.savedPosition = filter.lastSavedPosition;
+
+            for (RecentTransaction recentTransaction : recentTransactions) {
+                if (recentTransaction.bankTransaction.getPosition() > this.savedPosition &&
+                        recentTransaction.matches(filter.playerUUID))
+                    this.unsavedTransactions.add(recentTransaction.bankTransaction);
+            }
+
+            this.unsavedTransactions.sort(sorting.getComparator());
+        }
+
+        @Override
+        public BankTransaction get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            BankTransaction bankTransaction;
+
+            synchronized (PagedBankLogs.this) {
+                bankTransaction = getSortedTransaction(this, index);
+            }
+
+            if (bankTransaction == null)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            return bankTransaction;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        int[] getUnsavedIndexes() {
+            if (this.unsavedIndexes == null) {
+                // Unsaved transactions have higher positions than the saved rows, therefore they are sorted
+                // after all the rows that are not sorted after them.
+                int[] unsavedIndexes = new int[this.unsavedTransactions.size()];
+                for (int i = 0; i < unsavedIndexes.length; ++i)
+                    unsavedIndexes[i] = loadSortedRank(this, this.unsavedTransactions.get(i)) + i;
+                this.unsavedIndexes = unsavedIndexes;
+            }
+
+            return this.unsavedIndexes;
+        }
+
+    }
+
+    private static final class TransactionsFilter {
+
+        private final UUID playerUUID;
+        private final List<Integer> pagesEnds = new ArrayList<>();
+        private final List<Integer> pagesSizes = new ArrayList<>();
+        private final Set<Integer> invalidRows = new HashSet<>();
+        private int count = 0;
+        private int lastPosition = 0;
+        private int lastSavedPosition = 0;
+
+        TransactionsFilter(UUID playerUUID) {
+            this.playerUUID = playerUUID;
+        }
+
+        void onInvalidRow(int position) {
+            // Invalid rows are counted by the database, but are never shown.
+            if (this.invalidRows.add(position))
+                --this.count;
+        }
+
+    }
+
+    private static final class RecentTransaction {
+
+        private final BankTransaction bankTransaction;
+        private final UUID senderUUID;
+
+        RecentTransaction(BankTransaction bankTransaction, UUID senderUUID) {
+            this.bankTransaction = bankTransaction;
+            this.senderUUID = senderUUID;
+        }
+
+        boolean matches(UUID playerUUID) {
+            return ALL_PLAYERS.equals(playerUUID) || senderUUID.equals(playerUUID);
+        }
+
+    }
+
+    private static final class PageKey {
+
+        private final UUID playerUUID;
+        @Nullable
+        private final BankLogsSorting sorting;
+        private final int savedPosition;
+        private final int page;
+
+        PageKey(UUID playerUUID, @Nullable BankLogsSorting sorting, int savedPosition, int page) {
+            this.playerUUID = playerUUID;
+            this.sorting = sorting;
+            this.savedPosition = savedPosition;
+            this.page = page;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PageKey pageKey = (PageKey) o;
+            return page == pageKey.page && savedPosition == pageKey.savedPosition &&
+                    sorting == pageKey.sorting && playerUUID.equals(pageKey.playerUUID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerUUID, sorting, savedPosition, page);
+        }
+
+    }
+
+}
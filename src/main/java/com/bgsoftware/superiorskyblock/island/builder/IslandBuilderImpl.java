@@ -100,6 +100,7 @@ public class IslandBuilderImpl implements Island.Builder {
     public List<WarpCategoryRecord> warpCategories = new LinkedList<>();
     public List<BankTransaction> bankTransactions = new LinkedList<>();
     public byte[] persistentData = new byte[0];
+    public boolean coldDataLoaded = true;
 
     public IslandBuilderImpl() {
 
@@ -0,0 +1,209 @@
+package com.bgsoftware.superiorskyblock.island.calculation;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.core.formatting.Formatters;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.messages.Message;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.player.PlayerLocales;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculates islands gradually, so calculating all islands does not flood the server with work at once.
+ * Active islands are calculated first, then islands by their last update time, so islands that were not
+ * updated for a long time are calculated last.
+ * Every tick, calculations are started as long as the tick budget was not used and there are less islands
+ * being calculated than the configured limit. No calculations are started while the TPS is lower than
+ * the configured minimum TPS.
+ * All the state of the scheduler is accessed from the main thread only.
+ */
+public class IslandsCalculationScheduler {
+
+    private final SuperiorSkyblockPlugin plugin;
+
+    private final PriorityQueue<QueuedIsland> queuedIslands = new PriorityQueue<>();
+    private final Set<UUID> queuedIslandsUUIDs = new HashSet<>();
+    private final List<Island> calculatingIslands = new LinkedList<>();
+    private final List<Runnable> callbacks = new LinkedList<>();
+    private final List<CommandSender> progressReceivers = new LinkedList<>();
+
+    private boolean running = false;
+    private int totalIslands = 0;
+    private int calculatedIslands = 0;
+    private long startTime = 0;
+    private long lastProgressTime = 0;
+
+    public IslandsCalculationScheduler(SuperiorSkyblockPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void calcIslands(Collection<Island> islands, @Nullable CommandSender progressReceiver, @Nullable Runnable callback) {
+        BukkitExecutor.ensureMain(() -> {
+            for (Island island : islands) {
+                if (this.queuedIslandsUUIDs.add(island.getUniqueId())) {
+                    this.queuedIslands.add(new QueuedIsland(island));
+                    ++this.totalIslands;
+                }
+            }
+
+            if (callback != null)
+                this.callbacks.add(callback);
+
+            if (progressReceiver != null)
+                this.progressReceivers.add(progressReceiver);
+
+            if (!this.running) {
+                this.running = true;
+                this.startTime = this.lastProgressTime = System.currentTimeMillis();
+                tick();
+            }
+        });
+    }
+
+    private void tick() {
+        // Calculations that were not started yet are dropped when the plugin is disabled.
+        if (!plugin.isEnabled()) {
+            this.queuedIslands.clear();
+            this.queuedIslandsUUIDs.clear();
+            this.calculatingIslands.clear();
+            this.callbacks.clear();
+            finish();
+            return;
+        }
+
+        long tickStartTime = System.nanoTime();
+
+        this.calculatingIslands.removeIf(island -> {
+            if (island.isBeingRecalculated())
+                return false;
+
+            ++this.calculatedIslands;
+            return true;
+        });
+
+        if (canStartCalculations()) {
+            long tickBudget = TimeUnit.MILLISECONDS.toNanos(plugin.getSettings().getRecalcTickBudget());
+            int maxCalculatingIslands = Math.max(1, plugin.getSettings().getRecalcMaxIslands());
+
+            while (!this.queuedIslands.isEmpty() && this.calculatingIslands.size() < maxCalculatingIslands &&
+                    System.nanoTime() - tickStartTime < tickBudget) {
+                Island island = this.queuedIslands.poll().island;
+                this.queuedIslandsUUIDs.remove(island.getUniqueId());
+                startCalculation(island);
+            }
+        }
+
+        sendProgress();
+
+        if (this.queuedIslands.isEmpty() && this.calculatingIslands.isEmpty()) {
+            finish();
+        } else {
+            BukkitExecutor.sync(this::tick, 1L);
+        }
+    }
+
+    private void startCalculation(Island island) {
+        // Islands that were disbanded or are being calculated already are skipped.
+        if (!island.isBeingRecalculated() && plugin.getGrid().getIslandByUUID(island.getUniqueId()) == island) {
+            try {
+                island.calcIslandWorth(null);
+            } catch (Throwable error) {
+                Log.error(error, "An unexpected error occurred while calculating island ", island.getOwner().getName(), ":");
+            }
+
+            // Islands that are calculated right away, such as inactive islands, are done already.
+            if (island.isBeingRecalculated()) {
+                this.calculatingIslands.add(island);
+                return;
+            }
+        }
+
+        ++this.calculatedIslands;
+    }
+
+    private boolean canStartCalculations() {
+        double minTps = plugin.getSettings().getRecalcMinTps();
+        return minTps <= 0 || plugin.getNMSAlgorithms().getCurrentTps() >= minTps;
+    }
+
+    private void sendProgress() {
+        long currentTime = System.currentTimeMillis();
+        long progressInterval = TimeUnit.SECONDS.toMillis(plugin.getSettings().getRecalcProgressInterval());
+
+        if (this.progressReceivers.isEmpty() || progressInterval <= 0 || currentTime - this.lastProgressTime < progressInterval)
+            return;
+
+        this.lastProgressTime = currentTime;
+
+        int remainingIslands = this.totalIslands - this.calculatedIslands;
+        double progress = this.totalIslands == 0 ? 100 : this.calculatedIslands * 100D / this.totalIslands;
+        Duration estimatedTime = this.calculatedIslands == 0 ? null : Duration.ofMillis(
+                (currentTime - this.startTime) * remainingIslands / this.calculatedIslands);
+
+        this.progressReceivers.removeIf(sender -> sender instanceof Player && !((Player) sender).isOnline());
+
+        String progressFormatted = String.format("%.1f", progress);
+
+        for (CommandSender sender : this.progressReceivers) {
+            if (estimatedTime == null) {
+                Message.RECALC_ALL_ISLANDS_PROGRESS_NO_ETA.send(sender, this.calculatedIslands, this.totalIslands,
+                        progressFormatted);
+            } else {
+                Message.RECALC_ALL_ISLANDS_PROGRESS.send(sender, this.calculatedIslands, this.totalIslands,
+                        progressFormatted, Formatters.TIME_FORMATTER.format(estimatedTime, PlayerLocales.getLocale(sender)));
+            }
+        }
+    }
+
+    private void finish() {
+        this.running = false;
+        this.totalIslands = 0;
+        this.calculatedIslands = 0;
+        this.progressReceivers.clear();
+
+        List<Runnable> callbacks = new ArrayList<>(this.callbacks);
+        this.callbacks.clear();
+
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (Throwable error) {
+                Log.error(error, "An unexpected error occurred while finishing islands calculation:");
+            }
+        }
+    }
+
+    private static final class QueuedIsland implements Comparable<QueuedIsland> {
+
+        private final Island island;
+        private final long lastTimeUpdate;
+
+        QueuedIsland(Island island) {
+            this.island = island;
+            // Active islands have no last update time, and are calculated first.
+            long lastTimeUpdate = island.getLastTimeUpdate();
+            this.lastTimeUpdate = lastTimeUpdate == -1 ? Long.MAX_VALUE : lastTimeUpdate;
+        }
+
+        @Override
+        public int compareTo(QueuedIsland other) {
+            return Long.compare(other.lastTimeUpdate, this.lastTimeUpdate);
+        }
+
+    }
+
+}
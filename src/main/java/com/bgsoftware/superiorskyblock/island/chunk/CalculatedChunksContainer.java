@@ -0,0 +1,127 @@
+package com.bgsoftware.superiorskyblock.island.chunk;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.ChunkPosition;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of the last calculation of every chunk of an island, used for incremental calculations.
+ * Modified chunks keep their modification stamp instead of their result, so results of calculations that
+ * started before the chunk was modified are not stored.
+ * Only the islands that were calculated most recently keep their results; results of other islands are
+ * dropped, and their next calculation scans all their chunks.
+ */
+public class CalculatedChunksContainer {
+
+    // Containers that keep results, ordered by the time of their last calculation.
+    private static final Map<CalculatedChunksContainer, Boolean> RETAINING_CONTAINERS = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<ChunkPosition, Entry> calculatedChunks = new HashMap<>();
+
+    private long clock = 0;
+    // Results of calculations that started before the results were dropped are not stored.
+    private long minimumStamp = 0;
+    private long lastFullCalculationTime = 0;
+    private boolean retaining = false;
+
+    /**
+     * Start a calculation of the island.
+     *
+     * @param maxRetainingContainers The maximum amount of islands that can keep their results.
+     * @return The stamp of the calculation.
+     */
+    public long startCalculation(int maxRetainingContainers) {
+        synchronized (RETAINING_CONTAINERS) {
+            RETAINING_CONTAINERS.put(this, Boolean.TRUE);
+
+            Iterator<CalculatedChunksContainer> iterator = RETAINING_CONTAINERS.keySet().iterator();
+            while (RETAINING_CONTAINERS.size() > Math.max(1, maxRetainingContainers) && iterator.hasNext()) {
+                CalculatedChunksContainer eldestContainer = iterator.next();
+                iterator.remove();
+                eldestContainer.clear();
+            }
+
+            synchronized (this) {
+                this.retaining = true;
+                return this.clock;
+            }
+        }
+    }
+
+    /**
+     * Start a full calculation if the last full calculation happened more than the given interval ago.
+     *
+     * @return Whether a full calculation should be done.
+     */
+    public synchronized boolean startFullCalculation(long interval) {
+        long currentTime = System.currentTimeMillis();
+
+        if (this.lastFullCalculationTime != 0 && (interval <= 0 || currentTime - this.lastFullCalculationTime < interval))
+            return false;
+
+        this.lastFullCalculationTime = currentTime;
+        return true;
+    }
+
+    @Nullable
+    public synchronized CalculatedChunk get(ChunkPosition chunkPosition) {
+        Entry entry = this.calculatedChunks.get(chunkPosition);
+        return entry == null ? null : entry.calculatedChunk;
+    }
+
+    public synchronized void put(ChunkPosition chunkPosition, CalculatedChunk calculatedChunk, long stamp) {
+        if (stamp < this.minimumStamp)
+            return;
+
+        Entry entry = this.calculatedChunks.get(chunkPosition);
+        if (entry == null) {
+            this.calculatedChunks.put(chunkPosition, new Entry(calculatedChunk, stamp));
+        } else if (entry.stamp <= stamp) {
+            entry.calculatedChunk = calculatedChunk;
+            entry.stamp = stamp;
+        }
+    }
+
+    public synchronized void markModified(ChunkPosition chunkPosition) {
+        // Results of calculations that started before the container stopped keeping results are not stored,
+        // therefore modifications do not need to be tracked.
+        if (!this.retaining)
+            return;
+
+        long stamp = ++this.clock;
+
+        Entry entry = this.calculatedChunks.get(chunkPosition);
+        if (entry == null) {
+            this.calculatedChunks.put(chunkPosition, new Entry(null, stamp));
+        } else {
+            entry.calculatedChunk = null;
+            entry.stamp = stamp;
+        }
+    }
+
+    private synchronized void clear() {
+        this.calculatedChunks.clear();
+        this.minimumStamp = ++this.clock;
+        this.lastFullCalculationTime = 0;
+        this.retaining = false;
+    }
+
+    private static final class Entry {
+
+        @Nullable
+        private CalculatedChunk calculatedChunk;
+        private long stamp;
+
+        Entry(@Nullable CalculatedChunk calculatedChunk, long stamp) {
+            this.calculatedChunk = calculatedChunk;
+            this.stamp = stamp;
+        }
+
+    }
+
+}
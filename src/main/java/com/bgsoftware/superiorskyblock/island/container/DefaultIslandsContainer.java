@@ -8,30 +8,48 @@ import com.bgsoftware.superiorskyblock.api.island.container.IslandsContainer;
 import com.bgsoftware.superiorskyblock.api.world.WorldInfo;
 import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
 import com.bgsoftware.superiorskyblock.core.IslandPosition;
+import com.bgsoftware.superiorskyblock.core.LazyWorldLocation;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
-import com.bgsoftware.superiorskyblock.core.collections.EnumerateSet;
+import com.bgsoftware.superiorskyblock.core.collections.ConcurrentLongMap;
+import com.bgsoftware.superiorskyblock.core.collections.RankedSet;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.core.threads.Synchronized;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class DefaultIslandsContainer implements IslandsContainer {
 
-    private final Map<IslandPosition, Island> islandsByPositions = new ConcurrentHashMap<>();
-    private final Map<UUID, Island> islandsByUUID = new ConcurrentHashMap<>();
+    // Values of islands may change without notifying the container, for example when players go offline
+    // or islands are renamed. Therefore, islands are sorted from scratch once in a while.
+    private static final long FULL_SORT_INTERVAL = TimeUnit.MINUTES.toMillis(5);
 
-    private final Map<SortingType, Synchronized<List<Island>>> sortedIslands = new ConcurrentHashMap<>();
+    // Islands by the positions of their centers. When custom worlds are supported, the positions
+    // of every world are kept separately.
+    private final ConcurrentLongMap<Island> islandsByPositions = new ConcurrentLongMap<>();
+    private final Map<String, ConcurrentLongMap<Island>> islandsByWorldPositions = new ConcurrentHashMap<>();
+    private final Map<UUID, Island> islandsByUUID = new ConcurrentHashMap<>();
 
-    private final EnumerateSet<SortingType> notifiedValues = new EnumerateSet<>(SortingType.values());
+    // Islands are kept sorted incrementally: islands that notified a change are only repositioned
+    // when the sorting type is sorted. A full sort is done when it is forced, once in every full sort
+    // interval, and for sorting types that were not registered by the plugin, as their values are unknown.
+    private final Map<SortingType, Synchronized<RankedSet<Island>>> sortedIslands = new ConcurrentHashMap<>();
+    private final Map<SortingType, Set<Island>> notifiedIslands = new ConcurrentHashMap<>();
+    private final Map<SortingType, Long> lastFullSorts = new ConcurrentHashMap<>();
 
     private final SuperiorSkyblockPlugin plugin;
 
@@ -47,30 +65,34 @@ public class DefaultIslandsContainer implements IslandsContainer {
 
         Preconditions.checkNotNull(defaultWorld, "Default world information cannot be null!");
 
-        this.islandsByPositions.put(IslandPosition.of(defaultWorld.getName(), center.getX(), center.getZ()), island);
+        long islandPosition = IslandPosition.of(center.getX(), center.getZ());
+
+        getIslandsByPositions(defaultWorld.getName(), true).put(islandPosition, island);
 
         if (plugin.getProviders().hasCustomWorldsSupport()) {
             // We don't know the logic of the custom worlds support, therefore we add a position
             // for every possible world, so there won't be issues with detecting islands later.
             if (plugin.getProviders().getWorldsProvider().isNormalEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NORMAL,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.NORMAL,
+                        worldName -> getIslandsByPositions(worldName, true).put(islandPosition, island));
             }
             if (plugin.getProviders().getWorldsProvider().isNetherEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NETHER,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.NETHER,
+                        worldName -> getIslandsByPositions(worldName, true).put(islandPosition, island));
             }
             if (plugin.getProviders().getWorldsProvider().isEndEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.THE_END,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.THE_END,
+                        worldName -> getIslandsByPositions(worldName, true).put(islandPosition, island));
             }
         }
 
         this.islandsByUUID.put(island.getUniqueId(), island);
 
-        sortedIslands.values().forEach(sortedIslands -> {
-            sortedIslands.write(_sortedIslands -> _sortedIslands.add(island));
-        });
+        if (!island.isIgnored()) {
+            sortedIslands.values().forEach(sortedIslands -> {
+                sortedIslands.write(_sortedIslands -> _sortedIslands.add(island));
+            });
+        }
     }
 
     @Override
@@ -80,20 +102,22 @@ public class DefaultIslandsContainer implements IslandsContainer {
 
         Preconditions.checkNotNull(defaultWorld, "Default world information cannot be null!");
 
-        this.islandsByPositions.remove(IslandPosition.of(defaultWorld.getName(), center.getX(), center.getZ()), island);
+        long islandPosition = IslandPosition.of(center.getX(), center.getZ());
+
+        removeIslandPosition(defaultWorld.getName(), islandPosition, island);
 
         if (plugin.getProviders().hasCustomWorldsSupport()) {
             if (plugin.getProviders().getWorldsProvider().isNormalEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NORMAL,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.NORMAL,
+                        worldName -> removeIslandPosition(worldName, islandPosition, island));
             }
             if (plugin.getProviders().getWorldsProvider().isNetherEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NETHER,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.NETHER,
+                        worldName -> removeIslandPosition(worldName, islandPosition, island));
             }
             if (plugin.getProviders().getWorldsProvider().isEndEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.THE_END,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
+                runWithCustomWorld(defaultWorld, island, World.Environment.THE_END,
+                        worldName -> removeIslandPosition(worldName, islandPosition, island));
             }
         }
 
@@ -114,17 +138,13 @@ public class DefaultIslandsContainer implements IslandsContainer {
     @Override
     public Island getIslandAtPosition(int position, SortingType sortingType) {
         ensureSortingType(sortingType);
-        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands -> {
-            return position < 0 || position >= sortedIslands.size() ? null : sortedIslands.get(position);
-        });
+        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands -> sortedIslands.get(position));
     }
 
     @Override
     public int getIslandPosition(Island island, SortingType sortingType) {
         ensureSortingType(sortingType);
-        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands -> {
-            return sortedIslands.indexOf(island);
-        });
+        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands -> sortedIslands.indexOf(island));
     }
 
     @Override
@@ -135,10 +155,25 @@ public class DefaultIslandsContainer implements IslandsContainer {
     @Nullable
     @Override
     public Island getIslandAt(Location location) {
-        Island island = this.islandsByPositions.get(IslandPosition.of(location));
+        Island island = getIslandAtPosition(LazyWorldLocation.getWorldName(location),
+                location.getBlockX(), location.getBlockZ());
         return island == null || !island.isInside(location) ? null : island;
     }
 
+    @Nullable
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        Island island = getIslandAtPosition(world.getName(), blockX, blockZ);
+
+        if (island == null)
+            return null;
+
+        boolean isInside = island instanceof SIsland ? ((SIsland) island).isBlockInside(world, blockX, blockZ) :
+                island.isInside(new Location(world, blockX, 0, blockZ));
+
+        return isInside ? island : null;
+    }
+
     @Override
     public void sortIslands(SortingType sortingType, Runnable onFinish) {
         this.sortIslands(sortingType, false, onFinish);
@@ -148,31 +183,38 @@ public class DefaultIslandsContainer implements IslandsContainer {
     public void sortIslands(SortingType sortingType, boolean forceSort, Runnable onFinish) {
         ensureSortingType(sortingType);
 
-        Synchronized<List<Island>> sortedIslands = this.sortedIslands.get(sortingType);
+        boolean hasNotifiedIslands = !this.notifiedIslands.get(sortingType).isEmpty();
+        boolean fullSort = forceSort || (hasNotifiedIslands && !isBuiltinSortingType(sortingType)) ||
+                (isBuiltinSortingType(sortingType) && System.currentTimeMillis() -
+                        this.lastFullSorts.getOrDefault(sortingType, 0L) >= FULL_SORT_INTERVAL);
 
-        if (!forceSort && (sortedIslands.readAndGet(List::size) <= 1 || !notifiedValues.remove(sortingType))) {
+        if (!fullSort && !hasNotifiedIslands) {
             if (onFinish != null)
                 onFinish.run();
             return;
         }
 
         if (Bukkit.isPrimaryThread()) {
-            BukkitExecutor.async(() -> sortIslandsInternal(sortingType, onFinish));
+            BukkitExecutor.async(() -> sortIslandsInternal(sortingType, fullSort, onFinish));
         } else {
-            sortIslandsInternal(sortingType, onFinish);
+            sortIslandsInternal(sortingType, fullSort, onFinish);
         }
     }
 
     @Override
     public void notifyChange(SortingType sortingType, Island island) {
-        notifiedValues.add(sortingType);
+        Set<Island> notifiedIslands = this.notifiedIslands.get(sortingType);
+        if (notifiedIslands != null)
+            notifiedIslands.add(island);
     }
 
     @Override
     public List<Island> getSortedIslands(SortingType sortingType) {
         ensureSortingType(sortingType);
-        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands ->
-                new SequentialListBuilder<Island>().build(sortedIslands));
+        return this.sortedIslands.get(sortingType).readAndGet(sortedIslands -> {
+            List<Island> islands = sortedIslands.toList();
+            return islands.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(islands);
+        });
     }
 
     @Override
@@ -183,30 +225,122 @@ public class DefaultIslandsContainer implements IslandsContainer {
     @Override
     public void addSortingType(SortingType sortingType, boolean sort) {
         Preconditions.checkArgument(!sortedIslands.containsKey(sortingType), "You cannot register an existing sorting type to the database.");
-        sortIslandsInternal(sortingType, null);
+        this.notifiedIslands.put(sortingType, ConcurrentHashMap.newKeySet());
+        this.sortedIslands.put(sortingType, Synchronized.of(new RankedSet<>(sortingType)));
+        sortIslandsInternal(sortingType, true, null);
+    }
+
+    private static boolean isBuiltinSortingType(SortingType sortingType) {
+        return sortingType == SortingTypes.BY_WORTH || sortingType == SortingTypes.BY_LEVEL ||
+                sortingType == SortingTypes.BY_RATING || sortingType == SortingTypes.BY_PLAYERS;
     }
 
     private void ensureSortingType(SortingType sortingType) {
         Preconditions.checkState(sortedIslands.containsKey(sortingType), "The sorting-type " + sortingType + " doesn't exist in the database. Please contact author!");
     }
 
-    private void sortIslandsInternal(SortingType sortingType, Runnable onFinish) {
-        List<Island> newIslandsList = new ArrayList<>(islandsByUUID.values());
-        newIslandsList.removeIf(Island::isIgnored);
+    private void sortIslandsInternal(SortingType sortingType, boolean fullSort, Runnable onFinish) {
+        List<Island> changedIslands = new ArrayList<>();
+
+        Iterator<Island> notifiedIslands = this.notifiedIslands.get(sortingType).iterator();
+        while (notifiedIslands.hasNext()) {
+            changedIslands.add(notifiedIslands.next());
+            notifiedIslands.remove();
+        }
+
+        Synchronized<RankedSet<Island>> sortedIslands = this.sortedIslands.get(sortingType);
+
+        if (fullSort) {
+            this.lastFullSorts.put(sortingType, System.currentTimeMillis());
 
-        newIslandsList.sort(sortingType);
+            List<Island> newIslandsList = new ArrayList<>(islandsByUUID.values());
+            newIslandsList.removeIf(Island::isIgnored);
 
-        this.sortedIslands.put(sortingType, Synchronized.of(newIslandsList));
+            newIslandsList.sort(sortingType);
+
+            sortedIslands.write(_sortedIslands -> {
+                _sortedIslands.clear();
+                newIslandsList.forEach(_sortedIslands::addLast);
+            });
+        } else {
+            sortedIslands.write(_sortedIslands -> {
+                // All changed islands are removed before any of them is added back, so islands are never
+                // compared with changed islands that are still in their old positions.
+                changedIslands.forEach(_sortedIslands::remove);
+
+                for (Island island : changedIslands) {
+                    // Islands that were removed or ignored after they notified a change are not added back.
+                    if (!island.isIgnored() && this.islandsByUUID.get(island.getUniqueId()) == island)
+                        _sortedIslands.add(island);
+                }
+
+                requeueMisplacedIslands(sortingType, _sortedIslands, changedIslands);
+            });
+        }
 
         if (onFinish != null)
             onFinish.run();
     }
 
-    private void runWithCustomWorld(WorldInfo defaultWorld, BlockPosition center, Island island,
-                                    World.Environment environment, Consumer<IslandPosition> consumer) {
+    /**
+     * Islands are compared by their current values, so islands that changed after they were collected for
+     * sorting are still in their old positions, and islands that were compared with them may be misplaced.
+     * Repositioned islands that are out of order with their neighbors, or whose neighbors changed since,
+     * are therefore collected again for the next sort, together with these neighbors.
+     */
+    private void requeueMisplacedIslands(SortingType sortingType, RankedSet<Island> sortedIslands,
+                                         List<Island> repositionedIslands) {
+        Set<Island> notifiedIslands = this.notifiedIslands.get(sortingType);
+
+        for (Island island : repositionedIslands) {
+            int index = sortedIslands.indexOf(island);
+            if (index < 0)
+                continue;
+
+            Island previousIsland = sortedIslands.get(index - 1);
+            Island nextIsland = sortedIslands.get(index + 1);
+
+            boolean misplaced = (previousIsland != null && (notifiedIslands.contains(previousIsland) ||
+                    sortingType.compare(previousIsland, island) > 0)) ||
+                    (nextIsland != null && (notifiedIslands.contains(nextIsland) ||
+                            sortingType.compare(island, nextIsland) > 0));
+
+            if (misplaced) {
+                notifiedIslands.add(island);
+                if (previousIsland != null)
+                    notifiedIslands.add(previousIsland);
+                if (nextIsland != null)
+                    notifiedIslands.add(nextIsland);
+            }
+        }
+    }
+
+    @Nullable
+    private Island getIslandAtPosition(String worldName, int blockX, int blockZ) {
+        ConcurrentLongMap<Island> islandsByPositions = getIslandsByPositions(worldName, false);
+        return islandsByPositions == null ? null : islandsByPositions.get(IslandPosition.of(blockX, blockZ));
+    }
+
+    private void removeIslandPosition(String worldName, long islandPosition, Island island) {
+        ConcurrentLongMap<Island> islandsByPositions = getIslandsByPositions(worldName, false);
+        if (islandsByPositions != null)
+            islandsByPositions.remove(islandPosition, island);
+    }
+
+    @Nullable
+    private ConcurrentLongMap<Island> getIslandsByPositions(String worldName, boolean create) {
+        if (!plugin.getProviders().hasCustomWorldsSupport())
+            return this.islandsByPositions;
+
+        return create ? this.islandsByWorldPositions.computeIfAbsent(worldName, unused -> new ConcurrentLongMap<>()) :
+                this.islandsByWorldPositions.get(worldName);
+    }
+
+    private void runWithCustomWorld(WorldInfo defaultWorld, Island island, World.Environment environment,
+                                    Consumer<String> consumer) {
         WorldInfo worldInfo = plugin.getGrid().getIslandsWorldInfo(island, environment);
         if (worldInfo != null && !worldInfo.equals(defaultWorld))
-            consumer.accept(IslandPosition.of(worldInfo.getName(), center.getX(), center.getZ()));
+            consumer.accept(worldInfo.getName());
     }
 
 }
@@ -4,6 +4,7 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.service.world.WorldRecordService;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
 import com.bgsoftware.superiorskyblock.core.LazyReference;
 import com.bgsoftware.superiorskyblock.core.Mutable;
@@ -11,7 +12,7 @@ import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.WorldsRegistry;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
-import com.bgsoftware.superiorskyblock.island.algorithm.DefaultIslandCalculationAlgorithm;
+import com.bgsoftware.superiorskyblock.island.SIsland;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeCropGrowth;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeEntityLimits;
@@ -83,6 +84,8 @@ public class ChunksListener implements Listener {
     }
 
     private void handleIslandChunkUnload(Island island, Chunk chunk) {
+        CalculatedChunksCache.invalidate(ChunkPosition.of(chunk));
+
         if (BuiltinModules.UPGRADES.isUpgradeTypeEnabled(UpgradeTypeCropGrowth.class))
             plugin.getNMSChunks().startTickingChunk(island, chunk, true);
 
@@ -116,6 +119,10 @@ public class ChunksListener implements Listener {
     private void handleIslandChunkLoad(Island island, Chunk chunk, boolean isNewChunk) {
         ChunkPosition chunkPosition = ChunkPosition.of(chunk);
 
+        // Players are near the island, so its cold data is loaded before they access it.
+        if (island instanceof SIsland)
+            ((SIsland) island).hydrateColdData();
+
         World world = chunk.getWorld();
         World.Environment environment = world.getEnvironment();
 
@@ -182,7 +189,7 @@ public class ChunksListener implements Listener {
             }
         }, 2L);
 
-        DefaultIslandCalculationAlgorithm.CACHED_CALCULATED_CHUNKS.remove(chunkPosition);
+        CalculatedChunksCache.invalidate(chunkPosition);
     }
 
     private static boolean isOldHologram(ArmorStand armorStand) {
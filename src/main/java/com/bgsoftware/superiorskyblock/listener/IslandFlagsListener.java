@@ -12,6 +12,7 @@ import com.destroystokyo.paper.event.entity.PreCreatureSpawnEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Chicken;
 import org.bukkit.entity.Enderman;
 import org.bukkit.entity.Entity;
@@ -189,13 +190,13 @@ public class IslandFlagsListener implements Listener {
     private void onBlockFlow(BlockFromToEvent e) {
         IslandFlag islandFlag = Materials.isWater(e.getBlock().getType()) ||
                 plugin.getNMSWorld().isWaterLogged(e.getBlock()) ? IslandFlags.WATER_FLOW : IslandFlags.LAVA_FLOW;
-        if (preventAction(e.getToBlock().getLocation(), islandFlag))
+        if (preventAction(e.getToBlock(), islandFlag))
             e.setCancelled(true);
     }
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     private void onCropsGrowth(BlockGrowEvent e) {
-        if (preventAction(e.getBlock().getLocation(), IslandFlags.CROPS_GROWTH))
+        if (preventAction(e.getBlock(), IslandFlags.CROPS_GROWTH))
             e.setCancelled(true);
     }
 
@@ -207,19 +208,19 @@ public class IslandFlagsListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     private void onFireSpread(BlockBurnEvent e) {
-        if (preventAction(e.getBlock().getLocation(), IslandFlags.FIRE_SPREAD))
+        if (preventAction(e.getBlock(), IslandFlags.FIRE_SPREAD))
             e.setCancelled(true);
     }
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     private void onBlockIgnite(BlockIgniteEvent e) {
-        if (e.getCause() == BlockIgniteEvent.IgniteCause.SPREAD && preventAction(e.getBlock().getLocation(), IslandFlags.FIRE_SPREAD))
+        if (e.getCause() == BlockIgniteEvent.IgniteCause.SPREAD && preventAction(e.getBlock(), IslandFlags.FIRE_SPREAD))
             e.setCancelled(true);
     }
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     private void onEndermanGrief(EntityChangeBlockEvent e) {
-        if (e.getEntity() instanceof Enderman && preventAction(e.getBlock().getLocation(), IslandFlags.ENDERMAN_GRIEF))
+        if (e.getEntity() instanceof Enderman && preventAction(e.getBlock(), IslandFlags.ENDERMAN_GRIEF))
             e.setCancelled(true);
     }
 
@@ -263,6 +264,20 @@ public class IslandFlagsListener implements Listener {
             return !flagsSet.contains(Flag.ALLOW_OUTSIDE) && plugin.getGrid().isIslandsWorld(location.getWorld());
         }
 
+        return preventAction(island, islandFlag);
+    }
+
+    private boolean preventAction(Block block, IslandFlag islandFlag) {
+        // Block events are called very frequently, so the island is looked up without creating a location.
+        Island island = plugin.getGrid().getIslandAt(block.getWorld(), block.getX(), block.getZ());
+
+        if (island == null)
+            return plugin.getGrid().isIslandsWorld(block.getWorld());
+
+        return preventAction(island, islandFlag);
+    }
+
+    private boolean preventAction(Island island, IslandFlag islandFlag) {
         if (!plugin.getSettings().getSpawn().isProtected() && island.isSpawn())
             return false;
 
@@ -4,6 +4,8 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.player.PlayerRegion;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
@@ -122,6 +124,12 @@ public class IslandOutsideListener implements Listener {
         if (superiorPlayer.hasBypassModeEnabled())
             return false;
 
+        // Moves inside the protected range the player was last seen inside don't need the island to be looked up.
+        PlayerRegion cachedRegion = superiorPlayer instanceof SSuperiorPlayer ?
+                ((SSuperiorPlayer) superiorPlayer).getCachedRegion() : null;
+        if (cachedRegion != null && cachedRegion.contains(to))
+            return false;
+
         Island toIsland = plugin.getGrid().getIslandAt(to);
         if (toIsland != null && toIsland.isInsideRange(to))
             return false;
@@ -5,6 +5,7 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.service.hologram.HologramsService;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.LazyReference;
+import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -30,7 +31,8 @@ public class IslandWorldEventsListener implements Listener {
         if (!plugin.getSettings().isDisableRedstoneOffline() && !plugin.getSettings().getAFKIntegrations().isDisableRedstone())
             return;
 
-        Island island = plugin.getGrid().getIslandAt(e.getBlock().getLocation());
+        Block block = e.getBlock();
+        Island island = plugin.getGrid().getIslandAt(block.getWorld(), block.getX(), block.getZ());
 
         if (island == null || island.isSpawn())
             return;
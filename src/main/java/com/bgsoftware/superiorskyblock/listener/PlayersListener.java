@@ -19,6 +19,7 @@ import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
+import com.bgsoftware.superiorskyblock.island.SIsland;
 import com.bgsoftware.superiorskyblock.island.SIslandChest;
 import com.bgsoftware.superiorskyblock.island.notifications.IslandNotifications;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
@@ -74,6 +75,9 @@ public class PlayersListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void onPlayerLogin(PlayerLoginEvent e) {
+        // Offline players that were not loaded yet cannot be matched.
+        plugin.getPlayers().loadOfflinePlayers(e.getPlayer().getName());
+
         List<SuperiorPlayer> duplicatedPlayers = plugin.getPlayers().matchAllPlayers(superiorPlayer ->
                 superiorPlayer.getName().equalsIgnoreCase(e.getPlayer().getName()) &&
                         !superiorPlayer.getUniqueId().equals(e.getPlayer().getUniqueId()));
@@ -128,6 +132,11 @@ public class PlayersListener implements Listener {
         if (superiorPlayer.isShownAsOnline())
             IslandNotifications.notifyPlayerJoin(superiorPlayer);
 
+        // The data of the player's island is likely to be accessed soon, so we load it in advance.
+        Island playerIsland = superiorPlayer.getIsland();
+        if (playerIsland instanceof SIsland)
+            ((SIsland) playerIsland).hydrateColdData();
+
         Mutable<Boolean> teleportToSpawn = new Mutable<>(false);
 
         Location playerLocation = e.getPlayer().getLocation();
@@ -111,7 +111,7 @@ public class BankModule extends BuiltinModule {
         this.bankWorthRate = bankWorthRate == 0 ? 0D : 1D / bankWorthRate;
         disbandRefund = Math.max(0, Math.min(100, config.getDouble("disband-refund"))) / 100D;
         bankLogs = config.getBoolean("bank-logs", true);
-        cacheAllLogs = config.getBoolean("cache-logs", true);
+        cacheAllLogs = config.getBoolean("cache-logs", false);
         bankInterestEnabled = config.getBoolean("bank-interest.enabled", true);
         bankInterestInterval = config.getInt("bank-interest.interval", 86400);
         bankInterestPercentage = config.getInt("bank-interest.percentage", 10);
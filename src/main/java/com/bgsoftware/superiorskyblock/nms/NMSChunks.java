@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.nms;
 import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.core.CalculatedChunk;
+import com.bgsoftware.superiorskyblock.core.CalculatedChunksCache;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
@@ -11,7 +12,6 @@ import org.bukkit.entity.Player;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public interface NMSChunks {
@@ -21,7 +21,7 @@ public interface NMSChunks {
     void deleteChunks(Island island, List<ChunkPosition> chunkPositions, @Nullable Runnable onFinish);
 
     CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
-                                                             Map<ChunkPosition, CalculatedChunk> unloadedChunksCache);
+                                                             CalculatedChunksCache.View unloadedChunksCache);
 
     void injectChunkSections(Chunk chunk);
 
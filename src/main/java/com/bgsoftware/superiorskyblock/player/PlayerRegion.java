@@ -0,0 +1,64 @@
+package com.bgsoftware.superiorskyblock.player;
+
+import com.bgsoftware.common.annotations.Nullable;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * The protected range of the island a player was last seen inside.
+ * Moves that start and end inside the region do not enter nor leave any island, and can be detected
+ * using integer comparisons only.
+ */
+public class PlayerRegion {
+
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+
+    private final Island island;
+    private final World world;
+    private final int islandSize;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+
+    private PlayerRegion(Island island, World world, int islandSize) {
+        BlockPosition center = island.getCenterPosition();
+        this.island = island;
+        this.world = world;
+        this.islandSize = islandSize;
+        this.minX = center.getX() - islandSize;
+        this.minZ = center.getZ() - islandSize;
+        this.maxX = center.getX() + islandSize;
+        this.maxZ = center.getZ() + islandSize;
+    }
+
+    /**
+     * Create the region of a location, if it is inside the protected range of the given island.
+     */
+    @Nullable
+    public static PlayerRegion of(@Nullable Island island, Location location) {
+        // The bounds of the region match the protected range of regular islands only.
+        if (!(island instanceof SIsland) || location.getWorld() == null || !island.isInsideRange(location))
+            return null;
+
+        return new PlayerRegion(island, location.getWorld(), island.getIslandSize());
+    }
+
+    public boolean contains(Location location) {
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        return x >= this.minX && x <= this.maxX && z >= this.minZ && z <= this.maxZ &&
+                location.getWorld() == this.world && isValid();
+    }
+
+    private boolean isValid() {
+        // The region is invalid once the size of the island changes or the island is disbanded.
+        return this.island.getIslandSize() == this.islandSize &&
+                plugin.getGrid().getIslandByUUID(this.island.getUniqueId()) == this.island;
+    }
+
+}
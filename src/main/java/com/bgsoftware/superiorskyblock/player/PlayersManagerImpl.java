@@ -12,6 +12,7 @@ import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.player.container.DefaultPlayersContainer;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
@@ -79,6 +80,15 @@ public class PlayersManagerImpl extends Manager implements PlayersManager {
         return this.playersContainer.getAllPlayers();
     }
 
+    /**
+     * Get all the players that are loaded.
+     * Players that are kept offline by the players container are not included, as they have no changes.
+     */
+    public List<SuperiorPlayer> getLoadedPlayers() {
+        return this.playersContainer instanceof DefaultPlayersContainer ?
+                ((DefaultPlayersContainer) this.playersContainer).getLoadedPlayers() : getAllPlayers();
+    }
+
     @Override
     @Deprecated
     public PlayerRole getPlayerRole(int index) {
@@ -142,10 +152,20 @@ public class PlayersManagerImpl extends Manager implements PlayersManager {
         return getSuperiorPlayer((Player) commandSender);
     }
 
+    public void loadOfflinePlayers(String name) {
+        if (this.playersContainer instanceof DefaultPlayersContainer)
+            ((DefaultPlayersContainer) this.playersContainer).loadOfflinePlayers(name);
+    }
+
+    /**
+     * Match the loaded players.
+     * Offline players that were not requested yet are not matched, and should be loaded first
+     * using {@link #loadOfflinePlayers(String)}.
+     */
     public List<SuperiorPlayer> matchAllPlayers(Predicate<? super SuperiorPlayer> predicate) {
         return new SequentialListBuilder<SuperiorPlayer>()
                 .filter(predicate)
-                .build(this.playersContainer.getAllPlayers());
+                .build(getLoadedPlayers());
     }
 
     public void replacePlayers(SuperiorPlayer originPlayer, @Nullable SuperiorPlayer newPlayer) {
@@ -179,7 +199,7 @@ public class PlayersManagerImpl extends Manager implements PlayersManager {
 
         List<SuperiorPlayer> modifiedPlayers = new SequentialListBuilder<SuperiorPlayer>()
                 .filter(PlayersDatabaseBridge::isModified)
-                .build(getAllPlayers());
+                .build(getLoadedPlayers());
 
         if (!modifiedPlayers.isEmpty())
             modifiedPlayers.forEach(PlayersDatabaseBridge::executeFutureSaves);
@@ -89,6 +89,8 @@ public class SSuperiorPlayer implements SuperiorPlayer {
     private long lastTimeStatus;
 
     private BukkitTask teleportTask = null;
+    @Nullable
+    private PlayerRegion cachedRegion = null;
     private EnumSet<PlayerStatus> playerStatuses = EnumSet.noneOf(PlayerStatus.class);
 
     public SSuperiorPlayer(SuperiorPlayerBuilderImpl builder) {
@@ -827,6 +829,15 @@ public class SSuperiorPlayer implements SuperiorPlayer {
         this.teleportTask = teleportTask;
     }
 
+    @Nullable
+    public PlayerRegion getCachedRegion() {
+        return cachedRegion;
+    }
+
+    public void setCachedRegion(@Nullable PlayerRegion cachedRegion) {
+        this.cachedRegion = cachedRegion;
+    }
+
     @Override
     public PlayerStatus getPlayerStatus() {
         for (PlayerStatus playerStatus : PlayerStatus.values()) {
@@ -39,6 +39,25 @@ public class SuperiorPlayerBuilderImpl implements SuperiorPlayer.Builder {
 
     }
 
+    public static SuperiorPlayerBuilderImpl fromPlayer(SuperiorPlayer superiorPlayer) {
+        SuperiorPlayerBuilderImpl builder = new SuperiorPlayerBuilderImpl();
+        builder.uuid = superiorPlayer.getUniqueId();
+        builder.name = superiorPlayer.getName();
+        builder.playerRole = superiorPlayer.getPlayerRole();
+        builder.disbands = superiorPlayer.getDisbands();
+        builder.locale = superiorPlayer.getUserLocale();
+        builder.textureValue = superiorPlayer.getTextureValue();
+        builder.lastTimeUpdated = superiorPlayer.getLastTimeStatus();
+        builder.toggledPanel = superiorPlayer.hasToggledPanel();
+        builder.islandFly = superiorPlayer.hasIslandFlyEnabled();
+        builder.borderColor = superiorPlayer.getBorderColor();
+        builder.worldBorderEnabled = superiorPlayer.hasWorldBorderEnabled();
+        superiorPlayer.getCompletedMissionsWithAmounts().forEach(builder::setCompletedMission);
+        if (!superiorPlayer.isPersistentDataContainerEmpty())
+            builder.persistentData = superiorPlayer.getPersistentDataContainer().serialize();
+        return builder;
+    }
+
     @Override
     public SuperiorPlayer.Builder setUniqueId(UUID uuid) {
         Preconditions.checkNotNull(uuid, "uuid parameter cannot be null.");
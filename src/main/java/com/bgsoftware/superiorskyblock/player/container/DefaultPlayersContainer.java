@@ -4,29 +4,68 @@ import com.bgsoftware.common.annotations.Nullable;
 import com.bgsoftware.superiorskyblock.api.player.container.PlayersContainer;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
+import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.player.builder.SuperiorPlayerBuilderImpl;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Players are stored in two tiers:
+ * - Loaded players, which are fully created {@link SuperiorPlayer} objects.
+ * - Offline players, which are kept only as their builder until they are requested for the first time.
+ * Offline players that were loaded are tracked by their last access time, and the least recently used ones
+ * that are offline, have no island and have no pending saves are stored back as builders once there are
+ * more than the configured amount of them.
+ * Unloaded players are still referenced weakly, so the same object is returned as long as it is used.
+ * Offline players are indexed by their lower-case names, so they can be found without scanning all of them.
+ */
 public class DefaultPlayersContainer implements PlayersContainer {
 
+    private static final long EVICTION_INTERVAL = 1200L;
+
     private final Map<UUID, SuperiorPlayer> players = new ConcurrentHashMap<>();
-    private final Map<String, SuperiorPlayer> playersByNames = new ConcurrentHashMap<>();
+    private final Map<String, UUID> playersByNames = new ConcurrentHashMap<>();
+    private final Map<UUID, SuperiorPlayerBuilderImpl> offlinePlayers = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> offlinePlayersByNames = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> loadedOfflinePlayers = new ConcurrentHashMap<>();
+    private final Map<UUID, WeakReference<SuperiorPlayer>> unloadedPlayers = new ConcurrentHashMap<>();
+    private final Object offlinePlayersLock = new Object();
+
+    private int loadedOfflinePlayersLimit = -1;
 
     @Nullable
     @Override
     public SuperiorPlayer getSuperiorPlayer(String name) {
-        SuperiorPlayer superiorPlayer = this.playersByNames.get(name.toLowerCase(Locale.ENGLISH));
+        String lowerName = name.toLowerCase(Locale.ENGLISH);
+        UUID playerUUID = this.playersByNames.get(lowerName);
+        SuperiorPlayer superiorPlayer = playerUUID == null ? null : getSuperiorPlayer(playerUUID);
 
         if (superiorPlayer == null) {
             superiorPlayer = players.values().stream()
                     .filter(player -> player.getName().equalsIgnoreCase(name))
                     .findFirst().orElse(null);
+
+            if (superiorPlayer == null) {
+                Set<UUID> offlinePlayersUUIDs = this.offlinePlayersByNames.get(lowerName);
+                if (offlinePlayersUUIDs != null) {
+                    for (UUID offlinePlayerUUID : offlinePlayersUUIDs) {
+                        superiorPlayer = getSuperiorPlayer(offlinePlayerUUID);
+                        if (superiorPlayer != null)
+                            break;
+                    }
+                }
+            }
+
             if (superiorPlayer != null)
-                this.playersByNames.put(name.toLowerCase(Locale.ENGLISH), superiorPlayer);
+                this.playersByNames.put(lowerName, superiorPlayer.getUniqueId());
         }
 
         return superiorPlayer;
@@ -35,26 +74,167 @@ public class DefaultPlayersContainer implements PlayersContainer {
     @Nullable
     @Override
     public SuperiorPlayer getSuperiorPlayer(UUID uuid) {
-        return this.players.get(uuid);
+        SuperiorPlayer superiorPlayer = this.players.get(uuid);
+
+        if (superiorPlayer != null) {
+            if (!this.loadedOfflinePlayers.isEmpty())
+                this.loadedOfflinePlayers.computeIfPresent(uuid, (u, lastAccessTime) -> System.currentTimeMillis());
+            return superiorPlayer;
+        }
+
+        return this.offlinePlayers.containsKey(uuid) ? loadOfflinePlayer(uuid) : null;
     }
 
+    /**
+     * Get all the players.
+     * Offline players that were not requested yet are loaded, therefore this method should be avoided
+     * when only the loaded players are needed.
+     */
     @Override
     public List<SuperiorPlayer> getAllPlayers() {
+        if (!this.offlinePlayers.isEmpty())
+            new ArrayList<>(this.offlinePlayers.keySet()).forEach(this::loadOfflinePlayer);
+
+        return new SequentialListBuilder<SuperiorPlayer>().build(this.players.values());
+    }
+
+    /**
+     * Get all the loaded players, without loading offline players that were not requested yet.
+     */
+    public List<SuperiorPlayer> getLoadedPlayers() {
         return new SequentialListBuilder<SuperiorPlayer>().build(this.players.values());
     }
 
     @Override
     public void addPlayer(SuperiorPlayer superiorPlayer) {
-        this.players.put(superiorPlayer.getUniqueId(), superiorPlayer);
+        UUID playerUUID = superiorPlayer.getUniqueId();
+        this.players.put(playerUUID, superiorPlayer);
+        unindexOfflinePlayer(this.offlinePlayers.remove(playerUUID));
+        this.unloadedPlayers.remove(playerUUID);
         String playerName = superiorPlayer.getName();
         if (!playerName.equals("null"))
-            this.playersByNames.put(playerName.toLowerCase(Locale.ENGLISH), superiorPlayer);
+            this.playersByNames.put(playerName.toLowerCase(Locale.ENGLISH), playerUUID);
     }
 
     @Override
     public void removePlayer(SuperiorPlayer superiorPlayer) {
-        this.players.remove(superiorPlayer.getUniqueId());
+        UUID playerUUID = superiorPlayer.getUniqueId();
+        this.players.remove(playerUUID);
+        unindexOfflinePlayer(this.offlinePlayers.remove(playerUUID));
+        this.loadedOfflinePlayers.remove(playerUUID);
+        this.unloadedPlayers.remove(playerUUID);
         this.playersByNames.remove(superiorPlayer.getName().toLowerCase(Locale.ENGLISH));
     }
 
+    public void addOfflinePlayer(SuperiorPlayerBuilderImpl builder) {
+        unindexOfflinePlayer(this.offlinePlayers.put(builder.uuid, builder));
+        indexOfflinePlayer(builder);
+        if (!builder.name.equals("null"))
+            this.playersByNames.put(builder.name.toLowerCase(Locale.ENGLISH), builder.uuid);
+    }
+
+    public void loadOfflinePlayers(String name) {
+        Set<UUID> playersToLoad = this.offlinePlayersByNames.get(name.toLowerCase(Locale.ENGLISH));
+        if (playersToLoad != null)
+            new ArrayList<>(playersToLoad).forEach(this::getSuperiorPlayer);
+    }
+
+    public void startOfflinePlayersEviction(int loadedOfflinePlayersLimit) {
+        this.loadedOfflinePlayersLimit = Math.max(0, loadedOfflinePlayersLimit);
+        BukkitExecutor.timer(this::evictOfflinePlayers, EVICTION_INTERVAL);
+    }
+
+    @Nullable
+    private SuperiorPlayer loadOfflinePlayer(UUID uuid) {
+        synchronized (this.offlinePlayersLock) {
+            SuperiorPlayer superiorPlayer = this.players.get(uuid);
+            if (superiorPlayer != null)
+                return superiorPlayer;
+
+            SuperiorPlayerBuilderImpl offlinePlayer = this.offlinePlayers.get(uuid);
+            if (offlinePlayer == null)
+                return null;
+
+            // Players that are still referenced must not be created again.
+            WeakReference<SuperiorPlayer> unloadedPlayer = this.unloadedPlayers.remove(uuid);
+            superiorPlayer = unloadedPlayer == null ? null : unloadedPlayer.get();
+            if (superiorPlayer == null)
+                superiorPlayer = offlinePlayer.build();
+
+            this.players.put(uuid, superiorPlayer);
+            unindexOfflinePlayer(this.offlinePlayers.remove(uuid));
+
+            if (this.loadedOfflinePlayersLimit >= 0)
+                this.loadedOfflinePlayers.put(uuid, System.currentTimeMillis());
+
+            return superiorPlayer;
+        }
+    }
+
+    private void evictOfflinePlayers() {
+        this.unloadedPlayers.values().removeIf(unloadedPlayer -> unloadedPlayer.get() == null);
+
+        int playersToEvict = this.loadedOfflinePlayers.size() - this.loadedOfflinePlayersLimit;
+        if (playersToEvict <= 0)
+            return;
+
+        List<Map.Entry<UUID, Long>> evictionCandidates = new ArrayList<>(this.loadedOfflinePlayers.entrySet());
+        evictionCandidates.sort(Map.Entry.comparingByValue());
+
+        for (Map.Entry<UUID, Long> evictionCandidate : evictionCandidates) {
+            if (playersToEvict <= 0)
+                break;
+
+            UUID playerUUID = evictionCandidate.getKey();
+            SuperiorPlayer superiorPlayer = this.players.get(playerUUID);
+
+            if (superiorPlayer == null) {
+                this.loadedOfflinePlayers.remove(playerUUID);
+                continue;
+            }
+
+            // Online players and island members are kept loaded for as long as the server runs.
+            if (superiorPlayer.isOnline() || superiorPlayer.getIsland() != null) {
+                this.loadedOfflinePlayers.remove(playerUUID);
+                --playersToEvict;
+                continue;
+            }
+
+            // Players with pending saves will be evicted after they are saved.
+            if (PlayersDatabaseBridge.isModified(superiorPlayer))
+                continue;
+
+            synchronized (this.offlinePlayersLock) {
+                this.loadedOfflinePlayers.remove(playerUUID);
+                if (this.players.remove(playerUUID, superiorPlayer)) {
+                    SuperiorPlayerBuilderImpl offlinePlayer = SuperiorPlayerBuilderImpl.fromPlayer(superiorPlayer);
+                    unindexOfflinePlayer(this.offlinePlayers.put(playerUUID, offlinePlayer));
+                    indexOfflinePlayer(offlinePlayer);
+                    this.unloadedPlayers.put(playerUUID, new WeakReference<>(superiorPlayer));
+                }
+            }
+
+            --playersToEvict;
+        }
+    }
+
+    private void indexOfflinePlayer(SuperiorPlayerBuilderImpl offlinePlayer) {
+        this.offlinePlayersByNames.compute(offlinePlayer.name.toLowerCase(Locale.ENGLISH), (name, playersUUIDs) -> {
+            if (playersUUIDs == null)
+                playersUUIDs = ConcurrentHashMap.newKeySet();
+            playersUUIDs.add(offlinePlayer.uuid);
+            return playersUUIDs;
+        });
+    }
+
+    private void unindexOfflinePlayer(@Nullable SuperiorPlayerBuilderImpl offlinePlayer) {
+        if (offlinePlayer == null)
+            return;
+
+        this.offlinePlayersByNames.computeIfPresent(offlinePlayer.name.toLowerCase(Locale.ENGLISH), (name, playersUUIDs) -> {
+            playersUUIDs.remove(offlinePlayer.uuid);
+            return playersUUIDs.isEmpty() ? null : playersUUIDs;
+        });
+    }
+
 }
@@ -23,6 +23,8 @@ import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.flag.IslandFlags;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
+import com.bgsoftware.superiorskyblock.player.PlayerRegion;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
 import com.bgsoftware.superiorskyblock.service.IService;
 import com.bgsoftware.superiorskyblock.world.BukkitEntities;
 import com.bgsoftware.superiorskyblock.world.BukkitItems;
@@ -390,18 +392,28 @@ public class RegionManagerServiceImpl implements RegionManagerService, IService
                 return MoveResult.ISLAND_PREVIEW_MOVED_TOO_FAR;
             }
 
-            MoveResult moveResult;
+            PlayerRegion cachedRegion = superiorPlayer instanceof SSuperiorPlayer ?
+                    ((SSuperiorPlayer) superiorPlayer).getCachedRegion() : null;
 
-            Island toIsland = plugin.getGrid().getIslandAt(to);
-            if (toIsland != null) {
-                moveResult = handlePlayerEnterIslandInternal(superiorPlayer, toIsland, from, to, IslandEnterEvent.EnterCause.PLAYER_MOVE);
-                if (moveResult != MoveResult.SUCCESS) return moveResult;
-            }
+            // Moves inside the protected range of the same island do not enter nor leave any island.
+            if (cachedRegion == null || superiorPlayer.hasPlayerStatus(PlayerStatus.LEAVING_ISLAND) ||
+                    !cachedRegion.contains(from) || !cachedRegion.contains(to)) {
+                MoveResult moveResult;
+
+                Island toIsland = plugin.getGrid().getIslandAt(to);
+                if (toIsland != null) {
+                    moveResult = handlePlayerEnterIslandInternal(superiorPlayer, toIsland, from, to, IslandEnterEvent.EnterCause.PLAYER_MOVE);
+                    if (moveResult != MoveResult.SUCCESS) return moveResult;
+                }
 
-            Island fromIsland = plugin.getGrid().getIslandAt(from);
-            if (fromIsland != null) {
-                moveResult = handlePlayerLeaveIslandInternal(superiorPlayer, fromIsland, from, to, IslandLeaveEvent.LeaveCause.PLAYER_MOVE);
-                if (moveResult != MoveResult.SUCCESS) return moveResult;
+                Island fromIsland = plugin.getGrid().getIslandAt(from);
+                if (fromIsland != null) {
+                    moveResult = handlePlayerLeaveIslandInternal(superiorPlayer, fromIsland, from, to, IslandLeaveEvent.LeaveCause.PLAYER_MOVE);
+                    if (moveResult != MoveResult.SUCCESS) return moveResult;
+                }
+
+                if (superiorPlayer instanceof SSuperiorPlayer)
+                    ((SSuperiorPlayer) superiorPlayer).setCachedRegion(PlayerRegion.of(toIsland, to));
             }
         }
 
@@ -492,6 +504,9 @@ public class RegionManagerServiceImpl implements RegionManagerService, IService
     public MoveResult handlePlayerQuit(SuperiorPlayer superiorPlayer, Location location) {
         Preconditions.checkNotNull(superiorPlayer, "superiorPlayer cannot be null");
 
+        if (superiorPlayer instanceof SSuperiorPlayer)
+            ((SSuperiorPlayer) superiorPlayer).setCachedRegion(null);
+
         Island island = plugin.getGrid().getIslandAt(location);
         if (island == null) return MoveResult.SUCCESS;
 
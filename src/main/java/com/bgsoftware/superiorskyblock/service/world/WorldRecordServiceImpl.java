@@ -14,6 +14,7 @@ import com.bgsoftware.superiorskyblock.core.key.ConstantKeys;
 import com.bgsoftware.superiorskyblock.core.key.Keys;
 import com.bgsoftware.superiorskyblock.core.key.types.SpawnerKey;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.island.SIsland;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeEntityLimits;
 import com.bgsoftware.superiorskyblock.service.IService;
@@ -92,6 +93,7 @@ public class WorldRecordServiceImpl implements WorldRecordService, IService {
         int blockPlaceFlags = IslandBlockFlags.UPDATE_LAST_TIME_STATUS |
                 (saveBlockCounts ? IslandBlockFlags.SAVE_BLOCK_COUNTS : 0);
         island.handleBlocksPlace(blockCounts, blockPlaceFlags);
+        markChunkModified(island, location);
 
         if (dirtyChunks) {
             island.markChunkDirty(location.getWorld(), location.getBlockX() >> 4,
@@ -132,6 +134,8 @@ public class WorldRecordServiceImpl implements WorldRecordService, IService {
             island.handleBlockPlace(blockKey, blockCount, blockPlaceFlags);
         }
 
+        markChunkModified(island, blockLocation);
+
         if (dirtyChunks) {
             island.markChunkDirty(blockLocation.getWorld(), blockLocation.getBlockX() >> 4,
                     blockLocation.getBlockZ() >> 4, true);
@@ -186,6 +190,7 @@ public class WorldRecordServiceImpl implements WorldRecordService, IService {
                 (saveBlockCounts ? IslandBlockFlags.SAVE_BLOCK_COUNTS : 0);
 
         island.handleBlocksBreak(blockCounts, blockBreakFlags);
+        markChunkModified(island, location);
 
         if (dirtyChunks && plugin.getNMSChunks().isChunkEmpty(location.getChunk())) {
             island.markChunkEmpty(location.getWorld(), location.getBlockX() >> 4,
@@ -207,6 +212,8 @@ public class WorldRecordServiceImpl implements WorldRecordService, IService {
         if (plugin.getProviders().shouldListenToSpawnerChanges() || !(blockKey instanceof SpawnerKey))
             island.handleBlockBreak(blockKey, blockCount, handleBlockBreakFlag);
 
+        markChunkModified(island, blockLocation);
+
         if (handleNearbyBlocks || dirtyChunks) {
             EnumMap<BlockFace, Key> nearbyBlocks = new EnumMap<>(BlockFace.class);
             Block block = blockLocation.getBlock();
@@ -242,6 +249,13 @@ public class WorldRecordServiceImpl implements WorldRecordService, IService {
         }
     }
 
+    private void markChunkModified(Island island, Location location) {
+        if (island instanceof SIsland && plugin.getSettings().isRecalcIncremental()) {
+            ((SIsland) island).markChunkModified(location.getWorld(), location.getBlockX() >> 4,
+                    location.getBlockZ() >> 4);
+        }
+    }
+
     @Override
     public RecordResult recordEntitySpawn(Entity entity) {
         Preconditions.checkNotNull(entity, "entity parameter cannot be null");
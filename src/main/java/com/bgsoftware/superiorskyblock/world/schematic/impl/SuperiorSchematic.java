@@ -16,6 +16,7 @@ import com.bgsoftware.superiorskyblock.core.profiler.ProfileType;
 import com.bgsoftware.superiorskyblock.core.profiler.Profiler;
 import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.island.SIsland;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeCropGrowth;
 import com.bgsoftware.superiorskyblock.nms.world.WorldEditSession;
@@ -159,6 +160,8 @@ public class SuperiorSchematic extends BaseSchematic implements Schematic {
                     }
 
                     island.markChunkDirty(chunk.getWorld(), chunk.getX(), chunk.getZ(), true);
+                    if (island instanceof SIsland)
+                        ((SIsland) island).markChunkModified(chunk.getWorld(), chunk.getX(), chunk.getZ());
 
                     Log.debugResult(Debug.PASTE_SCHEMATIC, "Loaded Chunk", chunkPosition);
                 } catch (Throwable error) {